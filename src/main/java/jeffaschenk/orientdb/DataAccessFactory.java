@@ -4,8 +4,14 @@ import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.tinkerpop.blueprints.impls.orient.OrientGraph;
 import com.tinkerpop.blueprints.impls.orient.OrientGraphNoTx;
+import jeffaschenk.orientdb.metrics.DatabaseMetrics;
+import jeffaschenk.orientdb.query.FetchPlan;
+import jeffaschenk.orientdb.query.IndexAdvisor;
+import jeffaschenk.orientdb.query.IndexAdvisorReport;
+import jeffaschenk.orientdb.schema.SchemaBootstrapReadiness;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * DataAccessFactory
@@ -35,4 +41,74 @@ public interface DataAccessFactory {
      */
     List<ODocument> runQuery(String query, ODatabaseDocumentTx db);
 
+    /**
+     * Helper to execute a query as a database reader, using the fetch plan of an entity class.
+     * Linked records fetched by the plan are attached to the results before the connection is returned,
+     * so reading them costs no further round trip
+     * @param query The query to execute, a FETCHPLAN clause of its own takes precedence
+     * @param entityClass The entity class whose fetch plan is used
+     * @return The results
+     */
+    List<ODocument> runQuery(String query, Class<?> entityClass);
+
+    /**
+     * The fetch plan compiled from the fetch depths declared upon the associations of an entity class
+     * and of its superclasses
+     * @param entityClass The entity class
+     * @return The fetch plan, empty if no association declares a fetch depth
+     */
+    FetchPlan getFetchPlan(Class<?> entityClass);
+
+    /**
+     * Helper to stream the results of a query as a database reader, using the configured batch size
+     * @param query The query to execute
+     * @return The results, which must be closed if not fully consumed
+     */
+    Stream<ODocument> streamQuery(String query);
+
+    /**
+     * Helper to stream the results of a query as a database reader.
+     * The query runs on its own connection, at most batchSize documents are held
+     * in memory at once, and the connection is closed when the stream is consumed or closed.
+     * @param query The query to execute
+     * @param batchSize The number of documents buffered ahead of the consumer
+     * @return The results, which must be closed if not fully consumed
+     */
+    Stream<ODocument> streamQuery(String query, int batchSize);
+
+    /**
+     * Metrics of the connection pools and queries, keyed by connection type
+     * @return The metrics, a DefaultDatabaseMetrics unless a DatabaseMetrics bean is defined
+     */
+    DatabaseMetrics getMetrics();
+
+    /**
+     * Index advisor recording the shape and latency of each query run through runQuery
+     * @return The advisor, null unless query.advisor.enabled is set
+     */
+    IndexAdvisor getIndexAdvisor();
+
+    /**
+     * Helper to report the missing, unused and redundant indexes of the domain model for the queries observed
+     * @return The report, null unless query.advisor.enabled is set
+     */
+    IndexAdvisorReport getIndexAdvice();
+
+    /**
+     * Readiness of the schema bootstrap, with a future per phase.
+     * When schema.bootstrap.async is set the bootstrap runs in the background, and callers
+     * should wait upon whenReadReady() before reading and whenReady() before writing
+     * @return The readiness, already ready once a synchronous bootstrap has returned
+     */
+    SchemaBootstrapReadiness getSchemaReadiness();
+
+    /**
+     * Change the size of a connection pool while it is in use.
+     * Leased connections are not closed when shrinking, new leases wait until enough are returned.
+     * @param poolName The pool, one of graph.writer, graph.reader, document.reader or document.root
+     * @param minSize The number of connections kept open
+     * @param maxSize The maximum number of connections
+     */
+    void resizePool(String poolName, int minSize, int maxSize);
+
 }
@@ -7,9 +7,23 @@ import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.sql.query.OSQLSynchQuery;
 import com.tinkerpop.blueprints.impls.orient.OrientGraph;
-import com.tinkerpop.blueprints.impls.orient.OrientGraphFactory;
 import com.tinkerpop.blueprints.impls.orient.OrientGraphNoTx;
+import jeffaschenk.orientdb.metrics.ConnectionType;
+import jeffaschenk.orientdb.metrics.DatabaseMetrics;
+import jeffaschenk.orientdb.metrics.DefaultDatabaseMetrics;
+import jeffaschenk.orientdb.pool.DatabasePool;
+import jeffaschenk.orientdb.pool.DocumentDatabasePool;
+import jeffaschenk.orientdb.pool.PoolSettings;
+import jeffaschenk.orientdb.pool.ReplicaDatabasePool;
+import jeffaschenk.orientdb.query.FetchPlan;
+import jeffaschenk.orientdb.query.IndexAdvisor;
+import jeffaschenk.orientdb.query.IndexAdvisorReport;
+import jeffaschenk.orientdb.query.StreamingQuery;
+import jeffaschenk.orientdb.schema.SchemaBootstrapReadiness;
+import jeffaschenk.orientdb.schema.SchemaBootstrapReport;
+import jeffaschenk.orientdb.schema.SchemaBootstrapReport.Phase;
 import jeffaschenk.orientdb.schema.SchemaEnforcer;
+import jeffaschenk.orientdb.schema.SchemaEntity;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationListener;
@@ -20,8 +34,22 @@ import org.springframework.stereotype.Service;
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 /**
  * OrientDataAccessFactory
@@ -54,6 +82,52 @@ public class OrientDataAccessFactory implements DataAccessFactory,
     protected static final String DB_ADMIN_PROPERTY_NAME = "serverAdmin";
     protected static final String DB_ADMIN_PASSWORD_PROPERTY_NAME = "adminPassword";
 
+    protected static final String DB_READER_URLS_PROPERTY_NAME = "db.reader.urls";
+    protected static final String DB_READER_HEALTH_CHECK_PROPERTY_NAME = "db.reader.health.check.ms";
+
+    protected static final long DEFAULT_DB_READER_HEALTH_CHECK_MS = 5000L;
+
+    protected static final String SCHEMA_BOOTSTRAP_REPORT_FILE_PROPERTY_NAME = "schema.bootstrap.report.file";
+    protected static final String SCHEMA_BOOTSTRAP_ASYNC_PROPERTY_NAME = "schema.bootstrap.async";
+
+    protected static final String QUERY_SLOW_THRESHOLD_PROPERTY_NAME = "query.slow.threshold.ms";
+    protected static final String METRICS_LOG_INTERVAL_PROPERTY_NAME = "metrics.log.interval.ms";
+
+    protected static final long DEFAULT_QUERY_SLOW_THRESHOLD_MS = 1000L;
+    protected static final long DEFAULT_METRICS_LOG_INTERVAL_MS = 0L;
+
+    protected static final String QUERY_STREAM_BATCH_SIZE_PROPERTY_NAME = "query.stream.batch.size";
+
+    protected static final String QUERY_ADVISOR_ENABLED_PROPERTY_NAME = "query.advisor.enabled";
+    protected static final String QUERY_ADVISOR_MAX_SHAPES_PROPERTY_NAME = "query.advisor.max.shapes";
+
+    /**
+     * Pool Property Constants, each may be Overridden per Pool by inserting the Pool Name,
+     * for example "db.pool.graph.reader.max".
+     */
+    protected static final String DB_POOL_PROPERTY_PREFIX = "db.pool.";
+    protected static final String DB_POOL_MIN_PROPERTY_SUFFIX = "min";
+    protected static final String DB_POOL_MAX_PROPERTY_SUFFIX = "max";
+    protected static final String DB_POOL_WARMUP_PROPERTY_SUFFIX = "warmup";
+    protected static final String DB_POOL_ACQUIRE_TIMEOUT_PROPERTY_SUFFIX = "acquire.timeout.ms";
+    protected static final String DB_POOL_IDLE_TIMEOUT_PROPERTY_SUFFIX = "idle.timeout.ms";
+    protected static final String DB_POOL_LEAK_DETECTION_PROPERTY_SUFFIX = "leak.detection.ms";
+
+    protected static final int DEFAULT_DB_POOL_MIN = 1;
+    protected static final int DEFAULT_DB_POOL_MAX =
+            Math.min(64, Math.max(8, Runtime.getRuntime().availableProcessors() * 4));
+    protected static final long DEFAULT_DB_POOL_ACQUIRE_TIMEOUT_MS = 30000L;
+    protected static final long DEFAULT_DB_POOL_IDLE_TIMEOUT_MS = 300000L;
+    protected static final long DEFAULT_DB_POOL_LEAK_DETECTION_MS = 60000L;
+
+    /**
+     * Pool Names
+     */
+    public static final String GRAPH_WRITER_POOL_NAME = "graph.writer";
+    public static final String GRAPH_READER_POOL_NAME = "graph.reader";
+    public static final String DOCUMENT_READER_POOL_NAME = "document.reader";
+    public static final String DOCUMENT_ROOT_POOL_NAME = "document.root";
+
 
     /**
      * Runtime Environment Properties
@@ -62,14 +136,80 @@ public class OrientDataAccessFactory implements DataAccessFactory,
     private Environment environment;
 
     /**
-     * Writer OrientDB Graph Factory.
+     * Writer OrientDB Graph Pool.
+     */
+    protected static DatabasePool writerGraphPool;
+
+    /**
+     * Reader OrientDB Graph Pool, across the Reader URLs when configured.
+     */
+    protected static DatabasePool readerGraphPool;
+
+    /**
+     * Reader Document Database Pool, across the Reader URLs when configured.
+     */
+    protected static DatabasePool readerPool;
+
+    /**
+     * Root Document Database Pool.
+     */
+    protected static DatabasePool rootPool;
+
+    /**
+     * All Pools by Name.
+     */
+    private final Map<String, DatabasePool> databasePools = new LinkedHashMap<>();
+
+    /**
+     * Pools by the Connection Type they Serve.
+     */
+    private final Map<ConnectionType, DatabasePool> connectionTypePools = new EnumMap<>(ConnectionType.class);
+
+    /**
+     * Metrics, a DatabaseMetrics Bean when defined, otherwise the Default Metrics.
+     */
+    @Autowired(required = false)
+    private DatabaseMetrics databaseMetrics;
+
+    /**
+     * Queries Executing longer are Logged, with their SQL Text.
+     */
+    private long slowQueryThresholdMs = DEFAULT_QUERY_SLOW_THRESHOLD_MS;
+
+    /**
+     * Index Advisor, Recording the Query Workload when Enabled.
      */
-    protected static OrientGraphFactory writerFactory;
+    private IndexAdvisor indexAdvisor;
 
     /**
-     * Reader OrientDB Graph Factory.
+     * Fetch Plans, Compiled upon first use of an Entity Class.
      */
-    protected static OrientGraphFactory readerFactory;
+    private final ConcurrentMap<Class<?>, FetchPlan> fetchPlans = new ConcurrentHashMap<>();
+
+    /**
+     * Queries with a Fetch Plan of their own.
+     */
+    private static final Pattern FETCHPLAN_CLAUSE = Pattern.compile("\\bFETCHPLAN\\b", Pattern.CASE_INSENSITIVE);
+
+    /**
+     * Periodic Metrics Logging.
+     */
+    private ScheduledExecutorService metricsLogger;
+
+    /**
+     * Streaming Query Workers.
+     */
+    private ExecutorService queryStreamExecutor;
+
+    /**
+     * Schema Bootstrap Worker, when the Bootstrap is Asynchronous.
+     */
+    private ExecutorService bootstrapExecutor;
+
+    /**
+     * Readiness of the Schema Bootstrap.
+     */
+    private final SchemaBootstrapReadiness bootstrapReadiness = new SchemaBootstrapReadiness();
 
     /**
      * Schema Enforcer
@@ -98,50 +238,49 @@ public class OrientDataAccessFactory implements DataAccessFactory,
         checkDbConnection();
 
         /**
-         * Setup Factory Pool.
+         * Setup Writer Pools, always upon the Primary.
          */
-        writerFactory = new OrientGraphFactory(environment.getProperty(DB_URL_PROPERTY_NAME),
-                environment.getProperty(DB_ADMIN_PROPERTY_NAME),
-                environment.getProperty(DB_ADMIN_PASSWORD_PROPERTY_NAME)).setupPool(1, 64);
-
+        writerGraphPool = createDocumentDatabasePool(GRAPH_WRITER_POOL_NAME);
+        rootPool = createDocumentDatabasePool(DOCUMENT_ROOT_POOL_NAME);
         /**
-         * Setup Factory Pool.
+         * Setup Reader Pools, across the Reader URLs if any, Failing Over to the Primary.
          */
-        readerFactory = new OrientGraphFactory(environment.getProperty(DB_URL_PROPERTY_NAME),
-                environment.getProperty(DB_ADMIN_PROPERTY_NAME),
-                environment.getProperty(DB_ADMIN_PASSWORD_PROPERTY_NAME)).setupPool(1, 64);
+        readerGraphPool = createReaderDatabasePool(GRAPH_READER_POOL_NAME, writerGraphPool);
+        readerPool = createReaderDatabasePool(DOCUMENT_READER_POOL_NAME, rootPool);
         /**
-         * Now Validate Schemata
-         *
-         * Phase One, Parse the Existing Default Domain Model from Java Code.
+         * Setup Metrics of our Pools and Queries.
          */
-        schemaEnforcer.scanSchema();
+        initializeMetrics();
         /**
-         * Phase Two, Now have Schema Checker Validate our existing Schemata and
-         * apply any necessary updates if necessary.
+         * Setup Streaming Query Workers.
          */
-        try (ODatabaseDocumentTx db = getRoot()) {
-            schemaEnforcer.validateSchema(db);
-        }
+        AtomicInteger queryStreamThreadNumber = new AtomicInteger();
+        queryStreamExecutor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "odb-query-stream-" + queryStreamThreadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
         /**
-         * Phase Three, Now have Schema Checker Validate our existing Indexes and
-         * apply any necessary updates if necessary.
+         * Now Validate Schemata, in the Background when Asynchronous, with Read Paths
+         * signalled Ready once the Schema has been Verified.
          */
-        try (ODatabaseDocumentTx db = getRoot()) {
-            schemaEnforcer.validateIndexes(db);
-            /**
-             * If we just created a new database, rebuilding our indexes...
-             */
-            if (NEW_DATABASE_CREATED) {
-                schemaEnforcer.reBuildIndexes(db);
-            }
-        }
-        /**
-         * Phase Four, Now have Schema Checker perform any Applicable Data Migrations.
-         * apply any necessary updates if necessary.
-         */
-        try (ODatabaseDocumentTx db = getRoot()) {
-            schemaEnforcer.performDataMigrations(db, new ArrayList<>(0));
+        schemaEnforcer.setConnectionSupplier(this::getRoot);
+        if (environment.getProperty(SCHEMA_BOOTSTRAP_ASYNC_PROPERTY_NAME, Boolean.class, false)) {
+            bootstrapExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "odb-schema-bootstrap");
+                thread.setDaemon(true);
+                return thread;
+            });
+            bootstrapExecutor.execute(() -> {
+                try {
+                    bootstrapSchema();
+                } catch (RuntimeException e) {
+                    LOGGER.error("Asynchronous Schema Bootstrap Failed: {}", e.getMessage(), e);
+                }
+            });
+            LOGGER.info("Schema Bootstrap is Running Asynchronously.");
+        } else {
+            bootstrapSchema();
         }
 
         /**
@@ -161,20 +300,36 @@ public class OrientDataAccessFactory implements DataAccessFactory,
     public void destroyBean() {
         LOGGER.info("ODB DataAccess Factory Implementation has been removed from the runtime Environment.");
         /**
-         * Close our Factory Pools.
+         * Close our Pools.
          */
-        writerFactory.close();
-        readerFactory.close();
+        if (bootstrapExecutor != null) {
+            bootstrapExecutor.shutdownNow();
+        }
+        if (queryStreamExecutor != null) {
+            queryStreamExecutor.shutdownNow();
+        }
+        if (metricsLogger != null) {
+            metricsLogger.shutdownNow();
+        }
+        if (databaseMetrics != null) {
+            LOGGER.info("{}", databaseMetrics);
+        }
+        if (indexAdvisor != null) {
+            LOGGER.info("{}", getIndexAdvice());
+        }
+        for (DatabasePool pool : databasePools.values()) {
+            pool.close();
+        }
     }
 
     @Override
     public OrientGraph getTx() {
-        return writerFactory.getTx();
+        return acquire(ConnectionType.TX, writerGraphPool::getTx);
     }
 
     @Override
     public OrientGraphNoTx getNoTx() {
-        return readerFactory.getNoTx();
+        return acquire(ConnectionType.NO_TX, readerGraphPool::getNoTx);
     }
 
     @Override
@@ -182,9 +337,7 @@ public class OrientDataAccessFactory implements DataAccessFactory,
         if (STACK_RUNNING_INGESTER) {
             return null;
         } else {
-            return new ODatabaseDocumentTx(environment.getProperty(DB_URL_PROPERTY_NAME)).
-                    open(environment.getProperty(DB_ADMIN_PROPERTY_NAME),
-                            environment.getProperty(DB_ADMIN_PASSWORD_PROPERTY_NAME));
+            return acquire(ConnectionType.ROOT, rootPool::acquire);
         }
     }
 
@@ -193,22 +346,462 @@ public class OrientDataAccessFactory implements DataAccessFactory,
         if (STACK_RUNNING_INGESTER) {
             return null;
         } else {
-            return new ODatabaseDocumentTx(environment.getProperty(DB_URL_PROPERTY_NAME)).
-                    open(environment.getProperty(DB_ADMIN_PROPERTY_NAME),
-                            environment.getProperty(DB_ADMIN_PASSWORD_PROPERTY_NAME));
+            return acquire(ConnectionType.READER, readerPool::acquire);
         }
     }
 
 
     @Override
     public List<ODocument> runQuery(String queryString) {
-        return runQuery(queryString, getReader());
+        try (ODatabaseDocumentTx db = getReader()) {
+            List<ODocument> results = runQuery(queryString, db);
+            /**
+             * Deserialize while the Connection is still Open, as it is returned to the Pool.
+             */
+            for (ODocument document : results) {
+                document.deserializeFields();
+            }
+            return results;
+        }
     }
 
     @Override
     public List<ODocument> runQuery(String queryString, ODatabaseDocumentTx db) {
+        return runQuery(queryString, null, db);
+    }
+
+    @Override
+    public List<ODocument> runQuery(String queryString, Class<?> entityClass) {
+        FetchPlan fetchPlan = getFetchPlan(entityClass);
+        if (fetchPlan.isEmpty() || FETCHPLAN_CLAUSE.matcher(queryString).find()) {
+            return runQuery(queryString);
+        }
+        try (ODatabaseDocumentTx db = getReader()) {
+            List<ODocument> results = runQuery(queryString, fetchPlan.toPlanString(), db);
+            /**
+             * Attach and Deserialize the Fetched Records from the Local Cache of the Connection,
+             * before it is returned to the Pool.
+             */
+            for (ODocument document : results) {
+                fetchPlan.attach(document);
+            }
+            return results;
+        }
+    }
+
+    @Override
+    public FetchPlan getFetchPlan(Class<?> entityClass) {
+        Collection<SchemaEntity> definitions = getScannedDefinitions();
+        return fetchPlans.computeIfAbsent(entityClass, key -> {
+            for (SchemaEntity schemaEntity : definitions) {
+                if (schemaEntity.getEntityClass() == key) {
+                    FetchPlan fetchPlan = FetchPlan.compile(schemaEntity, definitions);
+                    LOGGER.info("Compiled {}", fetchPlan);
+                    return fetchPlan;
+                }
+            }
+            throw new IllegalArgumentException("Class: " + key.getName() + " is not a Scanned Entity.");
+        });
+    }
+
+    /**
+     * runQuery
+     * Execute a Query upon a Connection, with a Fetch Plan.
+     *
+     * @param queryString Query
+     * @param fetchPlan   OrientDB Fetch Plan, or null for the Default Fetch Plan.
+     * @param db          Connection
+     * @return List of Results
+     */
+    protected List<ODocument> runQuery(String queryString, String fetchPlan, ODatabaseDocumentTx db) {
         OSQLSynchQuery<ODocument> oQuery = new OSQLSynchQuery<>(queryString);
-        return db.command(oQuery).execute();
+        if (fetchPlan != null) {
+            oQuery.setFetchPlan(fetchPlan);
+        }
+        long started = System.nanoTime();
+        boolean failed = true;
+        try {
+            List<ODocument> results = db.command(oQuery).execute();
+            failed = false;
+            return results;
+        } finally {
+            recordQuery(getConnectionType(db), queryString, System.nanoTime() - started, failed);
+        }
+    }
+
+    @Override
+    public Stream<ODocument> streamQuery(String queryString) {
+        return streamQuery(queryString, environment.getProperty(QUERY_STREAM_BATCH_SIZE_PROPERTY_NAME,
+                Integer.class, StreamingQuery.DEFAULT_BATCH_SIZE));
+    }
+
+    @Override
+    public Stream<ODocument> streamQuery(String queryString, int batchSize) {
+        return new StreamingQuery(queryString, batchSize, this::getReader, queryStreamExecutor,
+                (db, query, durationNanos, failed) ->
+                        recordQuery(getConnectionType(db), query, durationNanos, failed)).stream();
+    }
+
+    @Override
+    public DatabaseMetrics getMetrics() {
+        return databaseMetrics;
+    }
+
+    @Override
+    public IndexAdvisor getIndexAdvisor() {
+        return indexAdvisor;
+    }
+
+    @Override
+    public IndexAdvisorReport getIndexAdvice() {
+        return (indexAdvisor == null) ? null : indexAdvisor.report(getScannedDefinitions());
+    }
+
+    /**
+     * getScannedDefinitions
+     * Private Helper to Obtain the Schema Entity Definitions of the Complete Domain Model, Waiting
+     * for Phase One of an Asynchronous Schema Bootstrap.
+     *
+     * @return List of Schema Entity Definitions.
+     */
+    private List<SchemaEntity> getScannedDefinitions() {
+        if (!schemaEnforcer.isSchemaScanned() && bootstrapExecutor != null) {
+            try {
+                bootstrapReadiness.whenPhaseComplete(Phase.SCAN).join();
+            } catch (CompletionException e) {
+                throw new IllegalStateException("Schema Bootstrap Failed: " + e.getCause().getMessage(), e.getCause());
+            }
+        }
+        if (!schemaEnforcer.isSchemaScanned()) {
+            throw new IllegalStateException("Domain Model has not been Scanned, Phase One of the Schema Bootstrap " +
+                    "has not Completed Successfully.");
+        }
+        return schemaEnforcer.getSchemaEntityDefinitions();
+    }
+
+    @Override
+    public SchemaBootstrapReadiness getSchemaReadiness() {
+        return bootstrapReadiness;
+    }
+
+    @Override
+    public void resizePool(String poolName, int minSize, int maxSize) {
+        DatabasePool pool = databasePools.get(poolName);
+        if (pool == null) {
+            throw new IllegalArgumentException("Unknown Database Pool: '" + poolName + "', Pools: " +
+                    databasePools.keySet());
+        }
+        pool.resize(minSize, maxSize);
+    }
+
+    /**
+     * @return Map of all Pools by Name, must not be Modified.
+     */
+    public Map<String, DatabasePool> getDatabasePools() {
+        return databasePools;
+    }
+
+    /**
+     * bootstrapSchema
+     * Private Helper to Run the Schema Bootstrap Phases, signalling Readiness as each completes.
+     */
+    private void bootstrapSchema() {
+        try {
+            /**
+             * Phase One, Parse the Existing Default Domain Model from Java Code.
+             */
+            SchemaBootstrapReport bootstrapReport = schemaEnforcer.getBootstrapReport();
+            bootstrapReport.reset();
+            runPhase(Phase.SCAN, schemaEnforcer::scanSchema);
+            /**
+             * Determine if the Domain Model has changed since last applied,
+             * if not, Phases Two and Three can be skipped.
+             */
+            boolean schemaCurrent;
+            try (ODatabaseDocumentTx db = getRoot()) {
+                schemaCurrent = runPhase(Phase.FINGERPRINT_CHECK, () -> schemaEnforcer.isSchemaCurrent(db));
+            }
+            boolean schemaValidated = true;
+            if (!schemaCurrent) {
+                /**
+                 * Phase Two, Now have Schema Checker Validate our existing Schemata and
+                 * apply any necessary updates if necessary.
+                 */
+                try (ODatabaseDocumentTx db = getRoot()) {
+                    schemaValidated = runPhase(Phase.SCHEMA_VALIDATION, () -> schemaEnforcer.validateSchema(db));
+                }
+            } else {
+                bootstrapReadiness.skipPhase(Phase.SCHEMA_VALIDATION);
+            }
+            /**
+             * The Schema is Verified, Read Paths may be Opened while Indexes and Data Migrations continue.
+             */
+            bootstrapReadiness.markReadReady();
+            if (!schemaCurrent) {
+                /**
+                 * Phase Three, Now have Schema Checker Validate our existing Indexes and
+                 * apply any necessary updates if necessary.
+                 */
+                try (ODatabaseDocumentTx db = getRoot()) {
+                    boolean indexesValidated = runPhase(Phase.INDEX_VALIDATION, () -> schemaEnforcer.validateIndexes(db));
+                    /**
+                     * If we just created a new database, rebuilding our indexes...
+                     */
+                    if (NEW_DATABASE_CREATED) {
+                        runPhase(Phase.INDEX_REBUILD, () -> schemaEnforcer.reBuildIndexes(db));
+                    } else {
+                        bootstrapReadiness.skipPhase(Phase.INDEX_REBUILD);
+                    }
+                    /**
+                     * Only Save our Fingerprint if the Domain Model was fully applied.
+                     */
+                    if (schemaValidated && indexesValidated) {
+                        runPhase(Phase.FINGERPRINT_SAVE, () -> schemaEnforcer.saveSchemaFingerprint(db));
+                    }
+                }
+            } else {
+                bootstrapReadiness.skipPhase(Phase.INDEX_VALIDATION);
+                bootstrapReadiness.skipPhase(Phase.INDEX_REBUILD);
+                bootstrapReadiness.skipPhase(Phase.FINGERPRINT_SAVE);
+            }
+            /**
+             * Phase Four, Now have Schema Checker perform any Applicable Data Migrations.
+             * apply any necessary updates if necessary.
+             */
+            try (ODatabaseDocumentTx db = getRoot()) {
+                runPhase(Phase.DATA_MIGRATION, () -> schemaEnforcer.performDataMigrations(db, new ArrayList<>(0)));
+            }
+            /**
+             * Emit the Bootstrap Report.
+             */
+            bootstrapReport.complete();
+            publishBootstrapReport(bootstrapReport);
+            bootstrapReadiness.markReady();
+        } catch (RuntimeException | Error e) {
+            bootstrapReadiness.fail(e);
+            throw e;
+        }
+    }
+
+    /**
+     * runPhase
+     * Private Helper to Run a Bootstrap Phase, Recording its Timing and Result.
+     *
+     * @param phase Phase
+     * @param body  Runs the Phase, returning its Result.
+     * @return boolean Result of the Phase.
+     */
+    private boolean runPhase(Phase phase, BooleanSupplier body) {
+        long started = System.nanoTime();
+        boolean result = false;
+        try {
+            result = body.getAsBoolean();
+            return result;
+        } finally {
+            schemaEnforcer.getBootstrapReport().recordPhase(phase, System.nanoTime() - started, result);
+            bootstrapReadiness.completePhase(phase, result);
+        }
+    }
+
+    /**
+     * publishBootstrapReport
+     * Private Helper to Log the Bootstrap Report as JSON, and Write it to the Report File if Configured.
+     *
+     * @param bootstrapReport Completed Bootstrap Report.
+     */
+    private void publishBootstrapReport(SchemaBootstrapReport bootstrapReport) {
+        String json = bootstrapReport.toJson();
+        LOGGER.info("Schema Bootstrap Report: {}", json);
+        String reportFile = environment.getProperty(SCHEMA_BOOTSTRAP_REPORT_FILE_PROPERTY_NAME);
+        if (reportFile == null || reportFile.trim().isEmpty()) {
+            return;
+        }
+        try {
+            Files.write(Paths.get(reportFile.trim()), json.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Unable to Write Schema Bootstrap Report to: '{}': {}", reportFile, e.getMessage());
+        }
+    }
+
+    /**
+     * initializeMetrics
+     * Private Helper to Register our Pools with the Metrics, and Schedule Metrics Logging.
+     */
+    private void initializeMetrics() {
+        if (databaseMetrics == null) {
+            databaseMetrics = new DefaultDatabaseMetrics();
+        }
+        slowQueryThresholdMs = environment.getProperty(QUERY_SLOW_THRESHOLD_PROPERTY_NAME, Long.class,
+                DEFAULT_QUERY_SLOW_THRESHOLD_MS);
+        if (environment.getProperty(QUERY_ADVISOR_ENABLED_PROPERTY_NAME, Boolean.class, false)) {
+            indexAdvisor = new IndexAdvisor(environment.getProperty(QUERY_ADVISOR_MAX_SHAPES_PROPERTY_NAME,
+                    Integer.class, IndexAdvisor.DEFAULT_MAX_SHAPES));
+        }
+        connectionTypePools.put(ConnectionType.READER, readerPool);
+        connectionTypePools.put(ConnectionType.ROOT, rootPool);
+        connectionTypePools.put(ConnectionType.NO_TX, readerGraphPool);
+        connectionTypePools.put(ConnectionType.TX, writerGraphPool);
+        for (Map.Entry<ConnectionType, DatabasePool> entry : connectionTypePools.entrySet()) {
+            databaseMetrics.poolCreated(entry.getKey(), entry.getValue());
+        }
+        long metricsLogIntervalMs = environment.getProperty(METRICS_LOG_INTERVAL_PROPERTY_NAME, Long.class,
+                DEFAULT_METRICS_LOG_INTERVAL_MS);
+        if (metricsLogIntervalMs > 0) {
+            metricsLogger = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "odb-metrics-logger");
+                thread.setDaemon(true);
+                return thread;
+            });
+            metricsLogger.scheduleWithFixedDelay(() -> LOGGER.info("{}", databaseMetrics),
+                    metricsLogIntervalMs, metricsLogIntervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * acquire
+     * Private Helper to Acquire a Connection, Recording its Wait or Failure.
+     *
+     * @param connectionType Connection Type
+     * @param acquirer       Acquires the Connection from its Pool.
+     * @return Connection
+     */
+    private <T> T acquire(ConnectionType connectionType, Supplier<T> acquirer) {
+        long started = System.nanoTime();
+        try {
+            T connection = acquirer.get();
+            databaseMetrics.connectionAcquired(connectionType, System.nanoTime() - started);
+            return connection;
+        } catch (RuntimeException e) {
+            databaseMetrics.connectionAcquireFailed(connectionType, System.nanoTime() - started, e);
+            throw e;
+        }
+    }
+
+    /**
+     * recordQuery
+     * Private Helper to Record a Query with the Metrics and Index Advisor, Logging it if Slow.
+     */
+    private void recordQuery(ConnectionType connectionType, String queryString, long durationNanos, boolean failed) {
+        databaseMetrics.queryExecuted(connectionType, queryString, durationNanos, failed);
+        if (indexAdvisor != null && !failed) {
+            indexAdvisor.record(queryString, durationNanos);
+        }
+        long durationMs = TimeUnit.NANOSECONDS.toMillis(durationNanos);
+        if (slowQueryThresholdMs > 0 && durationMs >= slowQueryThresholdMs) {
+            LOGGER.warn("Slow Query upon {} Connection took {}ms{}: {}", connectionType, durationMs,
+                    failed ? " and Failed" : "", queryString);
+        }
+    }
+
+    /**
+     * getConnectionType
+     * Private Helper to Determine the Connection Type of a Connection by the Pool it was Leased from.
+     *
+     * @param db Connection
+     * @return ConnectionType
+     */
+    private ConnectionType getConnectionType(ODatabaseDocumentTx db) {
+        for (Map.Entry<ConnectionType, DatabasePool> entry : connectionTypePools.entrySet()) {
+            if (entry.getValue().isLeased(db)) {
+                return entry.getKey();
+            }
+        }
+        return ConnectionType.OTHER;
+    }
+
+    /**
+     * createDocumentDatabasePool
+     * Private Helper to Create and Warm Up a Pool.
+     *
+     * @param name Name of the Pool.
+     * @return DocumentDatabasePool
+     */
+    private DatabasePool createDocumentDatabasePool(String name) {
+        DocumentDatabasePool pool = createDocumentDatabasePool(name, name,
+                environment.getProperty(DB_URL_PROPERTY_NAME));
+        databasePools.put(name, pool);
+        return pool;
+    }
+
+    /**
+     * createReaderDatabasePool
+     * Private Helper to Create a Reader Pool, balanced across the Reader URLs when configured,
+     * otherwise upon the Primary.
+     *
+     * @param name    Name of the Pool.
+     * @param primary Pool upon the Primary, Failed Over to when no Reader is available.
+     * @return DatabasePool
+     */
+    private DatabasePool createReaderDatabasePool(String name, DatabasePool primary) {
+        String[] readerUrls = environment.getProperty(DB_READER_URLS_PROPERTY_NAME, String[].class, new String[0]);
+        List<DocumentDatabasePool> replicaPools = new ArrayList<>(readerUrls.length);
+        for (String readerUrl : readerUrls) {
+            if (!readerUrl.trim().isEmpty()) {
+                replicaPools.add(createDocumentDatabasePool(name + "@" + readerUrl.trim(), name, readerUrl.trim()));
+            }
+        }
+        if (replicaPools.isEmpty()) {
+            return createDocumentDatabasePool(name);
+        }
+        DatabasePool pool = new ReplicaDatabasePool(name, replicaPools, primary,
+                environment.getProperty(DB_READER_HEALTH_CHECK_PROPERTY_NAME, Long.class,
+                        DEFAULT_DB_READER_HEALTH_CHECK_MS));
+        databasePools.put(name, pool);
+        return pool;
+    }
+
+    /**
+     * createDocumentDatabasePool
+     * Private Helper to Create and Warm Up a Pool upon a Database URL.
+     *
+     * @param name         Name of the Pool.
+     * @param settingsName Name under which the Pool Properties are set.
+     * @param url          Database URL.
+     * @return DocumentDatabasePool
+     */
+    private DocumentDatabasePool createDocumentDatabasePool(String name, String settingsName, String url) {
+        DocumentDatabasePool pool = new DocumentDatabasePool(name, url,
+                environment.getProperty(DB_ADMIN_PROPERTY_NAME),
+                environment.getProperty(DB_ADMIN_PASSWORD_PROPERTY_NAME),
+                getPoolSettings(environment, settingsName));
+        pool.warmUp();
+        return pool;
+    }
+
+    /**
+     * getPoolSettings
+     * Resolve the Settings of a Pool, a Pool Property not set falls back to the Property
+     * common to all Pools, then to its Default.
+     *
+     * @param environment Runtime Environment
+     * @param name        Name of the Pool.
+     * @return PoolSettings
+     */
+    protected static PoolSettings getPoolSettings(Environment environment, String name) {
+        int minSize = getPoolProperty(environment, name, DB_POOL_MIN_PROPERTY_SUFFIX,
+                Integer.class, DEFAULT_DB_POOL_MIN);
+        return new PoolSettings(minSize,
+                getPoolProperty(environment, name, DB_POOL_MAX_PROPERTY_SUFFIX, Integer.class, DEFAULT_DB_POOL_MAX),
+                getPoolProperty(environment, name, DB_POOL_WARMUP_PROPERTY_SUFFIX, Integer.class, minSize),
+                getPoolProperty(environment, name, DB_POOL_ACQUIRE_TIMEOUT_PROPERTY_SUFFIX, Long.class,
+                        DEFAULT_DB_POOL_ACQUIRE_TIMEOUT_MS),
+                getPoolProperty(environment, name, DB_POOL_IDLE_TIMEOUT_PROPERTY_SUFFIX, Long.class,
+                        DEFAULT_DB_POOL_IDLE_TIMEOUT_MS),
+                getPoolProperty(environment, name, DB_POOL_LEAK_DETECTION_PROPERTY_SUFFIX, Long.class,
+                        DEFAULT_DB_POOL_LEAK_DETECTION_MS));
+    }
+
+    /**
+     * getPoolProperty
+     * Private Helper to obtain a Pool Property, or the Property common to all Pools.
+     */
+    private static <T> T getPoolProperty(Environment environment, String name, String suffix,
+                                         Class<T> type, T defaultValue) {
+        T value = environment.getProperty(DB_POOL_PROPERTY_PREFIX + name + "." + suffix, type);
+        if (value != null) {
+            return value;
+        }
+        return environment.getProperty(DB_POOL_PROPERTY_PREFIX + suffix, type, defaultValue);
     }
 
     /**
@@ -57,6 +57,28 @@ public @interface ODBAssociation {
      */
     String linkedClassName() default "";
 
+    /**
+     * OrientDB Fetch Plan used when Loading the Linked Records of a Link Association,
+     * such as "*:0" to Load only the Linked Records themselves.
+     * @return String of Fetch Plan, empty for the Default Fetch Plan.
+     */
+    String fetchPlan() default "";
+
+    /**
+     * Depth of the Linked Graph Fetched along with the Owning Record, by Queries of the
+     * Owning Entity issued through the DataAccessFactory, 0 to Fetch nothing and -1 to
+     * Fetch the whole Linked Graph. Applies to LINK, LINKLIST, LINKSET and LINKMAP Associations.
+     * @return int Fetch Depth.
+     */
+    int fetchDepth() default 0;
+
+    /**
+     * Eager Association Indicator, Fetches the Linked Records along with the Owning Record,
+     * the same as a Fetch Depth of 1 when no Fetch Depth is specified.
+     * @return boolean
+     */
+    boolean eager() default false;
+
     /**
      * Association Types
      */
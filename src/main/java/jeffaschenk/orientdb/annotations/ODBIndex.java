@@ -53,12 +53,14 @@ public @interface ODBIndex {
 
     /**
      * Values of Property Names which make up the Index.
+     * When Specified, the Index is Defined by its Properties, Type and Engine Type, and
+     * Recreated should an existing Index no longer match.
      * @return String[] Array of Property Name Making up the Index.
      */
     String[] properties() default {""};
 
     /**
-     * Actual specified SQL of the Index to be Defined.
+     * Actual specified SQL of the Index to be Defined, used only when no Properties are Specified.
      * @return String representing Name of Index.
      */
     String sql() default "";
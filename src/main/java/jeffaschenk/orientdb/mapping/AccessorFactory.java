@@ -0,0 +1,151 @@
+package jeffaschenk.orientdb.mapping;
+
+import org.slf4j.LoggerFactory;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+import java.lang.invoke.*;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * AccessorFactory
+ *
+ * Generates Getter and Setter Implementations for Mapped Fields.
+ *
+ * When a Field has Public Bean Accessor Methods of the Field's Type, a Class implementing
+ * {@link Function} or {@link BiConsumer} which invokes the Accessor directly is Generated at
+ * Runtime via the {@link LambdaMetafactory}, so the JIT can treat it as a Direct Call.
+ * Otherwise, the Field is Accessed via a {@link MethodHandle}.
+ *
+ * @author jeffaschenk@gmail.com
+ */
+final class AccessorFactory {
+
+    /**
+     * Common Logger
+     */
+    protected final static org.slf4j.Logger LOGGER =
+            LoggerFactory.getLogger(AccessorFactory.class);
+
+    private static final MethodType GETTER_SAM_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final MethodType SETTER_SAM_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private AccessorFactory() {
+    }
+
+    /**
+     * Create the Getter for a Field.
+     *
+     * @param field Field
+     * @return Function obtaining the Field Value from an Entity.
+     */
+    @SuppressWarnings("unchecked")
+    static Function<Object, Object> getter(Field field) {
+        Method getterMethod = findAccessor(field, true);
+        if (getterMethod != null) {
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.lookup();
+                MethodHandle implementation = lookup.unreflect(getterMethod);
+                CallSite callSite = LambdaMetafactory.metafactory(lookup, "apply",
+                        MethodType.methodType(Function.class), GETTER_SAM_TYPE, implementation,
+                        MethodType.methodType(ClassUtils.resolvePrimitiveIfNecessary(field.getType()),
+                                field.getDeclaringClass()));
+                return (Function<Object, Object>) callSite.getTarget().invokeExact();
+            } catch (Throwable t) {
+                LOGGER.debug("Unable to Generate Getter for Field: {}, using Method Handle: {}",
+                        field, t.getMessage());
+            }
+        }
+        MethodHandle getter;
+        try {
+            field.setAccessible(true);
+            getter = MethodHandles.lookup().unreflectGetter(field).asType(GETTER_SAM_TYPE);
+        } catch (IllegalAccessException | SecurityException e) {
+            throw new IllegalStateException("Unable to Access Field: " + field, e);
+        }
+        return entity -> {
+            try {
+                return (Object) getter.invokeExact(entity);
+            } catch (Throwable t) {
+                throw new IllegalStateException("Unable to Get Field: " + field.getName(), t);
+            }
+        };
+    }
+
+    /**
+     * Create the Setter for a Field.
+     *
+     * @param field Field
+     * @return BiConsumer setting the Field Value upon an Entity.
+     */
+    @SuppressWarnings("unchecked")
+    static BiConsumer<Object, Object> setter(Field field) {
+        Method setterMethod = findAccessor(field, false);
+        if (setterMethod != null) {
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.lookup();
+                MethodHandle implementation = lookup.unreflect(setterMethod);
+                CallSite callSite = LambdaMetafactory.metafactory(lookup, "accept",
+                        MethodType.methodType(BiConsumer.class), SETTER_SAM_TYPE, implementation,
+                        MethodType.methodType(void.class, field.getDeclaringClass(),
+                                ClassUtils.resolvePrimitiveIfNecessary(field.getType())));
+                return (BiConsumer<Object, Object>) callSite.getTarget().invokeExact();
+            } catch (Throwable t) {
+                LOGGER.debug("Unable to Generate Setter for Field: {}, using Method Handle: {}",
+                        field, t.getMessage());
+            }
+        }
+        MethodHandle setter;
+        try {
+            field.setAccessible(true);
+            setter = MethodHandles.lookup().unreflectSetter(field).asType(SETTER_SAM_TYPE);
+        } catch (IllegalAccessException | SecurityException e) {
+            throw new IllegalStateException("Unable to Access Field: " + field, e);
+        }
+        return (entity, value) -> {
+            try {
+                setter.invokeExact(entity, value);
+            } catch (Throwable t) {
+                throw new IllegalStateException("Unable to Set Field: " + field.getName(), t);
+            }
+        };
+    }
+
+    /**
+     * Find the Public Bean Accessor Method for a Field, declared by the Field's Class.
+     *
+     * @param field  Field
+     * @param getter Getter if true, otherwise Setter.
+     * @return Method or null if no Matching Accessor Exists.
+     */
+    private static Method findAccessor(Field field, boolean getter) {
+        Class<?> declaringClass = field.getDeclaringClass();
+        if (!Modifier.isPublic(declaringClass.getModifiers())) {
+            return null;
+        }
+        String suffix = StringUtils.capitalize(field.getName());
+        try {
+            Method method;
+            if (!getter) {
+                method = declaringClass.getMethod("set" + suffix, field.getType());
+            } else if (field.getType() == boolean.class) {
+                method = declaringClass.getMethod("is" + suffix);
+            } else {
+                method = declaringClass.getMethod("get" + suffix);
+            }
+            if (Modifier.isStatic(method.getModifiers()) ||
+                    (getter && method.getReturnType() != field.getType())) {
+                return null;
+            }
+            return method;
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,91 @@
+package jeffaschenk.orientdb.mapping;
+
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.tinkerpop.blueprints.impls.orient.OrientBaseGraph;
+import com.tinkerpop.blueprints.impls.orient.OrientVertex;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * EntityMapper
+ *
+ * Converts Annotated Entities to and from their Persistent Form, driven by the
+ * Schema Entity Definitions obtained from the Phase 1 Scan.
+ *
+ * Link Associations are Read Lazily, see {@link LazyLink}, and Written back as the Identities
+ * of their Links when they were Read by the Mapper, Links to other Entities are not Written.
+ *
+ * @author jeffaschenk@gmail.com
+ */
+public interface EntityMapper {
+
+    /**
+     * Obtain the Mapping for an Entity Class.
+     *
+     * @param entityClass Entity Class
+     * @return EntityMapping
+     * @throws IllegalArgumentException if the Class is not a Mapped Entity.
+     */
+    EntityMapping getEntityMapping(Class<?> entityClass);
+
+    /**
+     * Convert an Entity to a new Document of its Persistent Class.
+     * A Unique Identifier which has not been set is Generated and set upon the Entity.
+     * A {@link LazyLink} is Converted from its Linked Entity, Loading it if not yet Loaded.
+     *
+     * @param entity Entity
+     * @return ODocument
+     */
+    ODocument toDocument(Object entity);
+
+    /**
+     * Populate an existing Document from an Entity.
+     *
+     * @param entity   Entity
+     * @param document Document to be Populated.
+     * @return ODocument Populated Document.
+     */
+    ODocument toDocument(Object entity, ODocument document);
+
+    /**
+     * Convert a Document to a new Entity.
+     *
+     * @param document    Document
+     * @param entityClass Entity Class
+     * @param <T>         Entity Type
+     * @return T new Entity
+     */
+    <T> T fromDocument(ODocument document, Class<T> entityClass);
+
+    /**
+     * Convert Documents to new Entities, the Links of each Association of the Entities are
+     * Loaded together, so Resolving one Link Loads those of its Siblings with the same Query.
+     *
+     * @param documents   Documents
+     * @param entityClass Entity Class
+     * @param <T>         Entity Type
+     * @return List of new Entities, in Document Order.
+     */
+    <T> List<T> fromDocuments(Collection<ODocument> documents, Class<T> entityClass);
+
+    /**
+     * Add a new Vertex for an Entity, with all Properties in a single Operation.
+     *
+     * @param entity Entity
+     * @param graph  Graph to which the Vertex is Added.
+     * @return OrientVertex
+     */
+    OrientVertex toVertex(Object entity, OrientBaseGraph graph);
+
+    /**
+     * Convert a Vertex to a new Entity.
+     *
+     * @param vertex      Vertex
+     * @param entityClass Entity Class
+     * @param <T>         Entity Type
+     * @return T new Entity
+     */
+    <T> T fromVertex(OrientVertex vertex, Class<T> entityClass);
+
+}
@@ -0,0 +1,312 @@
+package jeffaschenk.orientdb.mapping;
+
+import jeffaschenk.orientdb.annotations.ODBAssociation;
+import jeffaschenk.orientdb.schema.SchemaEntity;
+import jeffaschenk.orientdb.schema.SchemaEntityProperty;
+import org.springframework.core.ResolvableType;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * EntityMapping
+ *
+ * Resolved Mapping of an Entity Class to its Persistent Class, built once from the
+ * Scanned Schema Entity Definitions of the Class and its Inheritance Chain.
+ *
+ * Properties and Unique Identifiers are Mapped, Transient Fields are not. Mapped Properties
+ * are addressed by Ordinal, with Names, Getters and Setters held in parallel Arrays so Mapping
+ * does not Allocate per Property. LINK, LINKLIST, LINKSET and LINKMAP Associations are Mapped
+ * apart from the Properties, with the Class of their Linked Entities, other Associations are not.
+ *
+ * @author jeffaschenk@gmail.com
+ */
+public final class EntityMapping {
+
+    private final Class<?> entityClass;
+
+    private final String className;
+
+    private final MethodHandle constructor;
+
+    private final PropertyAccessor[] accessors;
+
+    private final String[] propertyNames;
+
+    private final Function<Object, Object>[] getters;
+
+    private final BiConsumer<Object, Object>[] setters;
+
+    private final PropertyAccessor identifier;
+
+    private final PropertyAccessor[] associations;
+
+    private final Class<?>[] linkedClasses;
+
+    @SuppressWarnings("unchecked")
+    private EntityMapping(Class<?> entityClass, String className, MethodHandle constructor,
+                          PropertyAccessor[] accessors, PropertyAccessor identifier,
+                          PropertyAccessor[] associations, Class<?>[] linkedClasses) {
+        this.entityClass = entityClass;
+        this.className = className;
+        this.constructor = constructor;
+        this.accessors = accessors;
+        this.identifier = identifier;
+        this.associations = associations;
+        this.linkedClasses = linkedClasses;
+        this.propertyNames = new String[accessors.length];
+        this.getters = new Function[accessors.length];
+        this.setters = new BiConsumer[accessors.length];
+        for (PropertyAccessor accessor : accessors) {
+            this.propertyNames[accessor.getOrdinal()] = accessor.getPropertyName();
+            this.getters[accessor.getOrdinal()] = accessor.getGetter();
+            this.setters[accessor.getOrdinal()] = accessor.getSetter();
+        }
+    }
+
+    /**
+     * Build the Mapping for an Entity.
+     *
+     * @param schemaEntity    Schema Entity of the Class being Mapped.
+     * @param entitiesByClass All Mapped Schema Entities by Class, to resolve the Inheritance Chain.
+     * @return EntityMapping
+     */
+    protected static EntityMapping build(SchemaEntity schemaEntity, Map<Class, SchemaEntity> entitiesByClass) {
+        /**
+         * Collect Properties from the Root of the Inheritance Chain down to this Class,
+         * a Property Name defined by a SubClass replaces that of its SuperClass.
+         */
+        List<SchemaEntity> hierarchy = new ArrayList<>();
+        hierarchy.add(schemaEntity);
+        for (Class inheritanceMember : schemaEntity.getInheritanceChain()) {
+            SchemaEntity superEntity = entitiesByClass.get(inheritanceMember);
+            if (superEntity != null) {
+                hierarchy.add(superEntity);
+            }
+        }
+        Collections.reverse(hierarchy);
+        Map<String, SchemaEntityProperty> properties = new LinkedHashMap<>();
+        Map<String, SchemaEntityProperty> linkProperties = new LinkedHashMap<>();
+        for (SchemaEntity entity : hierarchy) {
+            for (SchemaEntityProperty property : entity.getProperties()) {
+                if (isMapped(property)) {
+                    properties.put(property.getPropertyName(), property);
+                } else if (isLinkMapped(property)) {
+                    linkProperties.put(property.getPropertyName(), property);
+                }
+            }
+        }
+        /**
+         * Assign Ordinals and Generate the Accessors.
+         */
+        PropertyAccessor[] accessors = new PropertyAccessor[properties.size()];
+        PropertyAccessor identifier = null;
+        int ordinal = 0;
+        for (SchemaEntityProperty property : properties.values()) {
+            PropertyAccessor accessor = PropertyAccessor.of(ordinal, property);
+            accessors[ordinal++] = accessor;
+            if (property.getKind() == SchemaEntityProperty.PropertyKind.IDENTIFIER &&
+                    String.class.equals(property.getPropertyClass())) {
+                identifier = accessor;
+            }
+        }
+        PropertyAccessor[] associations = new PropertyAccessor[linkProperties.size()];
+        Class<?>[] linkedClasses = new Class<?>[linkProperties.size()];
+        ordinal = 0;
+        for (SchemaEntityProperty property : linkProperties.values()) {
+            linkedClasses[ordinal] = resolveLinkedClass(property, entitiesByClass);
+            associations[ordinal] = PropertyAccessor.of(ordinal, property);
+            ordinal++;
+        }
+        return new EntityMapping(schemaEntity.getEntityClass(), schemaEntity.resolveName(),
+                resolveConstructor(schemaEntity.getEntityClass()), accessors, identifier,
+                associations, linkedClasses);
+    }
+
+    /**
+     * Determine if an Association is Mapped as a Link, its Field must hold the Association's Kind of Value.
+     *
+     * @param property Property Descriptor
+     * @return boolean indicator if Mapped or not.
+     */
+    protected static boolean isLinkMapped(SchemaEntityProperty property) {
+        if (!property.isPersistentProperty() || property.getKind() != SchemaEntityProperty.PropertyKind.ASSOCIATION ||
+                property.getAssociationType() == null) {
+            return false;
+        }
+        Class<?> fieldClass = property.getPropertyClass();
+        switch (property.getAssociationType()) {
+            case LINK:
+                return !fieldClass.isPrimitive();
+            case LINKLIST:
+                return fieldClass.isAssignableFrom(List.class);
+            case LINKSET:
+                return fieldClass.isAssignableFrom(Set.class);
+            case LINKMAP:
+                return fieldClass.isAssignableFrom(Map.class);
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Resolve the Class of the Linked Entities, from the Field Type or its Element Type,
+     * otherwise from the Linked Class Name.
+     *
+     * @param property        Link Association
+     * @param entitiesByClass All Mapped Schema Entities by Class.
+     * @return Class of Linked Entities, Object if it can not be Resolved.
+     */
+    private static Class<?> resolveLinkedClass(SchemaEntityProperty property, Map<Class, SchemaEntity> entitiesByClass) {
+        ResolvableType fieldType = ResolvableType.forField(property.getField());
+        Class<?> linkedClass;
+        if (property.getAssociationType() == ODBAssociation.AssociationType.LINK) {
+            linkedClass = property.getPropertyClass();
+        } else if (property.getAssociationType() == ODBAssociation.AssociationType.LINKMAP) {
+            linkedClass = fieldType.asMap().resolveGeneric(1);
+        } else {
+            linkedClass = fieldType.asCollection().resolveGeneric(0);
+        }
+        if (linkedClass == null || linkedClass == Object.class) {
+            for (SchemaEntity schemaEntity : entitiesByClass.values()) {
+                if (schemaEntity.resolveName().equals(property.getLinkedClassName())) {
+                    return schemaEntity.getEntityClass();
+                }
+            }
+            return Object.class;
+        }
+        return linkedClass;
+    }
+
+    /**
+     * Determine if a Property is Mapped to a Document Field.
+     *
+     * @param property Property Descriptor
+     * @return boolean indicator if Mapped or not.
+     */
+    protected static boolean isMapped(SchemaEntityProperty property) {
+        return property.isPersistentProperty() &&
+                (property.getKind() == SchemaEntityProperty.PropertyKind.PROPERTY ||
+                        property.getKind() == SchemaEntityProperty.PropertyKind.IDENTIFIER);
+    }
+
+    /**
+     * Resolve the Default Constructor, Abstract Classes can only be Written, not Read.
+     *
+     * @param entityClass Entity Class
+     * @return MethodHandle of Default Constructor or null if not available.
+     */
+    private static MethodHandle resolveConstructor(Class<?> entityClass) {
+        if (Modifier.isAbstract(entityClass.getModifiers())) {
+            return null;
+        }
+        try {
+            Constructor<?> defaultConstructor = entityClass.getDeclaredConstructor();
+            defaultConstructor.setAccessible(true);
+            return MethodHandles.lookup().unreflectConstructor(defaultConstructor)
+                    .asType(MethodType.methodType(Object.class));
+        } catch (NoSuchMethodException | IllegalAccessException | SecurityException e) {
+            return null;
+        }
+    }
+
+    public Class<?> getEntityClass() {
+        return entityClass;
+    }
+
+    /**
+     * @return String Name of the Persistent Class.
+     */
+    public String getClassName() {
+        return className;
+    }
+
+    /**
+     * @return PropertyAccessor Array of Mapped Properties, must not be Modified.
+     */
+    public PropertyAccessor[] getAccessors() {
+        return accessors;
+    }
+
+    /**
+     * @return int Number of Mapped Properties.
+     */
+    public int size() {
+        return accessors.length;
+    }
+
+    /**
+     * @return String Array of Persistent Property Names by Ordinal, must not be Modified.
+     */
+    public String[] getPropertyNames() {
+        return propertyNames;
+    }
+
+    /**
+     * @return Function Array of Getters by Ordinal, must not be Modified.
+     */
+    public Function<Object, Object>[] getGetters() {
+        return getters;
+    }
+
+    /**
+     * @return BiConsumer Array of Setters by Ordinal, must not be Modified.
+     */
+    public BiConsumer<Object, Object>[] getSetters() {
+        return setters;
+    }
+
+    /**
+     * @return PropertyAccessor of the Unique Identifier, or null if none is Mapped.
+     */
+    public PropertyAccessor getIdentifier() {
+        return identifier;
+    }
+
+    /**
+     * @return PropertyAccessor Array of Link Associations, must not be Modified.
+     */
+    public PropertyAccessor[] getAssociations() {
+        return associations;
+    }
+
+    /**
+     * @return Class Array of Linked Entity Classes by Association Ordinal, must not be Modified.
+     */
+    public Class<?>[] getLinkedClasses() {
+        return linkedClasses;
+    }
+
+    /**
+     * Instantiate a new Entity.
+     *
+     * @return Object new Entity Instance.
+     */
+    public Object newInstance() {
+        if (constructor == null) {
+            throw new IllegalStateException("Entity Class: " + entityClass.getName() +
+                    " is Abstract or has no Default Constructor.");
+        }
+        try {
+            return (Object) constructor.invokeExact();
+        } catch (Throwable t) {
+            throw new IllegalStateException("Unable to Instantiate Entity Class: " + entityClass.getName(), t);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "EntityMapping{" +
+                "Class='" + entityClass.getName() + '\'' +
+                ", ClassName='" + className + '\'' +
+                ", NumberOfProperties='" + accessors.length + '\'' +
+                ", NumberOfAssociations='" + associations.length + '\'' +
+                '}';
+    }
+}
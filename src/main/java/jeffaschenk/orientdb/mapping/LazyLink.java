@@ -0,0 +1,35 @@
+package jeffaschenk.orientdb.mapping;
+
+import com.orientechnologies.orient.core.id.ORID;
+
+/**
+ * LazyLink
+ *
+ * Implemented by the Proxies the {@link EntityMapper} sets upon LINK Association Fields in place
+ * of the Linked Entity. The Linked Record is Loaded upon the first call of any Entity Method,
+ * along with the Sibling Links read by the same Mapping.
+ *
+ * A Proxy is a SubClass of the Declared Linked Class, not of the Class of the Linked Record.
+ * Use {@link #getLinkTarget()} where the Class of the Linked Entity matters.
+ *
+ * @author jeffaschenk@gmail.com
+ */
+public interface LazyLink {
+
+    /**
+     * @return ORID Identity of the Linked Record, available without Loading it.
+     */
+    ORID getLinkIdentity();
+
+    /**
+     * @return boolean indicator if the Linked Record has been Loaded.
+     */
+    boolean isLinkResolved();
+
+    /**
+     * Load the Linked Record, if not already Loaded.
+     *
+     * @return Object Linked Entity, or null if the Linked Record no longer Exists.
+     */
+    Object getLinkTarget();
+}
@@ -0,0 +1,331 @@
+package jeffaschenk.orientdb.mapping;
+
+import com.orientechnologies.orient.core.id.ORID;
+import org.springframework.cglib.proxy.Enhancer;
+import org.springframework.cglib.proxy.Factory;
+import org.springframework.cglib.proxy.MethodInterceptor;
+import org.springframework.cglib.proxy.MethodProxy;
+import org.springframework.objenesis.SpringObjenesis;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * LazyLinks
+ *
+ * Creates the Lazy Values of Link Associations:
+ * + LINK, a {@link LazyLink} Proxy, a SubClass of the Linked Class Generated once per Class.
+ *   Classes which can not be SubClassed are Resolved at once.
+ * + LINKLIST, LINKSET and LINKMAP, Collections holding the Identities of their Links, all
+ *   Resolved with their Siblings upon the first Access of the Collection. Once Resolved,
+ *   Links to Records which no longer Exist are left out.
+ *
+ * @author jeffaschenk@gmail.com
+ */
+final class LazyLinks {
+
+    private static final ConcurrentMap<Class<?>, Class<?>> PROXY_CLASSES = new ConcurrentHashMap<>();
+
+    private static final SpringObjenesis OBJENESIS = new SpringObjenesis();
+
+    private LazyLinks() {
+    }
+
+    /**
+     * Create the Lazy Value of a LINK Association.
+     *
+     * @param linkedClass Declared Class of the Linked Entity.
+     * @param identity    Identity of the Linked Record.
+     * @param linkBatch   Batch of the Association.
+     * @return Object Proxy of the Linked Entity, or the Linked Entity when the Class can not be Proxied.
+     */
+    static Object link(Class<?> linkedClass, ORID identity, LinkBatch linkBatch) {
+        if (!isProxyable(linkedClass)) {
+            return linkBatch.resolve(identity);
+        }
+        Class<?> proxyClass = PROXY_CLASSES.computeIfAbsent(linkedClass, LazyLinks::createProxyClass);
+        Factory proxy = (Factory) OBJENESIS.newInstance(proxyClass);
+        proxy.setCallback(0, new LinkInterceptor(identity, linkBatch));
+        return proxy;
+    }
+
+    private static boolean isProxyable(Class<?> linkedClass) {
+        return linkedClass != Object.class && !linkedClass.isInterface() && !linkedClass.isPrimitive() &&
+                !linkedClass.isArray() && !Modifier.isFinal(linkedClass.getModifiers());
+    }
+
+    private static Class<?> createProxyClass(Class<?> linkedClass) {
+        Enhancer enhancer = new Enhancer();
+        enhancer.setSuperclass(linkedClass);
+        enhancer.setInterfaces(new Class<?>[]{LazyLink.class});
+        enhancer.setCallbackType(MethodInterceptor.class);
+        enhancer.setClassLoader(linkedClass.getClassLoader());
+        return enhancer.createClass();
+    }
+
+    /**
+     * Obtain the Identity of a Linked Entity, read by a Lazy Value.
+     *
+     * @param element Linked Entity
+     * @param loaded  Identities of the Entities Loaded by a Collection.
+     * @return ORID Identity
+     * @throws IllegalArgumentException if the Entity was not Read by a Lazy Value.
+     */
+    static ORID identityOf(Object element, Map<Object, ORID> loaded) {
+        if (element instanceof LazyLink) {
+            return ((LazyLink) element).getLinkIdentity();
+        }
+        ORID identity = (loaded == null) ? null : loaded.get(element);
+        if (identity == null) {
+            throw new IllegalArgumentException("Linked Entity has no Record Identity, " +
+                    "Link it through the Graph or Document API: " + element);
+        }
+        return identity;
+    }
+
+    /**
+     * LinkInterceptor
+     * Resolves the Linked Entity upon the first Entity Method called, and Delegates to it.
+     */
+    private static final class LinkInterceptor implements MethodInterceptor {
+
+        private final ORID identity;
+
+        private final LinkBatch linkBatch;
+
+        private LinkInterceptor(ORID identity, LinkBatch linkBatch) {
+            this.identity = identity;
+            this.linkBatch = linkBatch;
+        }
+
+        @Override
+        public Object intercept(Object proxy, Method method, Object[] args, MethodProxy methodProxy) throws Throwable {
+            if (method.getDeclaringClass() == LazyLink.class) {
+                switch (method.getName()) {
+                    case "getLinkIdentity":
+                        return identity;
+                    case "isLinkResolved":
+                        return linkBatch.isResolved(identity);
+                    default:
+                        return linkBatch.resolve(identity);
+                }
+            }
+            Object target = linkBatch.resolve(identity);
+            if (target == null) {
+                throw new IllegalStateException("Linked Record: " + identity + " no longer Exists.");
+            }
+            return methodProxy.invoke(target, args);
+        }
+    }
+
+    /**
+     * LinkCollection
+     * Lazy Collection of Links, which can be Written back as the Identities of its Links.
+     */
+    interface LinkCollection {
+
+        /**
+         * @return Object Identities of the Links, as a List, Set or Map of the Collection's Kind.
+         */
+        Object toIdentities();
+    }
+
+    /**
+     * LazyLinkList
+     */
+    static final class LazyLinkList extends AbstractList<Object> implements LinkCollection {
+
+        private final List<ORID> identities;
+
+        private final LinkBatch linkBatch;
+
+        private List<Object> elements;
+
+        private Map<Object, ORID> loaded;
+
+        LazyLinkList(List<ORID> identities, LinkBatch linkBatch) {
+            this.identities = identities;
+            this.linkBatch = linkBatch;
+        }
+
+        private List<Object> elements() {
+            if (elements == null) {
+                linkBatch.resolveAll(identities);
+                List<Object> resolvedElements = new ArrayList<>(identities.size());
+                loaded = new IdentityHashMap<>();
+                for (ORID identity : identities) {
+                    Object element = linkBatch.get(identity);
+                    if (element != null) {
+                        resolvedElements.add(element);
+                        loaded.put(element, identity);
+                    }
+                }
+                elements = resolvedElements;
+            }
+            return elements;
+        }
+
+        @Override
+        public Object get(int index) {
+            return elements().get(index);
+        }
+
+        @Override
+        public int size() {
+            return elements().size();
+        }
+
+        @Override
+        public Object set(int index, Object element) {
+            return elements().set(index, element);
+        }
+
+        @Override
+        public void add(int index, Object element) {
+            elements().add(index, element);
+            modCount++;
+        }
+
+        @Override
+        public Object remove(int index) {
+            modCount++;
+            return elements().remove(index);
+        }
+
+        @Override
+        public Object toIdentities() {
+            if (elements == null) {
+                return new ArrayList<>(identities);
+            }
+            List<ORID> links = new ArrayList<>(elements.size());
+            for (Object element : elements) {
+                links.add(identityOf(element, loaded));
+            }
+            return links;
+        }
+    }
+
+    /**
+     * LazyLinkSet
+     */
+    static final class LazyLinkSet extends AbstractSet<Object> implements LinkCollection {
+
+        private final Set<ORID> identities;
+
+        private final LinkBatch linkBatch;
+
+        private Set<Object> elements;
+
+        private Map<Object, ORID> loaded;
+
+        LazyLinkSet(Set<ORID> identities, LinkBatch linkBatch) {
+            this.identities = identities;
+            this.linkBatch = linkBatch;
+        }
+
+        private Set<Object> elements() {
+            if (elements == null) {
+                linkBatch.resolveAll(identities);
+                Set<Object> resolvedElements = new LinkedHashSet<>();
+                loaded = new IdentityHashMap<>();
+                for (ORID identity : identities) {
+                    Object element = linkBatch.get(identity);
+                    if (element != null) {
+                        resolvedElements.add(element);
+                        loaded.put(element, identity);
+                    }
+                }
+                elements = resolvedElements;
+            }
+            return elements;
+        }
+
+        @Override
+        public Iterator<Object> iterator() {
+            return elements().iterator();
+        }
+
+        @Override
+        public int size() {
+            return elements().size();
+        }
+
+        @Override
+        public boolean add(Object element) {
+            return elements().add(element);
+        }
+
+        @Override
+        public Object toIdentities() {
+            if (elements == null) {
+                return new LinkedHashSet<>(identities);
+            }
+            Set<ORID> links = new LinkedHashSet<>();
+            for (Object element : elements) {
+                links.add(identityOf(element, loaded));
+            }
+            return links;
+        }
+    }
+
+    /**
+     * LazyLinkMap
+     */
+    static final class LazyLinkMap extends AbstractMap<Object, Object> implements LinkCollection {
+
+        private final Map<Object, ORID> identities;
+
+        private final LinkBatch linkBatch;
+
+        private Map<Object, Object> elements;
+
+        private Map<Object, ORID> loaded;
+
+        LazyLinkMap(Map<Object, ORID> identities, LinkBatch linkBatch) {
+            this.identities = identities;
+            this.linkBatch = linkBatch;
+        }
+
+        private Map<Object, Object> elements() {
+            if (elements == null) {
+                linkBatch.resolveAll(identities.values());
+                Map<Object, Object> resolvedElements = new LinkedHashMap<>();
+                loaded = new IdentityHashMap<>();
+                for (Map.Entry<Object, ORID> entry : identities.entrySet()) {
+                    Object element = linkBatch.get(entry.getValue());
+                    if (element != null) {
+                        resolvedElements.put(entry.getKey(), element);
+                        loaded.put(element, entry.getValue());
+                    }
+                }
+                elements = resolvedElements;
+            }
+            return elements;
+        }
+
+        @Override
+        public Set<Entry<Object, Object>> entrySet() {
+            return elements().entrySet();
+        }
+
+        @Override
+        public Object put(Object key, Object value) {
+            return elements().put(key, value);
+        }
+
+        @Override
+        public Object toIdentities() {
+            if (elements == null) {
+                return new LinkedHashMap<>(identities);
+            }
+            Map<Object, ORID> links = new LinkedHashMap<>();
+            for (Map.Entry<Object, Object> entry : elements.entrySet()) {
+                links.put(entry.getKey(), identityOf(entry.getValue(), loaded));
+            }
+            return links;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package jeffaschenk.orientdb.mapping;
+
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * LinkBatch
+ *
+ * Links of a single Association read by the same Mapping. When any Link is Resolved, the Pending
+ * Links of its Siblings are Loaded along with it, up to the Batch Size, with a single Query.
+ * Linked Records already Fetched along with their Owning Records are Converted without a Query.
+ *
+ * @author jeffaschenk@gmail.com
+ */
+final class LinkBatch {
+
+    private final LinkLoader linkLoader;
+
+    private final String fetchPlan;
+
+    private final int batchSize;
+
+    private final Function<ODocument, Object> converter;
+
+    private final Set<ORID> pending = new LinkedHashSet<>();
+
+    private final Map<ORID, ODocument> fetched = new HashMap<>();
+
+    private final Map<ORID, Object> resolved = new HashMap<>();
+
+    /**
+     * @param linkLoader Loads the Linked Records.
+     * @param fetchPlan  Fetch Plan of the Association, or null.
+     * @param batchSize  Maximum Number of Records Loaded by a single Query.
+     * @param converter  Converts a Loaded Record to its Entity.
+     */
+    LinkBatch(LinkLoader linkLoader, String fetchPlan, int batchSize, Function<ODocument, Object> converter) {
+        this.linkLoader = linkLoader;
+        this.fetchPlan = fetchPlan;
+        this.batchSize = Math.max(1, batchSize);
+        this.converter = converter;
+    }
+
+    synchronized void register(ORID identity) {
+        if (!resolved.containsKey(identity) && !fetched.containsKey(identity)) {
+            pending.add(identity);
+        }
+    }
+
+    /**
+     * Offer a Linked Record Fetched along with its Owning Record, in place of Registering its Link.
+     */
+    synchronized void prefetch(ODocument document) {
+        ORID identity = document.getIdentity();
+        if (!resolved.containsKey(identity)) {
+            fetched.put(identity, document);
+            pending.remove(identity);
+        }
+    }
+
+    synchronized boolean isResolved(ORID identity) {
+        return resolved.containsKey(identity);
+    }
+
+    /**
+     * Resolve a single Link, with its Pending Siblings.
+     *
+     * @return Object Linked Entity, or null if the Linked Record no longer Exists.
+     */
+    synchronized Object resolve(ORID identity) {
+        resolveAll(Collections.singleton(identity));
+        return resolved.get(identity);
+    }
+
+    /**
+     * Resolve the Links, the first Query is filled up to the Batch Size with Pending Siblings.
+     */
+    synchronized void resolveAll(Collection<ORID> identities) {
+        Set<ORID> loading = new LinkedHashSet<>();
+        for (ORID identity : identities) {
+            if (!resolved.containsKey(identity)) {
+                loading.add(identity);
+            }
+        }
+        for (Iterator<ORID> iterator = loading.iterator(); iterator.hasNext(); ) {
+            ORID identity = iterator.next();
+            ODocument document = fetched.remove(identity);
+            if (document != null) {
+                resolved.put(identity, converter.apply(document));
+                iterator.remove();
+            }
+        }
+        if (loading.isEmpty()) {
+            return;
+        }
+        for (ORID identity : pending) {
+            if (loading.size() >= batchSize) {
+                break;
+            }
+            loading.add(identity);
+        }
+        List<ORID> identitiesToLoad = new ArrayList<>(loading);
+        for (int start = 0; start < identitiesToLoad.size(); start += batchSize) {
+            List<ORID> batch = identitiesToLoad.subList(start, Math.min(start + batchSize, identitiesToLoad.size()));
+            for (ODocument document : linkLoader.load(batch, fetchPlan)) {
+                resolved.put(document.getIdentity(), converter.apply(document));
+            }
+        }
+        /**
+         * Links to Records which no longer Exist are Resolved as null.
+         */
+        for (ORID identity : loading) {
+            resolved.putIfAbsent(identity, null);
+        }
+        pending.removeAll(loading);
+    }
+
+    synchronized Object get(ORID identity) {
+        return resolved.get(identity);
+    }
+}
@@ -0,0 +1,27 @@
+package jeffaschenk.orientdb.mapping;
+
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * LinkLoader
+ *
+ * Loads the Linked Records of Lazy Associations, each Batch of Identities with a single Query.
+ *
+ * @author jeffaschenk@gmail.com
+ */
+@FunctionalInterface
+public interface LinkLoader {
+
+    /**
+     * Load the Records of the Identities, Records which no longer Exist are Omitted.
+     *
+     * @param identities Identities of the Records to be Loaded.
+     * @param fetchPlan  OrientDB Fetch Plan, or null for the Default Fetch Plan.
+     * @return List of Loaded Documents, in any Order.
+     */
+    List<ODocument> load(Collection<ORID> identities, String fetchPlan);
+}
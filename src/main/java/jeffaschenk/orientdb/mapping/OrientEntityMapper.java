@@ -0,0 +1,516 @@
+package jeffaschenk.orientdb.mapping;
+
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.db.record.OAutoConvertToRecord;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.db.record.ORecordElement;
+import com.orientechnologies.orient.core.db.record.ORecordLazyMultiValue;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.query.OSQLSynchQuery;
+import com.tinkerpop.blueprints.impls.orient.OrientBaseGraph;
+import com.tinkerpop.blueprints.impls.orient.OrientVertex;
+import jeffaschenk.orientdb.DataAccessFactory;
+import jeffaschenk.orientdb.annotations.ODBAssociation;
+import jeffaschenk.orientdb.schema.SchemaEnforcer;
+import jeffaschenk.orientdb.schema.SchemaEntity;
+import jeffaschenk.orientdb.schema.SchemaEntityProperty;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+import org.springframework.util.ClassUtils;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * OrientEntityMapper
+ *
+ * Entity Mapper Implementation, Entity Mappings are built upon first use of
+ * an Entity Class and Cached for the Life of the Mapper. Linked Records are Loaded
+ * in Batches of up to "mapping.link.batch.size" Records.
+ *
+ * @author jeffaschenk@gmail.com
+ */
+@Service
+public class OrientEntityMapper implements EntityMapper {
+
+    /**
+     * Common Logger
+     */
+    protected final static org.slf4j.Logger LOGGER =
+            LoggerFactory.getLogger(OrientEntityMapper.class);
+
+    /**
+     * Vertex Class Name Prefix
+     */
+    protected static final String CLASS_PREFIX = "class:";
+
+    /**
+     * Schema Enforcer, provides the Scanned Schema Entity Definitions.
+     */
+    @Autowired
+    private SchemaEnforcer schemaEnforcer;
+
+    /**
+     * Maximum Number of Linked Records Loaded by a single Query.
+     */
+    protected static final String LINK_BATCH_SIZE_PROPERTY_NAME = "mapping.link.batch.size";
+
+    protected static final int DEFAULT_LINK_BATCH_SIZE = 100;
+
+    /**
+     * Data Access Factory, Loads Linked Records when no Database is Active upon the Thread.
+     */
+    @Autowired(required = false)
+    private DataAccessFactory dataAccessFactory;
+
+    @Autowired(required = false)
+    private Environment environment;
+
+    /**
+     * Entity Mappings by Entity Class.
+     */
+    private final ConcurrentMap<Class<?>, EntityMapping> entityMappings = new ConcurrentHashMap<>();
+
+    /**
+     * Mapped Entity Classes by Persistent Class Name, Built upon first use.
+     */
+    private volatile Map<String, Class<?>> entityClassesByName;
+
+    /**
+     * Loads Linked Records, a Query upon the Active or a Reader Database unless Supplied.
+     */
+    private final LinkLoader linkLoader;
+
+    /**
+     * Default Constructor
+     */
+    public OrientEntityMapper() {
+        this.linkLoader = this::loadLinks;
+    }
+
+    /**
+     * Constructor for use outside of a Spring Context.
+     *
+     * @param schemaEnforcer Schema Enforcer which has Scanned the Domain Model.
+     */
+    public OrientEntityMapper(SchemaEnforcer schemaEnforcer) {
+        this.schemaEnforcer = schemaEnforcer;
+        this.linkLoader = this::loadLinks;
+    }
+
+    /**
+     * Constructor for use outside of a Spring Context, Loading Linked Records with a Link Loader.
+     *
+     * @param schemaEnforcer Schema Enforcer which has Scanned the Domain Model.
+     * @param linkLoader     Loads Linked Records.
+     */
+    public OrientEntityMapper(SchemaEnforcer schemaEnforcer, LinkLoader linkLoader) {
+        this.schemaEnforcer = schemaEnforcer;
+        this.linkLoader = linkLoader;
+    }
+
+    @Override
+    public EntityMapping getEntityMapping(Class<?> entityClass) {
+        /**
+         * Map a Proxy Class, such as that of a Lazy Link, as the Entity Class it Extends.
+         */
+        Class<?> userClass = ClassUtils.getUserClass(entityClass);
+        EntityMapping entityMapping = entityMappings.get(userClass);
+        if (entityMapping == null) {
+            entityMapping = entityMappings.computeIfAbsent(userClass, this::buildEntityMapping);
+        }
+        return entityMapping;
+    }
+
+    @Override
+    public ODocument toDocument(Object entity) {
+        Object target = toTarget(entity);
+        EntityMapping entityMapping = getEntityMapping(target.getClass());
+        return populateDocument(entityMapping, target, new ODocument(entityMapping.getClassName()));
+    }
+
+    @Override
+    public ODocument toDocument(Object entity, ODocument document) {
+        Object target = toTarget(entity);
+        return populateDocument(getEntityMapping(target.getClass()), target, document);
+    }
+
+    @Override
+    public <T> T fromDocument(ODocument document, Class<T> entityClass) {
+        return fromDocument(document, entityClass, new IdentityHashMap<>());
+    }
+
+    @Override
+    public <T> List<T> fromDocuments(Collection<ODocument> documents, Class<T> entityClass) {
+        Map<SchemaEntityProperty, LinkBatch> linkBatches = new IdentityHashMap<>();
+        List<T> entities = new ArrayList<>(documents.size());
+        for (ODocument document : documents) {
+            entities.add(fromDocument(document, entityClass, linkBatches));
+        }
+        return entities;
+    }
+
+    /**
+     * Convert a Document to a new Entity, Registering its Links with the Batches of their Associations.
+     *
+     * @param document    Document
+     * @param entityClass Entity Class
+     * @param linkBatches Link Batches by Association, Shared by Sibling Entities.
+     * @param <T>         Entity Type
+     * @return T new Entity
+     */
+    protected <T> T fromDocument(ODocument document, Class<T> entityClass,
+                                 Map<SchemaEntityProperty, LinkBatch> linkBatches) {
+        if (document == null) {
+            return null;
+        }
+        EntityMapping entityMapping = getEntityMapping(entityClass);
+        Object entity = entityMapping.newInstance();
+        PropertyAccessor[] accessors = entityMapping.getAccessors();
+        String[] propertyNames = entityMapping.getPropertyNames();
+        BiConsumer<Object, Object>[] setters = entityMapping.getSetters();
+        for (int ordinal = 0; ordinal < propertyNames.length; ordinal++) {
+            Object value = document.field(propertyNames[ordinal]);
+            /**
+             * Leave Primitive Fields at their Default when the Document has no Value.
+             */
+            if (value == null && accessors[ordinal].getProperty().getPropertyClass().isPrimitive()) {
+                continue;
+            }
+            setters[ordinal].accept(entity, accessors[ordinal].fromPersistentValue(value));
+        }
+        PropertyAccessor[] associations = entityMapping.getAssociations();
+        Class<?>[] linkedClasses = entityMapping.getLinkedClasses();
+        for (int ordinal = 0; ordinal < associations.length; ordinal++) {
+            /**
+             * Read the Links without Loading their Records.
+             */
+            Object value = document.rawField(associations[ordinal].getPropertyName());
+            if (value != null) {
+                associations[ordinal].setValue(entity,
+                        toLazyValue(associations[ordinal].getProperty(), linkedClasses[ordinal], value, linkBatches));
+            }
+        }
+        return entityClass.cast(entity);
+    }
+
+    @Override
+    public OrientVertex toVertex(Object entity, OrientBaseGraph graph) {
+        Object target = toTarget(entity);
+        EntityMapping entityMapping = getEntityMapping(target.getClass());
+        ensureIdentifier(entityMapping, target);
+        PropertyAccessor[] accessors = entityMapping.getAccessors();
+        String[] propertyNames = entityMapping.getPropertyNames();
+        Function<Object, Object>[] getters = entityMapping.getGetters();
+        List<Object> properties = new ArrayList<>(propertyNames.length * 2);
+        for (int ordinal = 0; ordinal < propertyNames.length; ordinal++) {
+            Object value = getters[ordinal].apply(target);
+            if (value != null) {
+                properties.add(propertyNames[ordinal]);
+                properties.add(accessors[ordinal].toPersistentValue(value));
+            }
+        }
+        for (PropertyAccessor association : entityMapping.getAssociations()) {
+            Object links = toLinks(association.getValue(target));
+            if (links != null) {
+                properties.add(association.getPropertyName());
+                properties.add(links);
+            }
+        }
+        return graph.addVertex(CLASS_PREFIX + entityMapping.getClassName(), properties.toArray());
+    }
+
+    @Override
+    public <T> T fromVertex(OrientVertex vertex, Class<T> entityClass) {
+        return (vertex == null) ? null : fromDocument(vertex.getRecord(), entityClass);
+    }
+
+    /**
+     * Resolve the Entity to be Mapped, the Linked Entity of a Lazy Link. The Fields of a Lazy Link
+     * Proxy are never Set, its Linked Entity holds the Values.
+     *
+     * @param entity Entity or Lazy Link.
+     * @return Object Entity
+     */
+    protected Object toTarget(Object entity) {
+        if (entity instanceof LazyLink) {
+            Object target = ((LazyLink) entity).getLinkTarget();
+            if (target == null) {
+                throw new IllegalArgumentException("Linked Record: " + ((LazyLink) entity).getLinkIdentity() +
+                        " no longer Exists.");
+            }
+            return target;
+        }
+        return entity;
+    }
+
+    /**
+     * Populate a Document from an Entity.
+     *
+     * @param entityMapping Entity Mapping
+     * @param entity        Entity
+     * @param document      Document to be Populated.
+     * @return ODocument Populated Document.
+     */
+    protected ODocument populateDocument(EntityMapping entityMapping, Object entity, ODocument document) {
+        ensureIdentifier(entityMapping, entity);
+        PropertyAccessor[] accessors = entityMapping.getAccessors();
+        String[] propertyNames = entityMapping.getPropertyNames();
+        Function<Object, Object>[] getters = entityMapping.getGetters();
+        for (int ordinal = 0; ordinal < propertyNames.length; ordinal++) {
+            document.field(propertyNames[ordinal], accessors[ordinal].toPersistentValue(getters[ordinal].apply(entity)));
+        }
+        for (PropertyAccessor association : entityMapping.getAssociations()) {
+            Object links = toLinks(association.getValue(entity));
+            if (links != null) {
+                document.field(association.getPropertyName(), links);
+            }
+        }
+        return document;
+    }
+
+    /**
+     * Convert the Value of a Link Association to its Lazy Value.
+     *
+     * @param property    Link Association
+     * @param linkedClass Class of the Linked Entities.
+     * @param value       Raw Document Value, the Links of the Association.
+     * @param linkBatches Link Batches by Association.
+     * @return Object Lazy Value
+     */
+    @SuppressWarnings("unchecked")
+    protected Object toLazyValue(SchemaEntityProperty property, Class<?> linkedClass, Object value,
+                                 Map<SchemaEntityProperty, LinkBatch> linkBatches) {
+        LinkBatch linkBatch = linkBatches.computeIfAbsent(property, key -> newLinkBatch(property, linkedClass));
+        switch (property.getAssociationType()) {
+            case LINK:
+                ORID identity = registerLink(linkBatch, value);
+                return (identity == null) ? null : LazyLinks.link(linkedClass, identity, linkBatch);
+            case LINKLIST:
+            case LINKSET:
+                Collection<ORID> identities = (property.getAssociationType() == ODBAssociation.AssociationType.LINKSET) ?
+                        new LinkedHashSet<>() : new ArrayList<>();
+                Iterator<?> links = (value instanceof ORecordLazyMultiValue) ?
+                        ((ORecordLazyMultiValue) value).rawIterator() :
+                        (value instanceof Iterable) ? ((Iterable<?>) value).iterator() : Collections.emptyIterator();
+                while (links.hasNext()) {
+                    ORID link = registerLink(linkBatch, links.next());
+                    if (link != null) {
+                        identities.add(link);
+                    }
+                }
+                return (identities instanceof Set) ? new LazyLinks.LazyLinkSet((Set<ORID>) identities, linkBatch) :
+                        new LazyLinks.LazyLinkList((List<ORID>) identities, linkBatch);
+            case LINKMAP:
+                if (!(value instanceof Map)) {
+                    return null;
+                }
+                Map<Object, ORID> mapIdentities = new LinkedHashMap<>();
+                boolean autoConvert = (value instanceof OAutoConvertToRecord) &&
+                        ((OAutoConvertToRecord) value).isAutoConvertToRecord();
+                if (autoConvert) {
+                    ((OAutoConvertToRecord) value).setAutoConvertToRecord(false);
+                }
+                try {
+                    for (Map.Entry<Object, Object> entry : ((Map<Object, Object>) value).entrySet()) {
+                        ORID link = registerLink(linkBatch, entry.getValue());
+                        if (link != null) {
+                            mapIdentities.put(entry.getKey(), link);
+                        }
+                    }
+                } finally {
+                    if (autoConvert) {
+                        ((OAutoConvertToRecord) value).setAutoConvertToRecord(true);
+                    }
+                }
+                return new LazyLinks.LazyLinkMap(mapIdentities, linkBatch);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Register a Link with the Batch of its Association, a Linked Record already Fetched, by the
+     * Fetch Plan of the Query which read its Owner, is Offered to the Batch in place of its Link.
+     *
+     * @param linkBatch Link Batch of the Association.
+     * @param link      Raw Link
+     * @return ORID Identity of the Link, or null if not a Link.
+     */
+    private static ORID registerLink(LinkBatch linkBatch, Object link) {
+        if (!(link instanceof OIdentifiable)) {
+            return null;
+        }
+        ORID identity = ((OIdentifiable) link).getIdentity();
+        if (link instanceof ODocument && ((ODocument) link).getInternalStatus() == ORecordElement.STATUS.LOADED) {
+            linkBatch.prefetch((ODocument) link);
+        } else {
+            linkBatch.register(identity);
+        }
+        return identity;
+    }
+
+    /**
+     * Create the Link Batch of an Association, the Entities it Loads share Link Batches of their own.
+     *
+     * @param property    Link Association
+     * @param linkedClass Class of the Linked Entities.
+     * @return LinkBatch
+     */
+    protected LinkBatch newLinkBatch(SchemaEntityProperty property, Class<?> linkedClass) {
+        Map<SchemaEntityProperty, LinkBatch> linkedBatches = new IdentityHashMap<>();
+        return new LinkBatch(linkLoader, property.getFetchPlan(), getLinkBatchSize(),
+                document -> fromDocument(document, resolveEntityClass(document, linkedClass), linkedBatches));
+    }
+
+    /**
+     * Convert the Value of a Link Association to the Identities of its Links.
+     *
+     * @param value Field Value
+     * @return Object Identities, or null if the Value was not Read by the Mapper.
+     */
+    protected Object toLinks(Object value) {
+        if (value instanceof LazyLink) {
+            return ((LazyLink) value).getLinkIdentity();
+        } else if (value instanceof LazyLinks.LinkCollection) {
+            return ((LazyLinks.LinkCollection) value).toIdentities();
+        }
+        return null;
+    }
+
+    /**
+     * Resolve the Entity Class of a Linked Record, the Mapped Class of the Record's Class when it is
+     * a SubClass of the Declared Linked Class.
+     *
+     * @param document    Linked Record
+     * @param linkedClass Declared Class of the Linked Entities.
+     * @return Class of Entity
+     */
+    protected Class<?> resolveEntityClass(ODocument document, Class<?> linkedClass) {
+        Map<String, Class<?>> classesByName = entityClassesByName;
+        if (classesByName == null) {
+            classesByName = new HashMap<>();
+            for (SchemaEntity schemaEntity : getScannedDefinitions()) {
+                if (schemaEntity.isMappedEntity()) {
+                    classesByName.put(schemaEntity.resolveName(), schemaEntity.getEntityClass());
+                }
+            }
+            entityClassesByName = classesByName;
+        }
+        Class<?> recordClass = classesByName.get(document.getClassName());
+        return (recordClass != null && linkedClass.isAssignableFrom(recordClass)) ? recordClass : linkedClass;
+    }
+
+    /**
+     * Load Linked Records with a single Query, upon the Database Active upon the Thread, otherwise
+     * upon a Reader Connection of the Data Access Factory. Records held by the Local Cache of the
+     * Active Database, such as those Fetched by a Fetch Plan, are not Queried.
+     *
+     * @param identities Identities of the Records to be Loaded.
+     * @param fetchPlan  OrientDB Fetch Plan, or null for the Default Fetch Plan.
+     * @return List of Loaded Documents.
+     */
+    protected List<ODocument> loadLinks(Collection<ORID> identities, String fetchPlan) {
+        ODatabaseDocumentInternal db = ODatabaseRecordThreadLocal.INSTANCE.getIfDefined();
+        if (db != null && !db.isClosed()) {
+            List<ODocument> documents = new ArrayList<>();
+            List<ORID> uncached = new ArrayList<>();
+            for (ORID identity : identities) {
+                ORecord record = db.getLocalCache().findRecord(identity);
+                if (record instanceof ODocument) {
+                    documents.add((ODocument) record);
+                } else {
+                    uncached.add(identity);
+                }
+            }
+            if (!uncached.isEmpty()) {
+                String queryString = linkQuery(uncached, fetchPlan);
+                if (dataAccessFactory != null && db instanceof ODatabaseDocumentTx) {
+                    documents.addAll(dataAccessFactory.runQuery(queryString, (ODatabaseDocumentTx) db));
+                } else {
+                    documents.addAll(db.<List<ODocument>>query(new OSQLSynchQuery<ODocument>(queryString)));
+                }
+            }
+            return documents;
+        }
+        if (dataAccessFactory != null) {
+            return dataAccessFactory.runQuery(linkQuery(identities, fetchPlan));
+        }
+        throw new IllegalStateException("No Database Available to Load Links: " + identities);
+    }
+
+    private static String linkQuery(Collection<ORID> identities, String fetchPlan) {
+        StringJoiner query = new StringJoiner(", ", "SELECT FROM [", "]");
+        for (ORID identity : identities) {
+            query.add(identity.toString());
+        }
+        return query + ((fetchPlan == null) ? "" : " FETCHPLAN " + fetchPlan);
+    }
+
+    /**
+     * @return int Maximum Number of Linked Records Loaded by a single Query.
+     */
+    protected int getLinkBatchSize() {
+        return (environment == null) ? DEFAULT_LINK_BATCH_SIZE :
+                environment.getProperty(LINK_BATCH_SIZE_PROPERTY_NAME, Integer.class, DEFAULT_LINK_BATCH_SIZE);
+    }
+
+    /**
+     * Generate the Unique Identifier of an Entity, if not already set.
+     *
+     * @param entityMapping Entity Mapping
+     * @param entity        Entity
+     */
+    protected void ensureIdentifier(EntityMapping entityMapping, Object entity) {
+        PropertyAccessor identifier = entityMapping.getIdentifier();
+        if (identifier != null && identifier.getValue(entity) == null) {
+            identifier.setValue(entity, UUID.randomUUID().toString());
+        }
+    }
+
+    /**
+     * Obtain the Schema Entity Definitions of the Complete Domain Model, so no Mapping is Built
+     * and Cached from a Partial Model while an Asynchronous Schema Bootstrap is Scanning.
+     *
+     * @return List of Schema Entity Definitions.
+     */
+    protected List<SchemaEntity> getScannedDefinitions() {
+        if (!schemaEnforcer.isSchemaScanned()) {
+            throw new IllegalStateException("Domain Model has not been Scanned, Entity Mappings are Available " +
+                    "once Phase One of the Schema Bootstrap has Completed.");
+        }
+        return schemaEnforcer.getSchemaEntityDefinitions();
+    }
+
+    /**
+     * Build the Mapping for an Entity Class from the Scanned Schema Entity Definitions.
+     *
+     * @param entityClass Entity Class
+     * @return EntityMapping
+     */
+    protected EntityMapping buildEntityMapping(Class<?> entityClass) {
+        Map<Class, SchemaEntity> entitiesByClass = new HashMap<>();
+        for (SchemaEntity schemaEntity : getScannedDefinitions()) {
+            if (schemaEntity.isMappedEntity()) {
+                entitiesByClass.put(schemaEntity.getEntityClass(), schemaEntity);
+            }
+        }
+        SchemaEntity schemaEntity = entitiesByClass.get(entityClass);
+        if (schemaEntity == null) {
+            throw new IllegalArgumentException("Class: " + entityClass.getName() + " is not a Mapped Entity.");
+        }
+        EntityMapping entityMapping = EntityMapping.build(schemaEntity, entitiesByClass);
+        LOGGER.debug("Built {}", entityMapping);
+        return entityMapping;
+    }
+
+}
@@ -0,0 +1,135 @@
+package jeffaschenk.orientdb.mapping;
+
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import jeffaschenk.orientdb.schema.SchemaEntityProperty;
+import org.springframework.util.ClassUtils;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * PropertyAccessor
+ *
+ * Reads and Writes a single Mapped Field of an Entity, using Accessors Generated by the
+ * {@link AccessorFactory} once when the Entity Mapping is built, rather than per-call Reflection.
+ *
+ * @author jeffaschenk@gmail.com
+ */
+public final class PropertyAccessor {
+
+    private final int ordinal;
+
+    private final SchemaEntityProperty property;
+
+    private final Class<?> valueClass;
+
+    private final Function<Object, Object> getter;
+
+    private final BiConsumer<Object, Object> setter;
+
+    private PropertyAccessor(int ordinal, SchemaEntityProperty property,
+                             Function<Object, Object> getter, BiConsumer<Object, Object> setter) {
+        this.ordinal = ordinal;
+        this.property = property;
+        this.valueClass = ClassUtils.resolvePrimitiveIfNecessary(property.getPropertyClass());
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    /**
+     * Build the Accessor for a Property Descriptor.
+     *
+     * @param ordinal  Ordinal of the Property within its Entity Mapping.
+     * @param property Property Descriptor
+     * @return PropertyAccessor
+     */
+    protected static PropertyAccessor of(int ordinal, SchemaEntityProperty property) {
+        return new PropertyAccessor(ordinal, property,
+                AccessorFactory.getter(property.getField()), AccessorFactory.setter(property.getField()));
+    }
+
+    /**
+     * @return int Ordinal of the Property within its Entity Mapping.
+     */
+    public int getOrdinal() {
+        return ordinal;
+    }
+
+    public SchemaEntityProperty getProperty() {
+        return property;
+    }
+
+    public Function<Object, Object> getGetter() {
+        return getter;
+    }
+
+    public BiConsumer<Object, Object> getSetter() {
+        return setter;
+    }
+
+    /**
+     * @return String Name of the Persistent Property.
+     */
+    public String getPropertyName() {
+        return property.getPropertyName();
+    }
+
+    /**
+     * Obtain the Field Value of an Entity.
+     *
+     * @param entity Entity
+     * @return Object Field Value, may be null.
+     */
+    public Object getValue(Object entity) {
+        return getter.apply(entity);
+    }
+
+    /**
+     * Set the Field Value of an Entity.
+     *
+     * @param entity Entity
+     * @param value  Field Value
+     */
+    public void setValue(Object entity, Object value) {
+        setter.accept(entity, value);
+    }
+
+    /**
+     * Convert a Field Value to its Persistent Form.
+     *
+     * @param value Field Value
+     * @return Object Persistent Value
+     */
+    public Object toPersistentValue(Object value) {
+        if (value instanceof Enum) {
+            return ((Enum) value).name();
+        }
+        return value;
+    }
+
+    /**
+     * Convert a Persistent Value to the Field's Type.
+     *
+     * @param value Persistent Value
+     * @return Object Field Value
+     */
+    @SuppressWarnings("unchecked")
+    public Object fromPersistentValue(Object value) {
+        if (value == null || valueClass.isInstance(value)) {
+            return value;
+        }
+        if (valueClass.isEnum()) {
+            return Enum.valueOf((Class<Enum>) valueClass, value.toString());
+        }
+        return OType.convert(value, valueClass);
+    }
+
+    @Override
+    public String toString() {
+        return "PropertyAccessor{" +
+                "ordinal=" + ordinal +
+                ", field='" + property.getFieldName() + '\'' +
+                ", property='" + property.getPropertyName() + '\'' +
+                '}';
+    }
+}
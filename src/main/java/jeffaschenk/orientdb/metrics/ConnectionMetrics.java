@@ -0,0 +1,112 @@
+package jeffaschenk.orientdb.metrics;
+
+import jeffaschenk.orientdb.pool.DatabasePool;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ConnectionMetrics
+ *
+ * Pool and Query Metrics of a single Connection Type.
+ *
+ * @author jeffaschenk@gmail.com
+ */
+public final class ConnectionMetrics {
+
+    private final ConnectionType connectionType;
+
+    private final List<DatabasePool> pools = new CopyOnWriteArrayList<>();
+
+    private final LatencyHistogram acquireWait = new LatencyHistogram();
+
+    private final LongAdder acquireFailures = new LongAdder();
+
+    private final LatencyHistogram queryLatency = new LatencyHistogram();
+
+    private final LongAdder queryFailures = new LongAdder();
+
+    ConnectionMetrics(ConnectionType connectionType) {
+        this.connectionType = connectionType;
+    }
+
+    void addPool(DatabasePool pool) {
+        pools.add(pool);
+    }
+
+    public ConnectionType getConnectionType() {
+        return connectionType;
+    }
+
+    /**
+     * @return int Number of Connections currently Leased.
+     */
+    public int getLeasedCount() {
+        int leased = 0;
+        for (DatabasePool pool : pools) {
+            leased += pool.getLeasedCount();
+        }
+        return leased;
+    }
+
+    /**
+     * @return int Maximum Number of Connections.
+     */
+    public int getMaxSize() {
+        int maxSize = 0;
+        for (DatabasePool pool : pools) {
+            maxSize += pool.getMaxSize();
+        }
+        return maxSize;
+    }
+
+    /**
+     * @return double Fraction of the Maximum Number of Connections currently Leased.
+     */
+    public double getUtilization() {
+        int maxSize = getMaxSize();
+        return (maxSize == 0) ? 0 : (double) getLeasedCount() / maxSize;
+    }
+
+    /**
+     * @return LatencyHistogram of Time spent Acquiring Connections.
+     */
+    public LatencyHistogram getAcquireWait() {
+        return acquireWait;
+    }
+
+    public long getAcquireFailures() {
+        return acquireFailures.sum();
+    }
+
+    /**
+     * @return LatencyHistogram of Query Execution Time.
+     */
+    public LatencyHistogram getQueryLatency() {
+        return queryLatency;
+    }
+
+    public long getQueryFailures() {
+        return queryFailures.sum();
+    }
+
+    void acquireFailed() {
+        acquireFailures.increment();
+    }
+
+    void queryFailed() {
+        queryFailures.increment();
+    }
+
+    @Override
+    public String toString() {
+        return connectionType +
+                "{leased=" + getLeasedCount() + "/" + getMaxSize() +
+                ", acquireWait[" + acquireWait + "]" +
+                ", acquireFailures=" + getAcquireFailures() +
+                ", queryLatency[" + queryLatency + "]" +
+                ", queryFailures=" + getQueryFailures() +
+                '}';
+    }
+}
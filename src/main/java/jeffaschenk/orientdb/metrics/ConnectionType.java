@@ -0,0 +1,36 @@
+package jeffaschenk.orientdb.metrics;
+
+/**
+ * ConnectionType
+ *
+ * Kind of Connection obtained from the DataAccessFactory, by which Metrics are Keyed.
+ *
+ * @author jeffaschenk@gmail.com
+ */
+public enum ConnectionType {
+
+    /**
+     * Transactional Graph, getTx().
+     */
+    TX,
+
+    /**
+     * Non-Transactional Graph, getNoTx().
+     */
+    NO_TX,
+
+    /**
+     * Reader Document Database, getReader().
+     */
+    READER,
+
+    /**
+     * Root Document Database, getRoot().
+     */
+    ROOT,
+
+    /**
+     * Connection not obtained from the DataAccessFactory.
+     */
+    OTHER
+}
@@ -0,0 +1,54 @@
+package jeffaschenk.orientdb.metrics;
+
+import jeffaschenk.orientdb.pool.DatabasePool;
+
+/**
+ * DatabaseMetrics
+ *
+ * Metrics SPI of the DataAccessFactory. Define a Bean implementing this Interface to
+ * export Pool and Query Metrics to a Metrics Library, otherwise the
+ * {@link DefaultDatabaseMetrics} are used.
+ *
+ * Implementations are called upon the Acquiring and Querying Threads, so must be
+ * Thread Safe and should not Block.
+ *
+ * @author jeffaschenk@gmail.com
+ */
+public interface DatabaseMetrics {
+
+    /**
+     * A Pool serving a Connection Type has been Created, its Leased Count and Maximum
+     * Size may be Sampled at any time.
+     *
+     * @param connectionType Connection Type served by the Pool.
+     * @param pool           Pool
+     */
+    void poolCreated(ConnectionType connectionType, DatabasePool pool);
+
+    /**
+     * A Connection has been Acquired.
+     *
+     * @param connectionType Connection Type
+     * @param waitNanos      Time spent Acquiring the Connection.
+     */
+    void connectionAcquired(ConnectionType connectionType, long waitNanos);
+
+    /**
+     * Acquiring a Connection has Failed, or Timed Out.
+     *
+     * @param connectionType Connection Type
+     * @param waitNanos      Time spent before the Failure.
+     * @param cause          Failure
+     */
+    void connectionAcquireFailed(ConnectionType connectionType, long waitNanos, Throwable cause);
+
+    /**
+     * A Query has been Executed.
+     *
+     * @param connectionType Connection Type the Query was Executed upon.
+     * @param query          SQL Text of the Query.
+     * @param durationNanos  Time spent Executing the Query.
+     * @param failed         Indicator if the Query Failed.
+     */
+    void queryExecuted(ConnectionType connectionType, String query, long durationNanos, boolean failed);
+}
@@ -0,0 +1,78 @@
+package jeffaschenk.orientdb.metrics;
+
+import jeffaschenk.orientdb.pool.DatabasePool;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * DefaultDatabaseMetrics
+ *
+ * Metrics Implementation without Dependencies, holding the Metrics of each Connection Type
+ * in Memory to be Read through {@link #getConnectionMetrics(ConnectionType)} or Logged.
+ *
+ * @author jeffaschenk@gmail.com
+ */
+public class DefaultDatabaseMetrics implements DatabaseMetrics {
+
+    private final Map<ConnectionType, ConnectionMetrics> connectionMetrics;
+
+    public DefaultDatabaseMetrics() {
+        Map<ConnectionType, ConnectionMetrics> metrics = new EnumMap<>(ConnectionType.class);
+        for (ConnectionType connectionType : ConnectionType.values()) {
+            metrics.put(connectionType, new ConnectionMetrics(connectionType));
+        }
+        this.connectionMetrics = Collections.unmodifiableMap(metrics);
+    }
+
+    @Override
+    public void poolCreated(ConnectionType connectionType, DatabasePool pool) {
+        connectionMetrics.get(connectionType).addPool(pool);
+    }
+
+    @Override
+    public void connectionAcquired(ConnectionType connectionType, long waitNanos) {
+        connectionMetrics.get(connectionType).getAcquireWait().record(waitNanos);
+    }
+
+    @Override
+    public void connectionAcquireFailed(ConnectionType connectionType, long waitNanos, Throwable cause) {
+        connectionMetrics.get(connectionType).acquireFailed();
+    }
+
+    @Override
+    public void queryExecuted(ConnectionType connectionType, String query, long durationNanos, boolean failed) {
+        ConnectionMetrics metrics = connectionMetrics.get(connectionType);
+        metrics.getQueryLatency().record(durationNanos);
+        if (failed) {
+            metrics.queryFailed();
+        }
+    }
+
+    /**
+     * @param connectionType Connection Type
+     * @return ConnectionMetrics of the Connection Type.
+     */
+    public ConnectionMetrics getConnectionMetrics(ConnectionType connectionType) {
+        return connectionMetrics.get(connectionType);
+    }
+
+    /**
+     * @return Map of Metrics by Connection Type.
+     */
+    public Map<ConnectionType, ConnectionMetrics> getConnectionMetrics() {
+        return connectionMetrics;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("DatabaseMetrics:");
+        for (ConnectionMetrics metrics : connectionMetrics.values()) {
+            if (metrics.getMaxSize() > 0 || metrics.getQueryLatency().getCount() > 0) {
+                sb.append("\n  ").append(metrics);
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,134 @@
+package jeffaschenk.orientdb.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * LatencyHistogram
+ *
+ * Lock Free Histogram of Latencies, counted in fixed Millisecond Buckets.
+ * Percentiles are reported as the Upper Bound of the Bucket they fall in.
+ *
+ * @author jeffaschenk@gmail.com
+ */
+public final class LatencyHistogram {
+
+    /**
+     * Upper Bounds of each Bucket in Milliseconds, a final Bucket counts all Latencies above the last Bound.
+     */
+    private static final long[] BUCKET_BOUNDS_MS =
+            {1, 2, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000, 30000};
+
+    private final LongAdder[] buckets = new LongAdder[BUCKET_BOUNDS_MS.length + 1];
+
+    private final LongAdder count = new LongAdder();
+
+    private final LongAdder totalNanos = new LongAdder();
+
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    public LatencyHistogram() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Record a Latency.
+     *
+     * @param nanos Latency in Nanoseconds.
+     */
+    public void record(long nanos) {
+        long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+        int bucket = 0;
+        while (bucket < BUCKET_BOUNDS_MS.length && millis > BUCKET_BOUNDS_MS[bucket]) {
+            bucket++;
+        }
+        buckets[bucket].increment();
+        count.increment();
+        totalNanos.add(nanos);
+        long max = maxNanos.get();
+        while (nanos > max && !maxNanos.compareAndSet(max, nanos)) {
+            max = maxNanos.get();
+        }
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * @return double Mean Latency in Milliseconds.
+     */
+    public double getMeanMs() {
+        long samples = count.sum();
+        return (samples == 0) ? 0 : totalNanos.sum() / (samples * 1_000_000.0);
+    }
+
+    /**
+     * @return double Maximum Latency in Milliseconds.
+     */
+    public double getMaxMs() {
+        return maxNanos.get() / 1_000_000.0;
+    }
+
+    /**
+     * Approximate a Percentile.
+     *
+     * @param percentile Percentile, between 0 and 100.
+     * @return long Upper Bound in Milliseconds of the Bucket holding the Percentile,
+     * or -1 if above the last Bound.
+     */
+    public long getPercentileMs(double percentile) {
+        long[] counts = getBucketCounts();
+        long samples = 0;
+        for (long bucketCount : counts) {
+            samples += bucketCount;
+        }
+        if (samples == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(samples * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_BOUNDS_MS.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return BUCKET_BOUNDS_MS[i];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return long Array of Bucket Upper Bounds in Milliseconds.
+     */
+    public static long[] getBucketBoundsMs() {
+        return BUCKET_BOUNDS_MS.clone();
+    }
+
+    /**
+     * @return long Array of Counts per Bucket, the last Bucket counts Latencies above the last Bound.
+     */
+    public long[] getBucketCounts() {
+        long[] counts = new long[buckets.length];
+        for (int i = 0; i < buckets.length; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        return counts;
+    }
+
+    @Override
+    public String toString() {
+        return "count=" + getCount() +
+                ", mean=" + String.format("%.2f", getMeanMs()) + "ms" +
+                ", p50=" + formatPercentile(50) +
+                ", p99=" + formatPercentile(99) +
+                ", max=" + String.format("%.2f", getMaxMs()) + "ms";
+    }
+
+    private String formatPercentile(double percentile) {
+        long bound = getPercentileMs(percentile);
+        return (bound < 0) ? ">" + BUCKET_BOUNDS_MS[BUCKET_BOUNDS_MS.length - 1] + "ms" : "<=" + bound + "ms";
+    }
+}
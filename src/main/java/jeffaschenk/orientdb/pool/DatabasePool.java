@@ -0,0 +1,86 @@
+package jeffaschenk.orientdb.pool;
+
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.tinkerpop.blueprints.impls.orient.OrientGraph;
+import com.tinkerpop.blueprints.impls.orient.OrientGraphNoTx;
+
+/**
+ * DatabasePool
+ *
+ * Source of pooled Connections, which are returned to the Pool when Closed.
+ * Graph Instances obtained from {@link #getTx()} and {@link #getNoTx()} hold a pooled
+ * Connection until they are Shutdown.
+ *
+ * @author jeffaschenk@gmail.com
+ */
+public interface DatabasePool extends AutoCloseable {
+
+    /**
+     * Acquire a Connection, which must be Closed to return it to the Pool.
+     *
+     * @return ODatabaseDocumentTx pooled Connection.
+     * @throws IllegalStateException if no Connection becomes available within the Acquire Timeout.
+     */
+    ODatabaseDocumentTx acquire();
+
+    /**
+     * Change the Minimum and Maximum Size of the Pool while in use.
+     *
+     * @param minSize New Minimum Size.
+     * @param maxSize New Maximum Size.
+     */
+    void resize(int minSize, int maxSize);
+
+    String getName();
+
+    /**
+     * @return int Number of Connections currently Leased.
+     */
+    int getLeasedCount();
+
+    /**
+     * @return int Maximum Number of Connections.
+     */
+    int getMaxSize();
+
+    /**
+     * Determine if a Connection is currently Leased from this Pool.
+     *
+     * @param db Connection
+     * @return boolean indicator if Leased or not.
+     */
+    boolean isLeased(ODatabaseDocumentTx db);
+
+    @Override
+    void close();
+
+    /**
+     * Obtain a Transactional Graph upon a pooled Connection.
+     *
+     * @return OrientGraph
+     */
+    default OrientGraph getTx() {
+        ODatabaseDocumentTx db = acquire();
+        try {
+            return new OrientGraph(db);
+        } catch (RuntimeException e) {
+            db.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Obtain a Non-Transactional Graph upon a pooled Connection.
+     *
+     * @return OrientGraphNoTx
+     */
+    default OrientGraphNoTx getNoTx() {
+        ODatabaseDocumentTx db = acquire();
+        try {
+            return new OrientGraphNoTx(db);
+        } catch (RuntimeException e) {
+            db.close();
+            throw e;
+        }
+    }
+}
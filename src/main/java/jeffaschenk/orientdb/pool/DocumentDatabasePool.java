@@ -0,0 +1,510 @@
+package jeffaschenk.orientdb.pool;
+
+import com.orientechnologies.orient.core.command.OCommandExecutor;
+import com.orientechnologies.orient.core.command.OCommandRequestText;
+import com.orientechnologies.orient.core.db.ODatabase;
+import com.orientechnologies.orient.core.db.ODatabaseListener;
+import com.orientechnologies.orient.core.db.OPartitionedDatabasePool;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * DocumentDatabasePool
+ *
+ * Bounded Pool of Document API Connections, backed by an {@link OPartitionedDatabasePool}.
+ *
+ * + Acquiring a Connection waits at most the Acquire Timeout for a free Connection,
+ *   rather than blocking indefinitely.
+ * + Closing a Connection returns it to the Pool, a Listener upon each pooled Connection
+ *   releases its Lease.
+ * + Leases held longer than the Leak Detection Threshold are Logged, with the Stack of
+ *   the Acquiring Thread.
+ * + A Thread which already holds a Connection is given the same Connection again, as
+ *   the underlying Pool does, without taking another Lease.
+ * + Once the Pool has been Idle for the Idle Timeout, its Connections are Closed and
+ *   the Minimum Size Reopened, as the underlying Pool cannot Close single Connections.
+ * + The Minimum and Maximum Size can be changed while the Pool is in use.
+ *
+
+ * @author jeffaschenk@gmail.com
+ */
+public class DocumentDatabasePool implements DatabasePool {
+
+    /**
+     * Common Logger
+     */
+    protected final static org.slf4j.Logger LOGGER =
+            LoggerFactory.getLogger(DocumentDatabasePool.class);
+
+    private static final AtomicInteger POOL_THREAD_NUMBER = new AtomicInteger();
+
+    private final String name;
+
+    private final String url;
+
+    private final Supplier<OPartitionedDatabasePool> poolFactory;
+
+    /**
+     * Current underlying Pool, replaced when Idle Connections are Evicted.
+     */
+    private volatile OPartitionedDatabasePool pool;
+
+    /**
+     * Held for Read while Acquiring, for Write while replacing the underlying Pool.
+     */
+    private final ReadWriteLock poolLock = new ReentrantReadWriteLock();
+
+    private volatile PoolSettings settings;
+
+    private final ResizableSemaphore permits;
+
+    private volatile long lastActivity = System.currentTimeMillis();
+
+    /**
+     * Current Leases by Connection.
+     */
+    private final Map<ODatabaseDocumentTx, Lease> leases = new IdentityHashMap<>();
+
+    /**
+     * Connections upon which our Listener has been Registered.
+     */
+    private final Set<ODatabaseDocumentTx> listenedConnections =
+            Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Connection held by the Current Thread.
+     */
+    private final ThreadLocal<ODatabaseDocumentTx> heldConnection = new ThreadLocal<>();
+
+    private final ODatabaseListener releaseListener = new ReleaseListener();
+
+    /**
+     * Leak Detection and Idle Eviction.
+     */
+    private final ScheduledExecutorService maintenance;
+
+    /**
+     * Create a Pool.
+     *
+     * The underlying Pool is not bounded itself, the Maximum Size is enforced by our
+     * Leases so that it can be changed while the Pool is in use.
+     *
+     * @param name     Name of the Pool, used for Logging.
+     * @param url      Database URL.
+     * @param userName Database User Name.
+     * @param password Database Password.
+     * @param settings Sizing and Timeouts of the Pool.
+     */
+    public DocumentDatabasePool(String name, String url, String userName, String password, PoolSettings settings) {
+        this(name, url, () -> new OPartitionedDatabasePool(url, userName, password, settings.getMaxSize(), 0),
+                settings);
+    }
+
+    /**
+     * Create a Pool upon Partitioned Pools obtained from a Factory.
+     */
+    protected DocumentDatabasePool(String name, String url, Supplier<OPartitionedDatabasePool> poolFactory,
+                                   PoolSettings settings) {
+        this.name = name;
+        this.url = url;
+        this.poolFactory = poolFactory;
+        this.pool = poolFactory.get();
+        this.settings = settings;
+        this.permits = new ResizableSemaphore(settings.getMaxSize());
+        long leakDetectionThresholdMs = settings.getLeakDetectionThresholdMs();
+        long idleTimeoutMs = settings.getIdleTimeoutMs();
+        if (leakDetectionThresholdMs > 0 || idleTimeoutMs > 0) {
+            this.maintenance = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "odb-pool-" + name + "-" + POOL_THREAD_NUMBER.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            if (leakDetectionThresholdMs > 0) {
+                long interval = Math.max(1000L, leakDetectionThresholdMs / 2);
+                this.maintenance.scheduleWithFixedDelay(this::detectLeaks, interval, interval, TimeUnit.MILLISECONDS);
+            }
+            if (idleTimeoutMs > 0) {
+                long interval = Math.max(1000L, idleTimeoutMs / 2);
+                this.maintenance.scheduleWithFixedDelay(this::evictIdle, interval, interval, TimeUnit.MILLISECONDS);
+            }
+        } else {
+            this.maintenance = null;
+        }
+        LOGGER.info("Database Pool '{}' Created for: {}, {}", name, url, settings);
+    }
+
+    /**
+     * Acquire a Connection, which must be Closed to return it to the Pool.
+     *
+     * @return ODatabaseDocumentTx pooled Connection.
+     * @throws IllegalStateException if no Connection becomes available within the Acquire Timeout.
+     */
+    @Override
+    public ODatabaseDocumentTx acquire() {
+        /**
+         * Is this Thread already holding a Connection?
+         */
+        ODatabaseDocumentTx held = heldConnection.get();
+        if (held != null && isLeasedByCurrentThread(held)) {
+            return pool.acquire();
+        }
+        long acquireTimeoutMs = settings.getAcquireTimeoutMs();
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("Timed out after " + acquireTimeoutMs +
+                        "ms waiting for a Connection from Database Pool '" + name + "': " + url);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for a Connection from Database Pool '" +
+                    name + "': " + url, e);
+        }
+        ODatabaseDocumentTx db;
+        poolLock.readLock().lock();
+        try {
+            try {
+                db = pool.acquire();
+            } catch (RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+            synchronized (leases) {
+                if (listenedConnections.add(db)) {
+                    db.registerListener(releaseListener);
+                }
+                leases.put(db, new Lease(settings.getLeakDetectionThresholdMs() > 0));
+            }
+        } finally {
+            poolLock.readLock().unlock();
+        }
+        lastActivity = System.currentTimeMillis();
+        heldConnection.set(db);
+        return db;
+    }
+
+    /**
+     * Open the larger of the Minimum and Warm Up Size of Connections ahead of Demand.
+     */
+    public void warmUp() {
+        PoolSettings current = settings;
+        warmUp(Math.max(current.getMinSize(), current.getWarmUpSize()));
+    }
+
+    /**
+     * Open Connections ahead of Demand, each upon its own Thread, as the underlying
+     * Pool keeps a Partition of Connections per Thread.
+     *
+     * @param minSize Number of Connections to Open.
+     */
+    public void warmUp(int minSize) {
+        long acquireTimeoutMs = settings.getAcquireTimeoutMs();
+        int size = Math.min(minSize, settings.getMaxSize());
+        if (size < 1) {
+            return;
+        }
+        ExecutorService executorService = Executors.newFixedThreadPool(size);
+        CountDownLatch acquired = new CountDownLatch(size);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                futures.add(executorService.submit(() -> {
+                    ODatabaseDocumentTx db = acquire();
+                    try {
+                        acquired.countDown();
+                        acquired.await(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+                    } finally {
+                        db.close();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            LOGGER.info("Database Pool '{}' Warmed Up with {} Connections.", name, size);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            LOGGER.warn("Database Pool '{}' Warm Up Failed: {}", name, e.getCause().getMessage());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * Release the Lease of a Connection, once Closed.
+     *
+     * @param db Connection
+     */
+    protected void release(ODatabaseDocumentTx db) {
+        Lease lease;
+        synchronized (leases) {
+            lease = leases.remove(db);
+        }
+        if (lease != null) {
+            permits.release();
+            if (heldConnection.get() == db) {
+                heldConnection.remove();
+            }
+            lastActivity = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Change the Minimum and Maximum Size of the Pool while in use.
+     *
+     * Shrinking the Maximum does not Close Leased Connections, new Leases wait until
+     * enough have been Released. Growing the Minimum Opens Connections immediately.
+     *
+     * @param minSize New Minimum Size.
+     * @param maxSize New Maximum Size.
+     */
+    @Override
+    public synchronized void resize(int minSize, int maxSize) {
+        PoolSettings previous = settings;
+        PoolSettings resized = previous.resize(minSize, maxSize);
+        int delta = resized.getMaxSize() - previous.getMaxSize();
+        if (delta > 0) {
+            permits.release(delta);
+        } else if (delta < 0) {
+            permits.reducePermits(-delta);
+        }
+        settings = resized;
+        LOGGER.info("Database Pool '{}' Resized from Minimum: {}, Maximum: {} to Minimum: {}, Maximum: {}",
+                name, previous.getMinSize(), previous.getMaxSize(), minSize, maxSize);
+        if (minSize > previous.getMinSize()) {
+            warmUp(minSize);
+        }
+    }
+
+    /**
+     * Evict Idle Connections, once no Connection has been Leased for the Idle Timeout,
+     * by replacing the underlying Pool and Reopening the Minimum Size.
+     */
+    protected void evictIdle() {
+        PoolSettings current = settings;
+        if (current.getIdleTimeoutMs() <= 0 ||
+                System.currentTimeMillis() - lastActivity < current.getIdleTimeoutMs()) {
+            return;
+        }
+        OPartitionedDatabasePool evicted;
+        poolLock.writeLock().lock();
+        try {
+            if (getLeasedCount() > 0 || pool.getCreatedInstances() <= current.getMinSize()) {
+                return;
+            }
+            evicted = pool;
+            pool = poolFactory.get();
+            synchronized (leases) {
+                listenedConnections.clear();
+            }
+        } finally {
+            poolLock.writeLock().unlock();
+        }
+        int evictedCount = evicted.getCreatedInstances();
+        evicted.close();
+        lastActivity = System.currentTimeMillis();
+        LOGGER.info("Database Pool '{}' Idle for over {}ms, Evicted {} Connections.",
+                name, current.getIdleTimeoutMs(), evictedCount);
+        warmUp(current.getMinSize());
+    }
+
+    /**
+     * @return boolean indicator if the Current Thread holds a Connection of this Pool.
+     */
+    public boolean isHeldByCurrentThread() {
+        ODatabaseDocumentTx held = heldConnection.get();
+        return held != null && isLeasedByCurrentThread(held);
+    }
+
+    @Override
+    public boolean isLeased(ODatabaseDocumentTx db) {
+        synchronized (leases) {
+            return leases.containsKey(db);
+        }
+    }
+
+    private boolean isLeasedByCurrentThread(ODatabaseDocumentTx db) {
+        synchronized (leases) {
+            Lease lease = leases.get(db);
+            return lease != null && lease.thread == Thread.currentThread();
+        }
+    }
+
+    /**
+     * Log Leases held longer than the Leak Detection Threshold, once per Lease.
+     */
+    protected void detectLeaks() {
+        long now = System.currentTimeMillis();
+        long leakDetectionThresholdMs = settings.getLeakDetectionThresholdMs();
+        List<Lease> leaked = new ArrayList<>();
+        synchronized (leases) {
+            for (Lease lease : leases.values()) {
+                if (!lease.reported && now - lease.acquiredAt > leakDetectionThresholdMs) {
+                    lease.reported = true;
+                    leaked.add(lease);
+                }
+            }
+        }
+        for (Lease lease : leaked) {
+            LOGGER.warn("Database Pool '{}' Connection held for {}ms by Thread '{}', Possible Leak, Acquired at:",
+                    name, now - lease.acquiredAt, lease.threadName, lease.acquiredStack);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    public int getMinSize() {
+        return settings.getMinSize();
+    }
+
+    @Override
+    public int getMaxSize() {
+        return settings.getMaxSize();
+    }
+
+    public PoolSettings getSettings() {
+        return settings;
+    }
+
+    /**
+     * @return int Number of Connections currently Leased.
+     */
+    @Override
+    public int getLeasedCount() {
+        synchronized (leases) {
+            return leases.size();
+        }
+    }
+
+    /**
+     * @return int Number of Connections which can be Acquired without Waiting.
+     */
+    public int getAvailableCount() {
+        return Math.max(0, permits.availablePermits());
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    @Override
+    public void close() {
+        if (maintenance != null) {
+            maintenance.shutdownNow();
+        }
+        int leased = getLeasedCount();
+        if (leased > 0) {
+            LOGGER.warn("Database Pool '{}' Closing with {} Connections still Leased.", name, leased);
+        }
+        pool.close();
+    }
+
+    /**
+     * ResizableSemaphore
+     * Exposes the Reduction of Permits, to Shrink the Pool.
+     */
+    private static class ResizableSemaphore extends Semaphore {
+
+        private static final long serialVersionUID = 1L;
+
+        ResizableSemaphore(int permits) {
+            super(permits, true);
+        }
+
+        @Override
+        protected void reducePermits(int reduction) {
+            super.reducePermits(reduction);
+        }
+    }
+
+    /**
+     * Lease
+     * Acquisition of a Connection.
+     */
+    private static class Lease {
+
+        private final long acquiredAt = System.currentTimeMillis();
+
+        private final Thread thread = Thread.currentThread();
+
+        private final String threadName = thread.getName();
+
+        private final Throwable acquiredStack;
+
+        private boolean reported;
+
+        Lease(boolean captureStack) {
+            this.acquiredStack = captureStack ? new Throwable("Connection Acquired") : null;
+        }
+    }
+
+    /**
+     * ReleaseListener
+     * Releases the Lease of a pooled Connection when it is Closed.
+     */
+    private class ReleaseListener implements ODatabaseListener {
+
+        @Override
+        public void onClose(ODatabase iDatabase) {
+            if (iDatabase instanceof ODatabaseDocumentTx) {
+                release((ODatabaseDocumentTx) iDatabase);
+            }
+        }
+
+        @Override
+        public void onCreate(ODatabase iDatabase) {
+        }
+
+        @Override
+        public void onDelete(ODatabase iDatabase) {
+        }
+
+        @Override
+        public void onOpen(ODatabase iDatabase) {
+        }
+
+        @Override
+        public void onBeforeTxBegin(ODatabase iDatabase) {
+        }
+
+        @Override
+        public void onBeforeTxRollback(ODatabase iDatabase) {
+        }
+
+        @Override
+        public void onAfterTxRollback(ODatabase iDatabase) {
+        }
+
+        @Override
+        public void onBeforeTxCommit(ODatabase iDatabase) {
+        }
+
+        @Override
+        public void onAfterTxCommit(ODatabase iDatabase) {
+        }
+
+        @Override
+        public void onBeforeCommand(OCommandRequestText iCommand, OCommandExecutor executor) {
+        }
+
+        @Override
+        public void onAfterCommand(OCommandRequestText iCommand, OCommandExecutor executor, Object result) {
+        }
+
+        @Override
+        public boolean onCorruptionRepairDatabase(ODatabase iDatabase, String iReason, String iWhatWillbeFixed) {
+            return false;
+        }
+    }
+}
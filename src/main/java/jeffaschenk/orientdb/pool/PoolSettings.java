@@ -0,0 +1,99 @@
+package jeffaschenk.orientdb.pool;
+
+/**
+ * PoolSettings
+ *
+ * Sizing and Timeouts of a {@link DocumentDatabasePool}.
+ *
+ * @author jeffaschenk@gmail.com
+ */
+public final class PoolSettings {
+
+    private final int minSize;
+
+    private final int maxSize;
+
+    private final int warmUpSize;
+
+    private final long acquireTimeoutMs;
+
+    private final long idleTimeoutMs;
+
+    private final long leakDetectionThresholdMs;
+
+    /**
+     * Create Pool Settings.
+     *
+     * @param minSize                  Minimum Number of Connections kept Open, once Idle Connections are Evicted.
+     * @param maxSize                  Maximum Number of Connections.
+     * @param warmUpSize               Number of Connections Opened at Startup.
+     * @param acquireTimeoutMs         Maximum Time to wait for a Connection.
+     * @param idleTimeoutMs            Time a Pool must be Idle before its Connections beyond the Minimum are Evicted, 0 to Disable.
+     * @param leakDetectionThresholdMs Lease Time after which a Connection is reported as Leaked, 0 to Disable.
+     */
+    public PoolSettings(int minSize, int maxSize, int warmUpSize,
+                        long acquireTimeoutMs, long idleTimeoutMs, long leakDetectionThresholdMs) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Pool Maximum Size must be Positive: " + maxSize);
+        }
+        if (minSize < 0 || minSize > maxSize) {
+            throw new IllegalArgumentException("Pool Minimum Size must be between 0 and " + maxSize + ": " + minSize);
+        }
+        if (acquireTimeoutMs < 0 || idleTimeoutMs < 0 || leakDetectionThresholdMs < 0) {
+            throw new IllegalArgumentException("Pool Timeouts must not be Negative.");
+        }
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.warmUpSize = Math.max(0, Math.min(warmUpSize, maxSize));
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.idleTimeoutMs = idleTimeoutMs;
+        this.leakDetectionThresholdMs = leakDetectionThresholdMs;
+    }
+
+    /**
+     * Copy these Settings with a new Minimum and Maximum Size.
+     *
+     * @param minSize New Minimum Size.
+     * @param maxSize New Maximum Size.
+     * @return PoolSettings
+     */
+    public PoolSettings resize(int minSize, int maxSize) {
+        return new PoolSettings(minSize, maxSize, warmUpSize, acquireTimeoutMs, idleTimeoutMs, leakDetectionThresholdMs);
+    }
+
+    public int getMinSize() {
+        return minSize;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public int getWarmUpSize() {
+        return warmUpSize;
+    }
+
+    public long getAcquireTimeoutMs() {
+        return acquireTimeoutMs;
+    }
+
+    public long getIdleTimeoutMs() {
+        return idleTimeoutMs;
+    }
+
+    public long getLeakDetectionThresholdMs() {
+        return leakDetectionThresholdMs;
+    }
+
+    @Override
+    public String toString() {
+        return "PoolSettings{" +
+                "minSize=" + minSize +
+                ", maxSize=" + maxSize +
+                ", warmUpSize=" + warmUpSize +
+                ", acquireTimeoutMs=" + acquireTimeoutMs +
+                ", idleTimeoutMs=" + idleTimeoutMs +
+                ", leakDetectionThresholdMs=" + leakDetectionThresholdMs +
+                '}';
+    }
+}
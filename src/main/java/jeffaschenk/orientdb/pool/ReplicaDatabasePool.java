@@ -0,0 +1,234 @@
+package jeffaschenk.orientdb.pool;
+
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ReplicaDatabasePool
+ *
+ * Balances Leases Round Robin across the Pools of several Read Replicas.
+ *
+ * + A Replica whose Connection fails is marked Unhealthy and skipped, the Lease
+ *   is retried upon the next Healthy Replica.
+ * + Each Replica is Probed at the Health Check Interval, an Unhealthy Replica is
+ *   returned to Rotation once its Probe succeeds.
+ * + When no Replica is available, Leases Fail Over to the Primary Pool.
+ * + A Thread which already holds a Connection of a Replica is given that Replica again,
+ *   so nested Leases share a Connection as they would with a single Pool.
+ *
+ * The Primary Pool is not Owned, and so not Closed, by this Pool.
+ *
+ * @author jeffaschenk@gmail.com
+ */
+public class ReplicaDatabasePool implements DatabasePool {
+
+    /**
+     * Common Logger
+     */
+    protected final static org.slf4j.Logger LOGGER =
+            LoggerFactory.getLogger(ReplicaDatabasePool.class);
+
+    private static final AtomicInteger HEALTH_CHECK_THREAD_NUMBER = new AtomicInteger();
+
+    private final String name;
+
+    private final List<Replica> replicas;
+
+    private final DatabasePool primary;
+
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    private final ScheduledExecutorService healthChecker;
+
+    /**
+     * Create a Pool across Replicas.
+     *
+     * @param name                  Name of the Pool, used for Logging.
+     * @param replicaPools          Pools of each Replica.
+     * @param primary               Pool Failed Over to when no Replica is available.
+     * @param healthCheckIntervalMs Interval at which Replicas are Probed, 0 to Disable.
+     */
+    public ReplicaDatabasePool(String name, List<DocumentDatabasePool> replicaPools, DatabasePool primary,
+                               long healthCheckIntervalMs) {
+        if (replicaPools.isEmpty()) {
+            throw new IllegalArgumentException("Replica Database Pool '" + name + "' requires at least one Replica.");
+        }
+        this.name = name;
+        this.primary = primary;
+        List<Replica> replicaList = new ArrayList<>(replicaPools.size());
+        for (DocumentDatabasePool replicaPool : replicaPools) {
+            replicaList.add(new Replica(replicaPool));
+        }
+        this.replicas = Collections.unmodifiableList(replicaList);
+        if (healthCheckIntervalMs > 0) {
+            this.healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "odb-pool-" + name + "-health-" +
+                        HEALTH_CHECK_THREAD_NUMBER.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.healthChecker.scheduleWithFixedDelay(this::checkHealth,
+                    healthCheckIntervalMs, healthCheckIntervalMs, TimeUnit.MILLISECONDS);
+        } else {
+            this.healthChecker = null;
+        }
+        LOGGER.info("Replica Database Pool '{}' Created across {} Replicas, Primary: '{}'",
+                name, replicas.size(), primary.getName());
+    }
+
+    @Override
+    public ODatabaseDocumentTx acquire() {
+        /**
+         * Stay upon the Replica already held by this Thread.
+         */
+        for (Replica replica : replicas) {
+            if (replica.pool.isHeldByCurrentThread()) {
+                return replica.pool.acquire();
+            }
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), size);
+        IllegalStateException timedOut = null;
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                return replica.pool.acquire();
+            } catch (IllegalStateException e) {
+                /**
+                 * Timed out, the Replica is Busy rather than Unhealthy.
+                 */
+                timedOut = e;
+            } catch (RuntimeException e) {
+                markUnhealthy(replica, e);
+            }
+        }
+        if (timedOut != null) {
+            throw timedOut;
+        }
+        LOGGER.debug("Replica Database Pool '{}' has no Healthy Replica, Failing Over to Primary '{}'",
+                name, primary.getName());
+        return primary.acquire();
+    }
+
+    /**
+     * Probe each Replica, updating its Health.
+     */
+    protected void checkHealth() {
+        for (Replica replica : replicas) {
+            try (ODatabaseDocumentTx db = replica.pool.acquire()) {
+                db.reload();
+                if (!replica.healthy) {
+                    replica.healthy = true;
+                    LOGGER.info("Replica Database Pool '{}' Replica '{}' is Healthy, returned to Rotation.",
+                            name, replica.pool.getUrl());
+                }
+            } catch (IllegalStateException e) {
+                /**
+                 * Timed out, the Replica is Busy rather than Unhealthy.
+                 */
+            } catch (RuntimeException e) {
+                markUnhealthy(replica, e);
+            }
+        }
+    }
+
+    private void markUnhealthy(Replica replica, RuntimeException cause) {
+        if (replica.healthy) {
+            replica.healthy = false;
+            LOGGER.warn("Replica Database Pool '{}' Replica '{}' is Unhealthy, removed from Rotation: {}",
+                    name, replica.pool.getUrl(), cause.getMessage());
+        }
+    }
+
+    /**
+     * @return int Number of Replicas currently in Rotation.
+     */
+    public int getHealthyCount() {
+        int healthy = 0;
+        for (Replica replica : replicas) {
+            if (replica.healthy) {
+                healthy++;
+            }
+        }
+        return healthy;
+    }
+
+    /**
+     * Resize the Pool of each Replica.
+     */
+    @Override
+    public void resize(int minSize, int maxSize) {
+        for (Replica replica : replicas) {
+            replica.pool.resize(minSize, maxSize);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public int getLeasedCount() {
+        int leased = 0;
+        for (Replica replica : replicas) {
+            leased += replica.pool.getLeasedCount();
+        }
+        return leased;
+    }
+
+    @Override
+    public int getMaxSize() {
+        int maxSize = 0;
+        for (Replica replica : replicas) {
+            maxSize += replica.pool.getMaxSize();
+        }
+        return maxSize;
+    }
+
+    @Override
+    public boolean isLeased(ODatabaseDocumentTx db) {
+        for (Replica replica : replicas) {
+            if (replica.pool.isLeased(db)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void close() {
+        if (healthChecker != null) {
+            healthChecker.shutdownNow();
+        }
+        for (Replica replica : replicas) {
+            replica.pool.close();
+        }
+    }
+
+    /**
+     * Replica
+     * Pool of a Replica and its Health.
+     */
+    private static class Replica {
+
+        private final DocumentDatabasePool pool;
+
+        private volatile boolean healthy = true;
+
+        Replica(DocumentDatabasePool pool) {
+            this.pool = pool;
+        }
+    }
+}
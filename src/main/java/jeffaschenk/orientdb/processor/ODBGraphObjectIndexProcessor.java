@@ -0,0 +1,194 @@
+package jeffaschenk.orientdb.processor;
+
+import jeffaschenk.orientdb.annotations.ODBGraphObject;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.FilerException;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * ODBGraphObjectIndexProcessor
+ *
+ * Compile time Annotation Processor which records every Class mapped by an
+ * {@link ODBGraphObject} Annotation, either directly or through its Inheritance Chain,
+ * into a generated Entity Index Resource.
+ *
+ * At Runtime the Schema Enforcer will load the Entity Index and resolve only the listed
+ * Classes, instead of walking and loading every Class found within the Entity Package.
+ *
+ * @author jeffaschenk@gmail.com
+ */
+@SupportedAnnotationTypes("*")
+public class ODBGraphObjectIndexProcessor extends AbstractProcessor {
+
+    /**
+     * Location of the generated Entity Index Resource.
+     */
+    public static final String ENTITY_INDEX_RESOURCE =
+            "META-INF/orientdb/entity.index";
+
+    /**
+     * Comment prefix used within the Entity Index Resource.
+     */
+    public static final String ENTITY_INDEX_COMMENT = "#";
+
+    /**
+     * Binary Class Names of all Mapped Entities found during all Rounds.
+     */
+    private final Set<String> mappedEntities = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            if (!mappedEntities.isEmpty()) {
+                writeEntityIndex();
+            }
+            return false;
+        }
+        for (Element element : roundEnv.getRootElements()) {
+            collectMappedEntities(element);
+        }
+        /**
+         * Never claim the Annotations, other Processors may need them.
+         */
+        return false;
+    }
+
+    /**
+     * Recursion helper to collect Mapped Entities, including any Nested Classes.
+     *
+     * @param element Element to be inspected.
+     */
+    private void collectMappedEntities(Element element) {
+        if (!(element.getKind().equals(ElementKind.CLASS))) {
+            return;
+        }
+        TypeElement typeElement = (TypeElement) element;
+        if (isMappedEntity(typeElement)) {
+            mappedEntities.add(processingEnv.getElementUtils().getBinaryName(typeElement).toString());
+        }
+        for (Element enclosed : typeElement.getEnclosedElements()) {
+            collectMappedEntities(enclosed);
+        }
+    }
+
+    /**
+     * Determine if the Type, or any Type within its Inheritance Chain is Annotated
+     * as a Graph Object, Directly or through a Composed Annotation, same rules as
+     * applied by the Runtime Package Scan.
+     *
+     * @param typeElement Type to be inspected.
+     * @return boolean indicator if Type is a Mapped Entity.
+     */
+    private boolean isMappedEntity(TypeElement typeElement) {
+        TypeElement current = typeElement;
+        while (current != null) {
+            if (current.getAnnotation(ODBGraphObject.class) != null ||
+                    isMetaAnnotated(current, new HashSet<>())) {
+                return true;
+            }
+            TypeMirror superclass = current.getSuperclass();
+            if (superclass == null || superclass.getKind() != TypeKind.DECLARED) {
+                return false;
+            }
+            current = (TypeElement) ((DeclaredType) superclass).asElement();
+        }
+        return false;
+    }
+
+    /**
+     * Determine if any Annotation upon the Element is a Composed Annotation,
+     * Meta-Annotated as a Graph Object at any Depth.
+     *
+     * @param element Element to be inspected.
+     * @param visited Annotation Types already inspected, Annotations may Annotate each other.
+     * @return boolean indicator if the Element is Meta-Annotated.
+     */
+    private boolean isMetaAnnotated(Element element, Set<String> visited) {
+        for (AnnotationMirror annotationMirror : element.getAnnotationMirrors()) {
+            Element annotationType = annotationMirror.getAnnotationType().asElement();
+            if (!visited.add(annotationType.toString())) {
+                continue;
+            }
+            if (annotationType.getAnnotation(ODBGraphObject.class) != null ||
+                    isMetaAnnotated(annotationType, visited)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Write the Entity Index Resource, merging any existing Index from a
+     * previous incremental Compilation.
+     */
+    private void writeEntityIndex() {
+        readExistingEntityIndex();
+        try {
+            FileObject resource = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", ENTITY_INDEX_RESOURCE);
+            try (Writer writer = new OutputStreamWriter(resource.openOutputStream(), StandardCharsets.UTF_8)) {
+                writer.write(ENTITY_INDEX_COMMENT + " Generated by " + getClass().getName() + ", do not Edit.\n");
+                for (String className : mappedEntities) {
+                    writer.write(className);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Unable to write ODB Entity Index " + ENTITY_INDEX_RESOURCE + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Read any existing Entity Index, so that Classes not part of this Compilation remain listed.
+     * Stale Entries are harmless, as the Runtime will simply Ignore Classes it can not resolve.
+     */
+    private void readExistingEntityIndex() {
+        try {
+            FileObject existing = processingEnv.getFiler()
+                    .getResource(StandardLocation.CLASS_OUTPUT, "", ENTITY_INDEX_RESOURCE);
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(existing.openInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    line = line.trim();
+                    if (!line.isEmpty() && !line.startsWith(ENTITY_INDEX_COMMENT)) {
+                        mappedEntities.add(line);
+                    }
+                }
+            }
+        } catch (FilerException ignored) {
+            // Resource already opened within this Compilation.
+        } catch (IOException | IllegalArgumentException ignored) {
+            // No previous Index exists.
+        }
+    }
+
+}
@@ -0,0 +1,202 @@
+package jeffaschenk.orientdb.query;
+
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.db.record.ORecordLazyMultiValue;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import jeffaschenk.orientdb.schema.SchemaEntity;
+import jeffaschenk.orientdb.schema.SchemaEntityProperty;
+
+import java.util.*;
+
+/**
+ * FetchPlan
+ *
+ * OrientDB Fetch Plan of an Entity, Compiled from the Fetch Depths declared upon the Link
+ * Associations of the Entity and of its SuperClasses, such as "*:0 address:1 orders:2".
+ * Queries using the Plan receive the Fetched Linked Records along with their Results, in place
+ * of a Round Trip per Link.
+ *
+ * The Fetched Records are held by the Local Cache of the Connection which ran the Query,
+ * so are Attached to the Results and Deserialized before the Connection is Released.
+ *
+ * @author jeffaschenk@gmail.com
+ */
+public final class FetchPlan {
+
+    /**
+     * Fetch Depth of the whole Linked Graph.
+     */
+    public static final int UNLIMITED_DEPTH = -1;
+
+    private static final String DEFAULT_PLAN = "*:0";
+
+    private final String className;
+
+    private final Map<String, Integer> fieldDepths;
+
+    private FetchPlan(String className, Map<String, Integer> fieldDepths) {
+        this.className = className;
+        this.fieldDepths = Collections.unmodifiableMap(fieldDepths);
+    }
+
+    /**
+     * Compile the Fetch Plan of an Entity.
+     *
+     * @param schemaEntity Entity
+     * @param definitions  Schema Entity Definitions, to Resolve the SuperClasses of the Entity.
+     * @return FetchPlan, Empty if no Association of the Entity declares a Fetch Depth.
+     */
+    public static FetchPlan compile(SchemaEntity schemaEntity, Collection<SchemaEntity> definitions) {
+        Map<Class, SchemaEntity> entitiesByClass = new HashMap<>();
+        for (SchemaEntity definition : definitions) {
+            entitiesByClass.put(definition.getEntityClass(), definition);
+        }
+        /**
+         * Fields declared by the Entity take Precedence over those of its SuperClasses.
+         */
+        Map<String, Integer> fieldDepths = new LinkedHashMap<>();
+        Set<SchemaEntity> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<SchemaEntity> pending = new ArrayDeque<>();
+        pending.add(schemaEntity);
+        while (!pending.isEmpty()) {
+            SchemaEntity current = pending.poll();
+            if (!visited.add(current)) {
+                continue;
+            }
+            for (SchemaEntityProperty property : current.getProperties()) {
+                if (isFetched(property)) {
+                    fieldDepths.putIfAbsent(property.getPropertyName(), property.getFetchDepth());
+                }
+            }
+            for (Class superClass : current.getInheritanceChain()) {
+                SchemaEntity superEntity = entitiesByClass.get(superClass);
+                if (superEntity != null) {
+                    pending.add(superEntity);
+                }
+            }
+        }
+        return new FetchPlan(schemaEntity.resolveName(), fieldDepths);
+    }
+
+    private static boolean isFetched(SchemaEntityProperty property) {
+        if (property.getKind() != SchemaEntityProperty.PropertyKind.ASSOCIATION || !property.isPersistentProperty() ||
+                property.getFetchDepth() == 0 || property.getAssociationType() == null) {
+            return false;
+        }
+        switch (property.getAssociationType()) {
+            case LINK:
+            case LINKLIST:
+            case LINKSET:
+            case LINKMAP:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    /**
+     * @return Map of Fetch Depth by Field Name, in Plan Order.
+     */
+    public Map<String, Integer> getFieldDepths() {
+        return fieldDepths;
+    }
+
+    public boolean isEmpty() {
+        return fieldDepths.isEmpty();
+    }
+
+    /**
+     * Attach the Fetched Linked Records of a Result to it, while the Connection which ran the
+     * Query is still Active upon the Thread. Links are Resolved from the Local Cache of the
+     * Connection, to the Depth of their Field, and the Result and every Attached Record are
+     * Deserialized, so their Fields are Readable once the Connection is Released.
+     *
+     * @param document Result of a Query using this Plan.
+     */
+    public void attach(ODocument document) {
+        document.deserializeFields();
+        Set<ORID> visited = new HashSet<>();
+        visited.add(document.getIdentity());
+        for (Map.Entry<String, Integer> entry : fieldDepths.entrySet()) {
+            attachField(document, entry.getKey(), entry.getValue(), visited);
+        }
+    }
+
+    private static void attachField(ODocument document, String fieldName, int depth, Set<ORID> visited) {
+        for (ODocument linked : linkedRecords(document.field(fieldName))) {
+            linked.deserializeFields();
+            if (depth != 1 && visited.add(linked.getIdentity())) {
+                /**
+                 * Below the first Level, every Link of the Fetched Record is Fetched.
+                 */
+                for (String linkedFieldName : linked.fieldNames()) {
+                    if (isLink(linked.rawField(linkedFieldName))) {
+                        attachField(linked, linkedFieldName, (depth == UNLIMITED_DEPTH) ? depth : depth - 1, visited);
+                    }
+                }
+            }
+        }
+    }
+
+    private static boolean isLink(Object value) {
+        return (value instanceof OIdentifiable && !(value instanceof ODocument && ((ODocument) value).isEmbedded())) ||
+                value instanceof ORecordLazyMultiValue;
+    }
+
+    /**
+     * Convert the Links of a Field Value to their Records, a Linked List is Converted in Place.
+     */
+    private static List<ODocument> linkedRecords(Object value) {
+        List<ODocument> records = new ArrayList<>();
+        if (value instanceof ODocument) {
+            records.add((ODocument) value);
+        } else if (value instanceof List) {
+            List<?> links = (List<?>) value;
+            for (int index = 0; index < links.size(); index++) {
+                addRecord(records, links.get(index));
+            }
+        } else if (value instanceof Collection) {
+            for (Object link : (Collection<?>) value) {
+                addRecord(records, link);
+            }
+        } else if (value instanceof Map) {
+            for (Object link : ((Map<?, ?>) value).values()) {
+                addRecord(records, link);
+            }
+        }
+        return records;
+    }
+
+    private static void addRecord(List<ODocument> records, Object link) {
+        if (link instanceof ODocument) {
+            records.add((ODocument) link);
+        }
+    }
+
+    /**
+     * @return String OrientDB Fetch Plan, or null when the Plan is Empty.
+     */
+    public String toPlanString() {
+        if (fieldDepths.isEmpty()) {
+            return null;
+        }
+        StringJoiner plan = new StringJoiner(" ", DEFAULT_PLAN + " ", "");
+        for (Map.Entry<String, Integer> entry : fieldDepths.entrySet()) {
+            plan.add(entry.getKey() + ":" + entry.getValue());
+        }
+        return plan.toString();
+    }
+
+    @Override
+    public String toString() {
+        return "FetchPlan{" +
+                "className='" + className + '\'' +
+                ", plan='" + toPlanString() + '\'' +
+                '}';
+    }
+}
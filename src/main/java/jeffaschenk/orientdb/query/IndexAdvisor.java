@@ -0,0 +1,387 @@
+package jeffaschenk.orientdb.query;
+
+import jeffaschenk.orientdb.annotations.ODBIndex;
+import jeffaschenk.orientdb.query.IndexAdvisorReport.Finding;
+import jeffaschenk.orientdb.query.IndexAdvisorReport.Kind;
+import jeffaschenk.orientdb.schema.SchemaEntity;
+import jeffaschenk.orientdb.schema.SchemaEntityIndex;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * IndexAdvisor
+ *
+ * Records the Shape and Latency of each Query Executed, and Reports the Indexes of the Domain Model
+ * which are Missing, Unused or Redundant for the Observed Workload, see {@link IndexAdvisorReport}.
+ *
+ * An Index is taken to serve a Query Shape as OrientDB would use it:
+ * + an SBTREE Index, when its first Field is compared by Equality or Range.
+ * + a HASHINDEX Index, when all its Fields are compared by Equality.
+ * Indexes of a SuperClass serve Queries of its SubClasses. LUCENE Indexes serve Queries the
+ * Advisor does not Shape, so are never Reported.
+ *
+ * Recording is Thread Safe and does not Block, at most the Maximum Number of Shapes are held.
+ *
+ * @author jeffaschenk@gmail.com
+ */
+public class IndexAdvisor {
+
+    public static final int DEFAULT_MAX_SHAPES = 1000;
+
+    private static final Pattern SQL_INDEX = Pattern.compile(
+            "\\bON\\s+[\\w$]+\\s*\\(([^)]*)\\)\\s*([\\w]+)", Pattern.CASE_INSENSITIVE);
+
+    private final ConcurrentMap<QueryShape, ShapeStatistics> shapes = new ConcurrentHashMap<>();
+
+    private final int maxShapes;
+
+    private final LongAdder queriesNotRecorded = new LongAdder();
+
+    public IndexAdvisor() {
+        this(DEFAULT_MAX_SHAPES);
+    }
+
+    /**
+     * @param maxShapes Maximum Number of Distinct Query Shapes held.
+     */
+    public IndexAdvisor(int maxShapes) {
+        if (maxShapes < 1) {
+            throw new IllegalArgumentException("Maximum Number of Query Shapes must be Positive: " + maxShapes);
+        }
+        this.maxShapes = maxShapes;
+    }
+
+    /**
+     * Record an Executed Query, Queries without a Shape are Ignored.
+     *
+     * @param query         SQL Text of the Query.
+     * @param durationNanos Time spent Executing the Query.
+     */
+    public void record(String query, long durationNanos) {
+        QueryShape shape = QueryShape.parse(query);
+        if (shape == null) {
+            return;
+        }
+        ShapeStatistics statistics = shapes.get(shape);
+        if (statistics == null) {
+            if (shapes.size() >= maxShapes) {
+                queriesNotRecorded.increment();
+                return;
+            }
+            statistics = shapes.computeIfAbsent(shape, key -> new ShapeStatistics());
+        }
+        statistics.count.increment();
+        statistics.totalNanos.add(durationNanos);
+    }
+
+    /**
+     * Forget all Recorded Queries, such as after the Indexes have been Changed.
+     */
+    public void reset() {
+        shapes.clear();
+        queriesNotRecorded.reset();
+    }
+
+    /**
+     * @return Map of the Number of Queries Recorded by Shape.
+     */
+    public Map<QueryShape, Long> getShapeCounts() {
+        Map<QueryShape, Long> counts = new LinkedHashMap<>();
+        for (Map.Entry<QueryShape, ShapeStatistics> entry : shapes.entrySet()) {
+            counts.put(entry.getKey(), entry.getValue().count.sum());
+        }
+        return counts;
+    }
+
+    /**
+     * Cross Reference the Recorded Query Shapes with the Indexes Declared by the Domain Model.
+     *
+     * @param schemaEntities Scanned Schema Entities.
+     * @return IndexAdvisorReport
+     */
+    public IndexAdvisorReport report(List<SchemaEntity> schemaEntities) {
+        Map<String, SchemaEntity> entitiesByName = new HashMap<>();
+        Map<Class, SchemaEntity> entitiesByClass = new HashMap<>();
+        for (SchemaEntity schemaEntity : schemaEntities) {
+            if (schemaEntity.isMappedEntity()) {
+                entitiesByName.putIfAbsent(schemaEntity.resolveName().toLowerCase(Locale.ROOT), schemaEntity);
+                entitiesByClass.put(schemaEntity.getEntityClass(), schemaEntity);
+            }
+        }
+        Map<String, IndexDefinition> declared = new LinkedHashMap<>();
+        for (SchemaEntity schemaEntity : schemaEntities) {
+            if (!schemaEntity.isMappedEntity()) {
+                continue;
+            }
+            for (SchemaEntityIndex index : schemaEntity.getIndices()) {
+                IndexDefinition definition = IndexDefinition.of(schemaEntity.resolveName(), index);
+                if (definition != null) {
+                    declared.putIfAbsent(definition.name, definition);
+                }
+            }
+        }
+        /**
+         * Match each Shape against the Indexes of its Class and SuperClasses.
+         */
+        Map<String, MissingIndex> missing = new LinkedHashMap<>();
+        Set<String> used = new HashSet<>();
+        long queriesObserved = 0;
+        for (Map.Entry<QueryShape, ShapeStatistics> entry : shapes.entrySet()) {
+            QueryShape shape = entry.getKey();
+            long count = entry.getValue().count.sum();
+            queriesObserved += count;
+            SchemaEntity schemaEntity = entitiesByName.get(shape.getClassName().toLowerCase(Locale.ROOT));
+            if (schemaEntity == null || !shape.hasPredicates()) {
+                continue;
+            }
+            boolean served = false;
+            for (IndexDefinition definition : candidates(schemaEntity, entitiesByClass, declared)) {
+                if (definition.serves(shape)) {
+                    used.add(definition.name);
+                    served = true;
+                }
+            }
+            if (!served && !shape.isDisjunctive()) {
+                List<String> properties = new ArrayList<>(shape.getEqualityFields());
+                if (!shape.getRangeFields().isEmpty()) {
+                    properties.add(shape.getRangeFields().get(0));
+                } else {
+                    for (String field : shape.getOrderByFields()) {
+                        if (!properties.contains(field)) {
+                            properties.add(field);
+                        }
+                    }
+                }
+                boolean hash = shape.getRangeFields().isEmpty() && shape.getOrderByFields().isEmpty();
+                String indexName = schemaEntity.resolveName() + "." + String.join("_", properties);
+                missing.computeIfAbsent(indexName, name -> new MissingIndex(schemaEntity.resolveName(), name,
+                        properties)).add(shape, hash, count, entry.getValue().totalNanos.sum());
+            }
+        }
+        List<Finding> findings = new ArrayList<>();
+        List<MissingIndex> missingIndexes = new ArrayList<>(missing.values());
+        missingIndexes.sort((left, right) -> Long.compare(right.totalNanos, left.totalNanos));
+        for (MissingIndex missingIndex : missingIndexes) {
+            findings.add(new Finding(Kind.MISSING, missingIndex.className, missingIndex.name,
+                    String.join("; ", missingIndex.shapes), missingIndex.queries,
+                    TimeUnit.NANOSECONDS.toMillis(missingIndex.totalNanos),
+                    annotation(missingIndex.name, missingIndex.hash, missingIndex.properties)));
+        }
+        /**
+         * Unique Indexes Enforce a Constraint, so are Needed whether or not Queries use them.
+         */
+        if (queriesObserved > 0) {
+            for (IndexDefinition definition : declared.values()) {
+                if (!definition.unique && !definition.lucene && !used.contains(definition.name)) {
+                    findings.add(new Finding(Kind.UNUSED, definition.className, definition.name,
+                            "No Observed Query uses " + definition, 0, 0, null));
+                }
+            }
+        }
+        for (IndexDefinition definition : declared.values()) {
+            IndexDefinition covering = coveringIndex(definition, declared.values());
+            if (covering != null) {
+                findings.add(new Finding(Kind.REDUNDANT, definition.className, definition.name,
+                        definition + " is Covered by " + covering, 0, 0, null));
+            }
+        }
+        return new IndexAdvisorReport(findings, queriesObserved, queriesNotRecorded.sum());
+    }
+
+    /**
+     * Collect the Indexes of the Class and of its SuperClasses.
+     */
+    private static List<IndexDefinition> candidates(SchemaEntity schemaEntity, Map<Class, SchemaEntity> entitiesByClass,
+                                                    Map<String, IndexDefinition> declared) {
+        List<IndexDefinition> candidates = new ArrayList<>();
+        Set<SchemaEntity> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<SchemaEntity> pending = new ArrayDeque<>();
+        pending.add(schemaEntity);
+        while (!pending.isEmpty()) {
+            SchemaEntity current = pending.poll();
+            if (!visited.add(current)) {
+                continue;
+            }
+            for (SchemaEntityIndex index : current.getIndices()) {
+                IndexDefinition definition = declared.get(index.getName());
+                if (definition != null) {
+                    candidates.add(definition);
+                }
+            }
+            for (Class superClass : current.getInheritanceChain()) {
+                SchemaEntity superEntity = entitiesByClass.get(superClass);
+                if (superEntity != null) {
+                    pending.add(superEntity);
+                }
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Find another SBTREE Index of the same Class, whose leading Fields are those of a Non-Unique SBTREE Index.
+     * Of two Identical Indexes, the latter is Reported.
+     */
+    private static IndexDefinition coveringIndex(IndexDefinition definition, Collection<IndexDefinition> declared) {
+        if (definition.unique || definition.hash || definition.lucene) {
+            return null;
+        }
+        for (IndexDefinition other : declared) {
+            if (other == definition) {
+                break;
+            }
+            if (isCovering(other, definition)) {
+                return other;
+            }
+        }
+        for (IndexDefinition other : declared) {
+            if (other != definition && !other.fields.equals(definition.fields) && isCovering(other, definition)) {
+                return other;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isCovering(IndexDefinition other, IndexDefinition definition) {
+        return !other.hash && !other.lucene && other.className.equalsIgnoreCase(definition.className) &&
+                other.fields.size() >= definition.fields.size() &&
+                other.fields.subList(0, definition.fields.size()).equals(definition.fields);
+    }
+
+    /**
+     * Render the ODBIndex Annotation of a Missing Index.
+     */
+    private static String annotation(String indexName, boolean hash, List<String> properties) {
+        StringJoiner joiner = new StringJoiner("\", \"", "{\"", "\"}");
+        for (String property : properties) {
+            joiner.add(property);
+        }
+        return "@ODBIndex(name = \"" + indexName + "\", " +
+                "type = ODBIndex.IndexType." + ODBIndex.IndexType.NOTEUNIQUE.name() + ", " +
+                "engineType = ODBIndex.EngineType." +
+                (hash ? ODBIndex.EngineType.HASHINDEX : ODBIndex.EngineType.SBTREE).name() + ", " +
+                "properties = " + joiner + ")";
+    }
+
+    /**
+     * ShapeStatistics
+     * Number and Total Time of the Queries of a Shape.
+     */
+    private static final class ShapeStatistics {
+
+        private final LongAdder count = new LongAdder();
+
+        private final LongAdder totalNanos = new LongAdder();
+    }
+
+    /**
+     * MissingIndex
+     * Shapes which a single Index to Declare would serve, a Hash Index only if every Shape compares by Equality.
+     */
+    private static final class MissingIndex {
+
+        private final String className;
+
+        private final String name;
+
+        private final List<String> properties;
+
+        private final List<String> shapes = new ArrayList<>();
+
+        private boolean hash = true;
+
+        private long queries;
+
+        private long totalNanos;
+
+        private MissingIndex(String className, String name, List<String> properties) {
+            this.className = className;
+            this.name = name;
+            this.properties = properties;
+        }
+
+        private MissingIndex add(QueryShape shape, boolean equalityOnly, long count, long nanos) {
+            shapes.add(shape.toString());
+            hash &= equalityOnly;
+            queries += count;
+            totalNanos += nanos;
+            return this;
+        }
+    }
+
+    /**
+     * IndexDefinition
+     * Fields and Kind of a Declared Index, from its Structured Definition or its SQL.
+     */
+    private static final class IndexDefinition {
+
+        private final String className;
+
+        private final String name;
+
+        private final List<String> fields;
+
+        private final boolean unique;
+
+        private final boolean hash;
+
+        private final boolean lucene;
+
+        private IndexDefinition(String className, String name, List<String> fields,
+                                boolean unique, boolean hash, boolean lucene) {
+            this.className = className;
+            this.name = name;
+            this.fields = fields;
+            this.unique = unique;
+            this.hash = hash;
+            this.lucene = lucene;
+        }
+
+        /**
+         * @return IndexDefinition or null, if the Fields of the Index can not be Determined.
+         */
+        private static IndexDefinition of(String className, SchemaEntityIndex index) {
+            if (index.isStructured()) {
+                String orientIndexType = index.getOrientIndexType();
+                return new IndexDefinition(className, index.getName(), index.getProperties(),
+                        orientIndexType.startsWith("UNIQUE"), orientIndexType.endsWith("_HASH_INDEX"),
+                        index.getOrientAlgorithm() != null);
+            }
+            Matcher matcher = (index.getSql() == null) ? null : SQL_INDEX.matcher(index.getSql());
+            if (matcher == null || !matcher.find()) {
+                return null;
+            }
+            List<String> fields = new ArrayList<>();
+            for (String field : matcher.group(1).split(",")) {
+                fields.add(field.trim().split("\\s+")[0]);
+            }
+            String orientIndexType = matcher.group(2).toUpperCase(Locale.ROOT);
+            return new IndexDefinition(className, index.getName(), fields, orientIndexType.startsWith("UNIQUE"),
+                    orientIndexType.endsWith("_HASH_INDEX"),
+                    index.getSql().toUpperCase(Locale.ROOT).contains("LUCENE"));
+        }
+
+        private boolean serves(QueryShape shape) {
+            if (lucene || fields.isEmpty()) {
+                return false;
+            }
+            if (hash) {
+                return shape.getEqualityFields().containsAll(fields);
+            }
+            String leading = fields.get(0);
+            return shape.getEqualityFields().contains(leading) || shape.getRangeFields().contains(leading);
+        }
+
+        @Override
+        public String toString() {
+            return name + " " + (unique ? "UNIQUE" : "NOTUNIQUE") + (hash ? "_HASH_INDEX" : "") +
+                    (lucene ? " LUCENE " : " ") + fields;
+        }
+    }
+}
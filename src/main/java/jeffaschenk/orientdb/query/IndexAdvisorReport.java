@@ -0,0 +1,169 @@
+package jeffaschenk.orientdb.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * IndexAdvisorReport
+ *
+ * Findings of the {@link IndexAdvisor} against the Declared Indexes of the Domain Model:
+ * + MISSING, Query Shapes no Declared Index can serve, with the ODBIndex Annotation to Declare,
+ *   the most Costly first.
+ * + UNUSED, Declared Indexes no Observed Query Shape used, each costs Write Throughput.
+ * + REDUNDANT, Declared Indexes whose Fields lead another Index of the Class, which can serve
+ *   the same Queries.
+ *
+ * @author jeffaschenk@gmail.com
+ */
+public class IndexAdvisorReport {
+
+    /**
+     * Kinds of Finding.
+     */
+    public enum Kind {
+        MISSING,
+        UNUSED,
+        REDUNDANT
+    }
+
+    private final List<Finding> findings;
+
+    private final long queriesObserved;
+
+    private final long queriesNotRecorded;
+
+    IndexAdvisorReport(List<Finding> findings, long queriesObserved, long queriesNotRecorded) {
+        this.findings = Collections.unmodifiableList(new ArrayList<>(findings));
+        this.queriesObserved = queriesObserved;
+        this.queriesNotRecorded = queriesNotRecorded;
+    }
+
+    public List<Finding> getFindings() {
+        return findings;
+    }
+
+    public List<Finding> getFindings(Kind kind) {
+        List<Finding> kindFindings = new ArrayList<>();
+        for (Finding finding : findings) {
+            if (finding.getKind() == kind) {
+                kindFindings.add(finding);
+            }
+        }
+        return kindFindings;
+    }
+
+    /**
+     * @return long Number of Queries Observed, whose Shapes make up the Report.
+     */
+    public long getQueriesObserved() {
+        return queriesObserved;
+    }
+
+    /**
+     * @return long Number of Queries not Recorded, as the Maximum Number of Shapes was Reached.
+     */
+    public long getQueriesNotRecorded() {
+        return queriesNotRecorded;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("IndexAdvisorReport: ")
+                .append(queriesObserved).append(" Queries Observed");
+        if (queriesNotRecorded > 0) {
+            sb.append(", ").append(queriesNotRecorded).append(" not Recorded");
+        }
+        for (Finding finding : findings) {
+            sb.append("\n  ").append(finding);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Finding
+     * A single Missing, Unused or Redundant Index.
+     */
+    public static final class Finding {
+
+        private final Kind kind;
+
+        private final String className;
+
+        private final String indexName;
+
+        private final String description;
+
+        private final long queries;
+
+        private final long totalMs;
+
+        private final String annotation;
+
+        Finding(Kind kind, String className, String indexName, String description,
+                long queries, long totalMs, String annotation) {
+            this.kind = kind;
+            this.className = className;
+            this.indexName = indexName;
+            this.description = description;
+            this.queries = queries;
+            this.totalMs = totalMs;
+            this.annotation = annotation;
+        }
+
+        public Kind getKind() {
+            return kind;
+        }
+
+        public String getClassName() {
+            return className;
+        }
+
+        /**
+         * @return String Name of the Declared Index, or of the Index to Declare when Missing.
+         */
+        public String getIndexName() {
+            return indexName;
+        }
+
+        /**
+         * @return String Description, the Query Shapes when Missing, otherwise why the Index is Reported.
+         */
+        public String getDescription() {
+            return description;
+        }
+
+        /**
+         * @return long Number of Queries which would use the Missing Index, 0 otherwise.
+         */
+        public long getQueries() {
+            return queries;
+        }
+
+        /**
+         * @return long Total Time of the Queries which would use the Missing Index, 0 otherwise.
+         */
+        public long getTotalMs() {
+            return totalMs;
+        }
+
+        /**
+         * @return String ODBIndex Annotation to Declare, null unless Missing.
+         */
+        public String getAnnotation() {
+            return annotation;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder(kind.name()).append(" ").append(indexName);
+            if (kind == Kind.MISSING) {
+                sb.append(", ").append(queries).append(" Queries, ").append(totalMs).append("ms: ")
+                        .append(description).append("\n    ").append(annotation);
+            } else {
+                sb.append(": ").append(description);
+            }
+            return sb.toString();
+        }
+    }
+}
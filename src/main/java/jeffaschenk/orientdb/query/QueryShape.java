@@ -0,0 +1,221 @@
+package jeffaschenk.orientdb.query;
+
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * QueryShape
+ *
+ * Shape of a SQL Select Query, its Target Class, the Fields compared by Equality and by Range
+ * within its WHERE Clause, and the Fields of its ORDER BY, without any Literal Values, so
+ * Queries differing only by their Values share a Shape.
+ *
+ * Shapes are Parsed Leniently: Queries not Selecting from a Class, such as from a Record Id,
+ * Index or Sub-Query, have no Shape. Predicates upon Traversed Fields, or Negated, are Ignored,
+ * as no Index of the Target Class can serve them.
+ *
+ * @author jeffaschenk@gmail.com
+ */
+public final class QueryShape {
+
+    private static final Pattern LITERAL = Pattern.compile("'(?:[^'\\\\]|\\\\.)*'|\"(?:[^\"\\\\]|\\\\.)*\"");
+
+    private static final Pattern SELECT = Pattern.compile(
+            "^\\s*SELECT\\b.*?\\bFROM\\s+([A-Za-z_][\\w$]*)(.*)$", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
+    private static final Pattern CLAUSES = Pattern.compile(
+            "\\b(WHERE|ORDER\\s+BY|GROUP\\s+BY|LET|UNWIND|SKIP|LIMIT|FETCHPLAN|TIMEOUT|LOCK|PARALLEL|NOCACHE)\\b",
+            Pattern.CASE_INSENSITIVE);
+
+    private static final Pattern PREDICATE = Pattern.compile(
+            "(?<![\\w.$@])([A-Za-z_][\\w$]*)\\s*(==|=|<=|>=|<>|!=|<|>|\\bIN\\b|\\bIS\\b|\\bBETWEEN\\b|\\bLIKE\\b|" +
+                    "\\bCONTAINSTEXT\\b|\\bMATCHES\\b|\\bNOT\\b)",
+            Pattern.CASE_INSENSITIVE);
+
+    private static final Pattern DISJUNCTION = Pattern.compile("\\bOR\\b", Pattern.CASE_INSENSITIVE);
+
+    private static final Set<String> KEYWORDS = new HashSet<>(Arrays.asList(
+            "AND", "OR", "NOT", "WHERE", "IN", "IS", "LIKE", "BETWEEN", "NULL", "TRUE", "FALSE", "DEFINED"));
+
+    private final String className;
+
+    private final List<String> equalityFields;
+
+    private final List<String> rangeFields;
+
+    private final List<String> orderByFields;
+
+    private final boolean disjunctive;
+
+    private QueryShape(String className, List<String> equalityFields, List<String> rangeFields,
+                       List<String> orderByFields, boolean disjunctive) {
+        this.className = className;
+        this.equalityFields = Collections.unmodifiableList(equalityFields);
+        this.rangeFields = Collections.unmodifiableList(rangeFields);
+        this.orderByFields = Collections.unmodifiableList(orderByFields);
+        this.disjunctive = disjunctive;
+    }
+
+    /**
+     * Parse the Shape of a Query.
+     *
+     * @param query SQL Text of the Query.
+     * @return QueryShape or null, if the Query does not Select from a Class.
+     */
+    public static QueryShape parse(String query) {
+        if (query == null) {
+            return null;
+        }
+        Matcher select = SELECT.matcher(LITERAL.matcher(query).replaceAll("?"));
+        if (!select.matches()) {
+            return null;
+        }
+        Map<String, String> clauses = splitClauses(select.group(2));
+        Set<String> equalityFields = new LinkedHashSet<>();
+        Set<String> rangeFields = new LinkedHashSet<>();
+        String where = clauses.get("WHERE");
+        if (where != null) {
+            Matcher predicate = PREDICATE.matcher(where);
+            while (predicate.find()) {
+                String field = predicate.group(1);
+                String operator = predicate.group(2).toUpperCase(Locale.ROOT);
+                if (KEYWORDS.contains(field.toUpperCase(Locale.ROOT))) {
+                    continue;
+                }
+                switch (operator) {
+                    case "=":
+                    case "==":
+                    case "IN":
+                    case "IS":
+                        equalityFields.add(field);
+                        break;
+                    case "<":
+                    case ">":
+                    case "<=":
+                    case ">=":
+                    case "BETWEEN":
+                    case "LIKE":
+                        rangeFields.add(field);
+                        break;
+                    default:
+                        break;
+                }
+            }
+            rangeFields.removeAll(equalityFields);
+        }
+        List<String> orderByFields = new ArrayList<>();
+        String orderBy = clauses.get("ORDER BY");
+        if (orderBy != null) {
+            for (String term : orderBy.split(",")) {
+                String field = term.trim().split("\\s+")[0];
+                if (field.matches("[A-Za-z_][\\w$]*")) {
+                    orderByFields.add(field);
+                }
+            }
+        }
+        return new QueryShape(select.group(1), new ArrayList<>(equalityFields), new ArrayList<>(rangeFields),
+                orderByFields, where != null && DISJUNCTION.matcher(where).find());
+    }
+
+    /**
+     * Split the Text following the Target into its Clauses, keyed by Upper Case Keyword.
+     */
+    private static Map<String, String> splitClauses(String text) {
+        Map<String, String> clauses = new HashMap<>();
+        Matcher clause = CLAUSES.matcher(text);
+        String keyword = null;
+        int start = 0;
+        while (clause.find()) {
+            if (keyword != null) {
+                clauses.putIfAbsent(keyword, text.substring(start, clause.start()));
+            }
+            keyword = clause.group(1).toUpperCase(Locale.ROOT).replaceAll("\\s+", " ");
+            start = clause.end();
+        }
+        if (keyword != null) {
+            clauses.putIfAbsent(keyword, text.substring(start));
+        }
+        return clauses;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    /**
+     * @return List of Fields compared by Equality, or Membership, in Order of Appearance.
+     */
+    public List<String> getEqualityFields() {
+        return equalityFields;
+    }
+
+    /**
+     * @return List of Fields compared by Range, or Prefix, and not also by Equality.
+     */
+    public List<String> getRangeFields() {
+        return rangeFields;
+    }
+
+    public List<String> getOrderByFields() {
+        return orderByFields;
+    }
+
+    /**
+     * @return boolean indicator if the WHERE Clause has Alternatives, which a single Index can not serve.
+     */
+    public boolean isDisjunctive() {
+        return disjunctive;
+    }
+
+    /**
+     * @return boolean indicator if any Predicate could be served by an Index.
+     */
+    public boolean hasPredicates() {
+        return !equalityFields.isEmpty() || !rangeFields.isEmpty();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof QueryShape)) {
+            return false;
+        }
+        QueryShape that = (QueryShape) o;
+        return disjunctive == that.disjunctive &&
+                className.equalsIgnoreCase(that.className) &&
+                equalityFields.equals(that.equalityFields) &&
+                rangeFields.equals(that.rangeFields) &&
+                orderByFields.equals(that.orderByFields);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(className.toLowerCase(Locale.ROOT), equalityFields, rangeFields, orderByFields,
+                disjunctive);
+    }
+
+    /**
+     * @return String of the Shape as a Query, with each Value replaced by '?'.
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("SELECT FROM ").append(className);
+        List<String> predicates = new ArrayList<>();
+        for (String field : equalityFields) {
+            predicates.add(field + " = ?");
+        }
+        for (String field : rangeFields) {
+            predicates.add(field + " > ?");
+        }
+        if (!predicates.isEmpty()) {
+            sb.append(" WHERE ").append(String.join(disjunctive ? " OR " : " AND ", predicates));
+        }
+        if (!orderByFields.isEmpty()) {
+            sb.append(" ORDER BY ").append(String.join(", ", orderByFields));
+        }
+        return sb.toString();
+    }
+}
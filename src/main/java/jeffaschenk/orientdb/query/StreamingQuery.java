@@ -0,0 +1,289 @@
+package jeffaschenk.orientdb.query;
+
+import com.orientechnologies.orient.core.command.OCommandResultListener;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.query.OSQLAsynchQuery;
+import org.slf4j.LoggerFactory;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * StreamingQuery
+ *
+ * Executes a Query as an {@link OSQLAsynchQuery} upon its own Connection and Worker, handing each
+ * Document to the Consumer through a Bounded Queue. When the Queue is full the Worker waits,
+ * so at most one Batch of Documents is held in Memory regardless of the Size of the Result.
+ *
+ * The Connection is Closed by the Worker once the Result has been Consumed, or once the Query
+ * has been Closed, {@link #close()} waits for the Worker to Finish.
+ *
+ * Documents are fully Deserialized before being handed to the Consumer, since the Connection
+ * they were Read upon is not available to the Consumer.
+ *
+ * @author jeffaschenk@gmail.com
+ */
+public class StreamingQuery implements Iterator<ODocument>, AutoCloseable {
+
+    /**
+     * Common Logger
+     */
+    protected final static org.slf4j.Logger LOGGER =
+            LoggerFactory.getLogger(StreamingQuery.class);
+
+    /**
+     * Default Number of Documents Buffered between the Worker and Consumer.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 500;
+
+    /**
+     * Interval at which a waiting Worker checks if the Query has been Closed.
+     */
+    private static final long OFFER_INTERVAL_MS = 100;
+
+    /**
+     * Marks the End of the Result.
+     */
+    private static final ODocument END_OF_RESULT = new ODocument();
+
+    private final String queryString;
+
+    private final BlockingQueue<ODocument> queue;
+
+    private final Future<?> worker;
+
+    private final CompletionListener completionListener;
+
+    private volatile boolean closed;
+
+    private volatile Throwable failure;
+
+    private ODocument next;
+
+    private boolean finished;
+
+    /**
+     * Start a Streaming Query.
+     *
+     * @param queryString        Query to be Executed.
+     * @param batchSize          Number of Documents Buffered between the Worker and Consumer.
+     * @param connectionSupplier Supplier of the Connection upon which the Query is Executed.
+     * @param executorService    Executor to run the Worker.
+     */
+    public StreamingQuery(String queryString, int batchSize,
+                          Supplier<ODatabaseDocumentTx> connectionSupplier, ExecutorService executorService) {
+        this(queryString, batchSize, connectionSupplier, executorService, null);
+    }
+
+    /**
+     * Start a Streaming Query, Notifying a Listener once the Worker has Executed it.
+     *
+     * @param queryString        Query to be Executed.
+     * @param batchSize          Number of Documents Buffered between the Worker and Consumer.
+     * @param connectionSupplier Supplier of the Connection upon which the Query is Executed.
+     * @param executorService    Executor to run the Worker.
+     * @param completionListener Notified with the Duration and Outcome of the Query, or null.
+     */
+    public StreamingQuery(String queryString, int batchSize,
+                          Supplier<ODatabaseDocumentTx> connectionSupplier, ExecutorService executorService,
+                          CompletionListener completionListener) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch Size must be Positive: " + batchSize);
+        }
+        this.queryString = queryString;
+        this.completionListener = completionListener;
+        this.queue = new ArrayBlockingQueue<>(batchSize);
+        this.worker = executorService.submit(() -> execute(connectionSupplier));
+    }
+
+    /**
+     * Obtain a Stream of the Query Result, which must be Closed to Release the Connection
+     * if not fully Consumed.
+     *
+     * @return Stream of Documents
+     */
+    public Stream<ODocument> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this,
+                Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(this::close);
+    }
+
+    /**
+     * Worker, Executes the Query and Queues each Document.
+     *
+     * @param connectionSupplier Supplier of the Connection.
+     */
+    private void execute(Supplier<ODatabaseDocumentTx> connectionSupplier) {
+        long started = System.currentTimeMillis();
+        long count = 0;
+        try (ODatabaseDocumentTx db = connectionSupplier.get()) {
+            long executionStarted = System.nanoTime();
+            boolean failed = true;
+            try {
+                ResultListener listener = new ResultListener();
+                db.command(new OSQLAsynchQuery<ODocument>(queryString, listener)).execute();
+                count = listener.count;
+                failed = false;
+            } finally {
+                /**
+                 * Notify while the Connection is still Leased.
+                 */
+                if (completionListener != null) {
+                    completionListener.completed(db, queryString, System.nanoTime() - executionStarted, failed);
+                }
+            }
+        } catch (Throwable t) {
+            failure = t;
+        } finally {
+            /**
+             * Always Mark the End, the Consumer may be Waiting.
+             */
+            if (closed) {
+                queue.clear();
+            }
+            enqueue(END_OF_RESULT, true);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Streaming Query: '{}' Completed, {} Documents in {}ms, Closed: {}",
+                        queryString, count, System.currentTimeMillis() - started, closed);
+            }
+        }
+    }
+
+    /**
+     * Queue a Document, waiting while the Queue is full.
+     *
+     * @param document Document to be Queued.
+     * @param force    Queue even when Closed.
+     * @return boolean indicator if Queued or not.
+     */
+    private boolean enqueue(ODocument document, boolean force) {
+        try {
+            while (force || !closed) {
+                if (queue.offer(document, OFFER_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+                if (force && closed) {
+                    return false;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next != null) {
+            return true;
+        }
+        if (finished) {
+            return false;
+        }
+        try {
+            ODocument document = queue.take();
+            if (document == END_OF_RESULT) {
+                finished = true;
+                if (failure != null && !closed) {
+                    throw new IllegalStateException("Streaming Query: '" + queryString + "' Failed.", failure);
+                }
+                return false;
+            }
+            next = document;
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new IllegalStateException("Interrupted while Streaming Query: '" + queryString + "'", e);
+        }
+    }
+
+    @Override
+    public ODocument next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        ODocument document = next;
+        next = null;
+        return document;
+    }
+
+    /**
+     * Close the Query, Stopping the Worker if the Result has not been fully Consumed,
+     * and waiting for the Worker to Close its Connection.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        finished = true;
+        next = null;
+        queue.clear();
+        try {
+            worker.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            LOGGER.warn("Streaming Query: '{}' Worker Failed: {}", queryString, e.getCause().getMessage());
+        }
+    }
+
+    /**
+     * CompletionListener
+     * Notified upon the Worker once a Query has Executed, whether Consumed, Closed early or Failed.
+     */
+    @FunctionalInterface
+    public interface CompletionListener {
+
+        /**
+         * @param db            Connection the Query Executed upon, still Leased.
+         * @param queryString   Query
+         * @param durationNanos Duration of the Execution, including Waits upon the Consumer.
+         * @param failed        Indicator if the Query Failed.
+         */
+        void completed(ODatabaseDocumentTx db, String queryString, long durationNanos, boolean failed);
+    }
+
+    /**
+     * ResultListener
+     * Receives each Document of the Result upon the Worker.
+     */
+    private class ResultListener implements OCommandResultListener {
+
+        private long count;
+
+        @Override
+        public boolean result(Object record) {
+            if (!(record instanceof ODocument)) {
+                return !closed;
+            }
+            ODocument document = (ODocument) record;
+            document.deserializeFields();
+            if (!enqueue(document, false)) {
+                /**
+                 * Closed by the Consumer, Stop Fetching.
+                 */
+                return false;
+            }
+            count++;
+            return true;
+        }
+
+        @Override
+        public void end() {
+        }
+
+        @Override
+        public Object getResult() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,327 @@
+package jeffaschenk.orientdb.schema;
+
+import jeffaschenk.orientdb.annotations.ODBAssociation;
+
+import java.util.*;
+
+/**
+ * DependencyGraph
+ *
+ * Dependencies between the Mapped Schema Entities, by Schema Class Name:
+ * + Inheritance, a Class depends upon its SuperClass.
+ * + Association, a Class depends upon the Linked Class of its Link Associations and
+ *   Properties, and upon the Edge Class of its Edge Associations, when those Classes
+ *   are part of the Domain Model.
+ *
+ * {@link #sort()} orders the Entities Topologically, so every Class follows the Classes it
+ * depends upon. Ties are broken by the Order the Entities were given in, so the Result is
+ * Deterministic. Associations may form Cycles, as Classes may Link to each other, such Cycles
+ * are Reported by {@link #getCycles()} and Ordered by Inheritance alone. An Inheritance Cycle
+ * can not be Ordered and raises an IllegalStateException.
+ *
+ * {@link #getComponents()} Partitions the Classes into Components with no Dependencies
+ * between them, which may be Applied Independently.
+ *
+ * @author jeffaschenk@gmail.com
+ */
+public class DependencyGraph {
+
+    private final List<SchemaEntity> entities = new ArrayList<>();
+
+    private final Map<String, Integer> nodesByName = new HashMap<>();
+
+    /**
+     * Nodes each Node depends upon, by Inheritance and by Association.
+     */
+    private final List<Set<Integer>> inheritanceDependencies = new ArrayList<>();
+
+    private final List<Set<Integer>> associationDependencies = new ArrayList<>();
+
+    /**
+     * Cycles among Associations, computed Lazily.
+     */
+    private List<List<String>> cycles;
+
+    /**
+     * Build the Graph of the Mapped Entities.
+     *
+     * @param schemaEntities Scanned Schema Entities, Entities not Mapped are Ignored.
+     */
+    public DependencyGraph(List<SchemaEntity> schemaEntities) {
+        Map<Class, Integer> nodesByClass = new HashMap<>();
+        for (SchemaEntity schemaEntity : schemaEntities) {
+            if (!schemaEntity.isMappedEntity() || nodesByName.containsKey(schemaEntity.resolveName())) {
+                continue;
+            }
+            int node = entities.size();
+            entities.add(schemaEntity);
+            nodesByName.put(schemaEntity.resolveName(), node);
+            nodesByClass.put(schemaEntity.getEntityClass(), node);
+            inheritanceDependencies.add(new LinkedHashSet<>());
+            associationDependencies.add(new LinkedHashSet<>());
+        }
+        for (int node = 0; node < entities.size(); node++) {
+            SchemaEntity schemaEntity = entities.get(node);
+            /**
+             * The SuperClass is the first Member of the Inheritance Chain.
+             */
+            if (!schemaEntity.getInheritanceChain().isEmpty()) {
+                addDependency(inheritanceDependencies, node, nodesByClass.get(schemaEntity.getInheritanceChain().get(0)));
+            }
+            for (SchemaEntityProperty property : schemaEntity.getProperties()) {
+                if (property.isTransientProperty()) {
+                    continue;
+                }
+                if (property.getKind() == SchemaEntityProperty.PropertyKind.ASSOCIATION &&
+                        property.getAssociationType() == ODBAssociation.AssociationType.EDGE) {
+                    addDependency(associationDependencies, node, nodeOf(property.getEdgeName()));
+                } else {
+                    addDependency(associationDependencies, node, nodeOf(property.getLinkedClassName()));
+                }
+            }
+        }
+    }
+
+    private Integer nodeOf(String className) {
+        return (className == null) ? null : nodesByName.get(className);
+    }
+
+    private static void addDependency(List<Set<Integer>> dependencies, int node, Integer dependency) {
+        /**
+         * A Class Linking to itself only needs to Exist, which it does before its Properties.
+         */
+        if (dependency != null && dependency != node) {
+            dependencies.get(node).add(dependency);
+        }
+    }
+
+    /**
+     * Order the Mapped Entities Topologically, using Kahn's Algorithm.
+     * When only Association Cycles remain, each is Broken where its Association Dependencies can be Relaxed.
+     *
+     * @return List of Mapped Entities, each following the Entities it depends upon.
+     */
+    public List<SchemaEntity> sort() {
+        int size = entities.size();
+        int[] pending = new int[size];
+        List<Set<Integer>> associations = new ArrayList<>(size);
+        List<List<Integer>> dependents = new ArrayList<>(size);
+        for (int node = 0; node < size; node++) {
+            associations.add(new LinkedHashSet<>(associationDependencies.get(node)));
+            associations.get(node).removeAll(inheritanceDependencies.get(node));
+            dependents.add(new ArrayList<>());
+        }
+        for (int node = 0; node < size; node++) {
+            for (Integer dependency : dependencies(node)) {
+                dependents.get(dependency).add(node);
+                pending[node]++;
+            }
+        }
+        /**
+         * Ready Nodes, lowest Given Order first.
+         */
+        PriorityQueue<Integer> ready = new PriorityQueue<>();
+        for (int node = 0; node < size; node++) {
+            if (pending[node] == 0) {
+                ready.add(node);
+            }
+        }
+        boolean[] sorted = new boolean[size];
+        int[] levels = new int[size];
+        List<SchemaEntity> order = new ArrayList<>(size);
+        while (order.size() < size) {
+            if (ready.isEmpty()) {
+                relaxAssociations(sorted, pending, associations, dependents, ready);
+            }
+            int node = ready.poll();
+            sorted[node] = true;
+            order.add(entities.get(node));
+            for (Integer dependency : dependencies(node)) {
+                if (sorted[dependency]) {
+                    levels[node] = Math.max(levels[node], levels[dependency] + 1);
+                }
+            }
+            entities.get(node).setDependencyWeight(levels[node]);
+            for (Integer dependent : dependents.get(node)) {
+                if (--pending[dependent] == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+        return order;
+    }
+
+    /**
+     * Break an Association Cycle among the Nodes not yet Sorted, at the first Node in Given Order
+     * whose Inheritance Dependencies are all Sorted, by no longer waiting upon its Associations.
+     */
+    private void relaxAssociations(boolean[] sorted, int[] pending, List<Set<Integer>> associations,
+                                   List<List<Integer>> dependents, PriorityQueue<Integer> ready) {
+        List<String> unsorted = new ArrayList<>();
+        for (int node = 0; node < entities.size(); node++) {
+            if (sorted[node]) {
+                continue;
+            }
+            unsorted.add(entities.get(node).resolveName());
+            boolean inheritanceSorted = true;
+            for (Integer dependency : inheritanceDependencies.get(node)) {
+                inheritanceSorted &= sorted[dependency];
+            }
+            if (!inheritanceSorted) {
+                continue;
+            }
+            for (Integer dependency : associations.get(node)) {
+                if (!sorted[dependency]) {
+                    dependents.get(dependency).remove(Integer.valueOf(node));
+                }
+            }
+            associations.get(node).clear();
+            pending[node] = 0;
+            ready.add(node);
+            return;
+        }
+        throw new IllegalStateException("Inheritance Cycle among Schema Classes: " + unsorted);
+    }
+
+    private Set<Integer> dependencies(int node) {
+        Set<Integer> dependencies = new LinkedHashSet<>(inheritanceDependencies.get(node));
+        dependencies.addAll(associationDependencies.get(node));
+        return dependencies;
+    }
+
+    /**
+     * Find the Cycles among Dependencies, as the Strongly Connected Components of more than
+     * one Class, using Tarjan's Algorithm.
+     *
+     * @return List of Cycles, each a List of Class Names in Given Order.
+     */
+    public synchronized List<List<String>> getCycles() {
+        if (cycles == null) {
+            cycles = new Tarjan().run();
+        }
+        return cycles;
+    }
+
+    /**
+     * @return boolean indicator if there are no Cycles, so Associations can be Planned along with their Class.
+     */
+    public boolean isAcyclic() {
+        return getCycles().isEmpty();
+    }
+
+    /**
+     * Partition the Classes into Independent Components, Classes related by any Dependency,
+     * in either Direction, belong to the same Component.
+     *
+     * @return List of Components, each a List of Class Names in Given Order, ordered by their first Class.
+     */
+    public List<List<String>> getComponents() {
+        int[] parents = new int[entities.size()];
+        for (int node = 0; node < parents.length; node++) {
+            parents[node] = node;
+        }
+        for (int node = 0; node < parents.length; node++) {
+            for (Integer dependency : dependencies(node)) {
+                int root = findRoot(parents, node);
+                int dependencyRoot = findRoot(parents, dependency);
+                /**
+                 * The Root of a Component is always its first Node in Given Order.
+                 */
+                parents[Math.max(root, dependencyRoot)] = Math.min(root, dependencyRoot);
+            }
+        }
+        Map<Integer, List<String>> components = new TreeMap<>();
+        for (int node = 0; node < parents.length; node++) {
+            components.computeIfAbsent(findRoot(parents, node), root -> new ArrayList<>())
+                    .add(entities.get(node).resolveName());
+        }
+        return new ArrayList<>(components.values());
+    }
+
+    private static int findRoot(int[] parents, int node) {
+        while (parents[node] != node) {
+            parents[node] = parents[parents[node]];
+            node = parents[node];
+        }
+        return node;
+    }
+
+    /**
+     * @return List of Class Names the Class directly depends upon, empty if the Class is not Mapped.
+     */
+    public List<String> getDependencies(String className) {
+        Integer node = nodesByName.get(className);
+        if (node == null) {
+            return Collections.emptyList();
+        }
+        List<String> dependencies = new ArrayList<>();
+        for (Integer dependency : dependencies(node)) {
+            dependencies.add(entities.get(dependency).resolveName());
+        }
+        return dependencies;
+    }
+
+    public int size() {
+        return entities.size();
+    }
+
+    /**
+     * Tarjan
+     * Strongly Connected Components, Recursion is bounded by the Depth of the Domain Model.
+     */
+    private final class Tarjan {
+
+        private final int[] index = new int[entities.size()];
+
+        private final int[] lowLink = new int[entities.size()];
+
+        private final boolean[] onStack = new boolean[entities.size()];
+
+        private final Deque<Integer> stack = new ArrayDeque<>();
+
+        private final List<List<String>> components = new ArrayList<>();
+
+        private int nextIndex = 1;
+
+        List<List<String>> run() {
+            for (int node = 0; node < entities.size(); node++) {
+                if (index[node] == 0) {
+                    visit(node);
+                }
+            }
+            return Collections.unmodifiableList(components);
+        }
+
+        private void visit(int node) {
+            index[node] = nextIndex;
+            lowLink[node] = nextIndex;
+            nextIndex++;
+            stack.push(node);
+            onStack[node] = true;
+            for (Integer dependency : dependencies(node)) {
+                if (index[dependency] == 0) {
+                    visit(dependency);
+                    lowLink[node] = Math.min(lowLink[node], lowLink[dependency]);
+                } else if (onStack[dependency]) {
+                    lowLink[node] = Math.min(lowLink[node], index[dependency]);
+                }
+            }
+            if (lowLink[node] == index[node]) {
+                SortedSet<Integer> component = new TreeSet<>();
+                int member;
+                do {
+                    member = stack.pop();
+                    onStack[member] = false;
+                    component.add(member);
+                } while (member != node);
+                if (component.size() > 1) {
+                    List<String> names = new ArrayList<>(component.size());
+                    for (Integer componentNode : component) {
+                        names.add(entities.get(componentNode).resolveName());
+                    }
+                    components.add(Collections.unmodifiableList(names));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package jeffaschenk.orientdb.schema;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * IndexBuildTracker
+ *
+ * Progress of the Indexes Built Online, in the Background, after Phase 3 has Returned.
+ * An Index is Usable once its Build is READY, an Index never Tracked was Built during
+ * the Bootstrap, or already Existed, and so is always Usable. Queries are not Gated upon
+ * the Tracker, Callers Wait upon or Check an Index before Relying on it.
+ *
+ * The Futures returned are Dependents of those held here, so Callers cannot complete them.
+ *
+ * @author jeffaschenk@gmail.com
+ */
+public class IndexBuildTracker {
+
+    /**
+     * Build States, in the Order they are Passed.
+     */
+    public enum State {
+        PENDING,
+        BUILDING,
+        READY,
+        FAILED
+    }
+
+    private final ConcurrentMap<String, Build> builds = new ConcurrentHashMap<>();
+
+    /**
+     * Track an Index to be Built, replacing any previous Build of the same Name.
+     */
+    public void submit(String indexName) {
+        builds.put(indexName, new Build());
+    }
+
+    public void markBuilding(String indexName) {
+        Build build = build(indexName);
+        build.startedNanos = System.nanoTime();
+        build.state = State.BUILDING;
+    }
+
+    public void markReady(String indexName) {
+        Build build = build(indexName);
+        build.completedNanos = System.nanoTime();
+        build.state = State.READY;
+        build.ready.complete(null);
+    }
+
+    public void markFailed(String indexName, Throwable cause) {
+        Build build = build(indexName);
+        build.completedNanos = System.nanoTime();
+        build.failure = cause.getMessage();
+        build.state = State.FAILED;
+        build.ready.completeExceptionally(cause);
+    }
+
+    private Build build(String indexName) {
+        Build build = builds.get(indexName);
+        if (build == null) {
+            throw new IllegalArgumentException("Index Build not Tracked: " + indexName);
+        }
+        return build;
+    }
+
+    /**
+     * @return State of the Index Build, null if the Index is not Tracked.
+     */
+    public State getState(String indexName) {
+        Build build = builds.get(indexName);
+        return (build == null) ? null : build.state;
+    }
+
+    /**
+     * @return boolean indicator if the Index may be relied upon by Queries.
+     */
+    public boolean isUsable(String indexName) {
+        State state = getState(indexName);
+        return state == null || state == State.READY;
+    }
+
+    /**
+     * @return Future completed once the Index is Usable, Exceptionally if its Build Failed.
+     */
+    public CompletableFuture<Void> whenReady(String indexName) {
+        Build build = builds.get(indexName);
+        return (build == null) ? CompletableFuture.completedFuture(null) : build.ready.thenApply(result -> result);
+    }
+
+    /**
+     * @return Future completed once every Tracked Index is Usable, Exceptionally if any Build Failed.
+     */
+    public CompletableFuture<Void> whenAllReady() {
+        List<CompletableFuture<Void>> ready = new ArrayList<>();
+        for (Build build : builds.values()) {
+            ready.add(build.ready);
+        }
+        return CompletableFuture.allOf(ready.toArray(new CompletableFuture[ready.size()]));
+    }
+
+    /**
+     * @return int Number of Builds not yet Ready, Pending, Building or Failed.
+     */
+    public int getOutstandingCount() {
+        int outstanding = 0;
+        for (Build build : builds.values()) {
+            if (build.state != State.READY) {
+                outstanding++;
+            }
+        }
+        return outstanding;
+    }
+
+    /**
+     * @return Map of Build States by Index Name, in Name Order.
+     */
+    public Map<String, State> getStates() {
+        Map<String, State> states = new TreeMap<>();
+        for (Map.Entry<String, Build> entry : builds.entrySet()) {
+            states.put(entry.getKey(), entry.getValue().state);
+        }
+        return states;
+    }
+
+    /**
+     * @return long Build Time of the Index in Milliseconds, up to now if still Building, 0 if not Started.
+     */
+    public long getElapsedMs(String indexName) {
+        Build build = builds.get(indexName);
+        if (build == null || build.startedNanos == 0) {
+            return 0;
+        }
+        long completedNanos = (build.completedNanos == 0) ? System.nanoTime() : build.completedNanos;
+        return TimeUnit.NANOSECONDS.toMillis(completedNanos - build.startedNanos);
+    }
+
+    /**
+     * @return String Failure Message of the Index Build, null unless it Failed.
+     */
+    public String getFailure(String indexName) {
+        Build build = builds.get(indexName);
+        return (build == null) ? null : build.failure;
+    }
+
+    @Override
+    public String toString() {
+        Map<State, Integer> counts = new EnumMap<>(State.class);
+        for (State state : getStates().values()) {
+            counts.merge(state, 1, Integer::sum);
+        }
+        return "IndexBuildTracker{" +
+                "builds=" + builds.size() +
+                ", states=" + counts +
+                '}';
+    }
+
+    /**
+     * Build
+     * State of a single Index Build.
+     */
+    private static final class Build {
+
+        private final CompletableFuture<Void> ready = new CompletableFuture<>();
+
+        private volatile State state = State.PENDING;
+
+        private volatile long startedNanos;
+
+        private volatile long completedNanos;
+
+        private volatile String failure;
+    }
+}
@@ -11,9 +11,12 @@ import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.metadata.schema.OProperty;
 import com.orientechnologies.orient.core.metadata.schema.OSchema;
 import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.query.OSQLSynchQuery;
 
 import jeffaschenk.orientdb.schema.migrations.DataMigration;
 import jeffaschenk.orientdb.annotations.*;
+import jeffaschenk.orientdb.processor.ODBGraphObjectIndexProcessor;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.BeanDefinitionStoreException;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -23,17 +26,33 @@ import org.springframework.core.env.Environment;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.ClassMetadata;
 import org.springframework.core.type.classreading.CachingMetadataReaderFactory;
 import org.springframework.core.type.classreading.MetadataReader;
 import org.springframework.core.type.classreading.MetadataReaderFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.util.ClassUtils;
 
+import javax.annotation.PreDestroy;
+
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * OrientSchemaEnforcer
@@ -59,18 +78,6 @@ public class OrientSchemaEnforcer implements SchemaEnforcer {
     protected static final String EDGE =
             "E";
 
-    protected static final String ODBProperty_NAME =
-            "ODBProperty";
-
-    protected static final String ODBUniqueIdentifier_NAME =
-            "ODBUniqueIdentifier";
-
-    protected static final String ODBAssociation_NAME =
-            "ODBAssociation";
-
-    protected static final String ODBIndex_NAME =
-            "ODBIndex";
-
     protected static final String UUID_REGEXP =
             "^[0-9A-Za-z]{8}-[0-9A-Za-z]{4}-[0-9A-Za-z]{4}-[0-9A-Za-z]{4}-[0-9A-Za-z]{12}$";
 
@@ -92,6 +99,43 @@ public class OrientSchemaEnforcer implements SchemaEnforcer {
      */
     private final List<SchemaEntity> SCHEMA_ENTITY_DEFINITIONS = new ArrayList<>();
 
+    /**
+     * Schema Entity Definitions Published once the Phase 1 Scan has Completed,
+     * so a Partial Domain Model is never Read while Scanning.
+     */
+    private volatile List<SchemaEntity> scannedDefinitions;
+
+    /**
+     * Names of Indexes Created during Phase 3 of this Run.
+     */
+    private final Queue<String> INDICES_CREATED = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Names of the Classes and Indexes Changed since the Model was last Applied,
+     * null when all are to be Validated.
+     */
+    private volatile Set<String> changedClasses;
+
+    private volatile Set<String> changedIndexes;
+
+    /**
+     * Supplier of additional DB Admin Accessors for Parallel Work.
+     */
+    private Supplier<ODatabaseDocumentTx> connectionSupplier;
+
+    /**
+     * Progress of Indexes Built Online, and their Worker, Created when first needed.
+     */
+    private final IndexBuildTracker indexBuildTracker = new IndexBuildTracker();
+
+    private ExecutorService onlineIndexExecutor;
+
+    /**
+     * Timings and Counts Recorded as each Phase runs.
+     */
+    @Autowired(required = false)
+    private SchemaBootstrapReport bootstrapReport = new SchemaBootstrapReport();
+
     /**
      * Runtime Spring Environment.
      */
@@ -101,6 +145,118 @@ public class OrientSchemaEnforcer implements SchemaEnforcer {
     protected static final String DEFAULT_ENTITY_PACKAGE_PROPERTY_NAME =
             "entity.package";
 
+    protected static final String ENTITY_INDEX_ENABLED_PROPERTY_NAME =
+            "entity.index.enabled";
+
+    protected static final String SCHEMA_FINGERPRINT_ENABLED_PROPERTY_NAME =
+            "schema.fingerprint.enabled";
+
+    protected static final String SCHEMA_INCREMENTAL_ENABLED_PROPERTY_NAME =
+            "schema.incremental.enabled";
+
+    protected static final String SCHEMA_DRY_RUN_PROPERTY_NAME =
+            "schema.dry.run";
+
+    protected static final String SCHEMA_BATCH_ENABLED_PROPERTY_NAME =
+            "schema.batch.enabled";
+
+    protected static final String SCHEMA_INDEX_PARALLELISM_PROPERTY_NAME =
+            "schema.index.parallelism";
+
+    protected static final int DEFAULT_INDEX_PARALLELISM =
+            Math.min(4, Runtime.getRuntime().availableProcessors());
+
+    protected static final String SCHEMA_INDEX_ONLINE_PROPERTY_NAME =
+            "schema.index.online";
+
+    protected static final String SCHEMA_INDEX_ONLINE_PAUSE_PROPERTY_NAME =
+            "schema.index.online.pause.ms";
+
+    protected static final long DEFAULT_INDEX_ONLINE_PAUSE_MS = 1000L;
+
+    protected static final String SCHEMA_VALIDATION_PARALLELISM_PROPERTY_NAME =
+            "schema.validation.parallelism";
+
+    protected static final int DEFAULT_VALIDATION_PARALLELISM =
+            Math.min(4, Runtime.getRuntime().availableProcessors());
+
+    protected static final String SCHEMA_SCAN_PARALLELISM_PROPERTY_NAME =
+            "schema.scan.parallelism";
+
+    protected static final int DEFAULT_SCAN_PARALLELISM =
+            Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Schema Metadata Class and Properties, used to store the Fingerprint
+     * of the Domain Model last applied.
+     */
+    protected static final String SCHEMA_METADATA_CLASS =
+            "ODBSchemaMetadata";
+
+    protected static final String SCHEMA_METADATA_NAME =
+            "name";
+
+    protected static final String SCHEMA_METADATA_FINGERPRINT =
+            "fingerprint";
+
+    protected static final String SCHEMA_METADATA_UPDATED =
+            "updated";
+
+    protected static final String SCHEMA_METADATA_CLASSES =
+            "classes";
+
+    protected static final String SCHEMA_METADATA_INDEXES =
+            "indexes";
+
+    protected static final String SCHEMA_METADATA_RECORD_NAME =
+            "schema";
+
+    /**
+     * Provide the Supplier of additional DB Admin Accessors for Parallel Work.
+     *
+     * @param connectionSupplier Supplier of DB Admin Accessors.
+     */
+    @Override
+    public void setConnectionSupplier(Supplier<ODatabaseDocumentTx> connectionSupplier) {
+        this.connectionSupplier = connectionSupplier;
+    }
+
+    /**
+     * Obtain the Schema Entity Definitions built by the Phase 1 Scan.
+     *
+     * @return List of Schema Entity Definitions, in Dependency Order, empty if not yet Scanned.
+     */
+    @Override
+    public List<SchemaEntity> getSchemaEntityDefinitions() {
+        List<SchemaEntity> definitions = scannedDefinitions;
+        return (definitions == null) ? Collections.emptyList() : definitions;
+    }
+
+    @Override
+    public boolean isSchemaScanned() {
+        return scannedDefinitions != null;
+    }
+
+    @Override
+    public IndexBuildTracker getIndexBuildTracker() {
+        return indexBuildTracker;
+    }
+
+    /**
+     * Stop any Online Index Builds still Pending.
+     */
+    @PreDestroy
+    public synchronized void destroyBean() {
+        if (onlineIndexExecutor != null) {
+            onlineIndexExecutor.shutdownNow();
+        }
+    }
+
+    @Override
+    public SchemaBootstrapReport getBootstrapReport() {
+        return bootstrapReport;
+    }
+
     /**
      * Phase 1
      * 
@@ -112,6 +268,7 @@ public class OrientSchemaEnforcer implements SchemaEnforcer {
     public synchronized boolean scanSchema() {
         LOGGER.info("{}Performing Schema Scanning of Runtime Domain Model...",
                 ODB_PHASE_ONE);
+        long started = System.currentTimeMillis();
         if (environment.getProperty(DEFAULT_ENTITY_PACKAGE_PROPERTY_NAME)==null) {
             LOGGER.warn("{}No Entity Package Specified, unable to perform Package Scan...",
                     ODB_PHASE_ONE);
@@ -122,8 +279,7 @@ public class OrientSchemaEnforcer implements SchemaEnforcer {
          */
         if (scanPackage(environment.getProperty(DEFAULT_ENTITY_PACKAGE_PROPERTY_NAME))) {
             /**
-             * Now Iterate over our Classes to Determine the Dependency Chin
-             * by weighting the Entity.
+             * Now Iterate over our Classes to Determine the Dependency Chain.
              */
             LOGGER.info("{}Domain Model Definitions Found: {}", ODB_PHASE_ONE,
                     SCHEMA_ENTITY_DEFINITIONS.size());
@@ -147,8 +303,7 @@ public class OrientSchemaEnforcer implements SchemaEnforcer {
                 /**
                  * Iterate over Properties...
                  */
-                for (String entityName : schemaEntity.getProperties().keySet()) {
-                    SchemaEntityProperty schemaEntityProperty = schemaEntity.getProperties().get(entityName);
+                for (SchemaEntityProperty schemaEntityProperty : schemaEntity.getProperties()) {
                     if (LOGGER.isTraceEnabled()) {
                         LOGGER.trace("   ++ {}", schemaEntityProperty.toString());
                     }
@@ -156,11 +311,11 @@ public class OrientSchemaEnforcer implements SchemaEnforcer {
             }
             LOGGER.info("{}Domain Model Class Discovery Definition Details: ", ODB_PHASE_ONE);
             /**
-             * Weight All Entity Relationships
+             * Order All Entities by their Dependencies.
              */
-            weight();
+            orderByDependencies();
             /**
-             * Show Entities in weighted Ordered...
+             * Show Entities in Dependency Order...
              */
             for (SchemaEntity schemaEntity : SCHEMA_ENTITY_DEFINITIONS) {
                 /**
@@ -172,9 +327,11 @@ public class OrientSchemaEnforcer implements SchemaEnforcer {
                 LOGGER.info(" + {}", schemaEntity.toString());
             }
             /**
-             * End of Phase One.
+             * End of Phase One, Publish the Complete Domain Model.
              */
-            LOGGER.info("{}Successful.", ODB_PHASE_ONE);
+            scannedDefinitions = Collections.unmodifiableList(new ArrayList<>(SCHEMA_ENTITY_DEFINITIONS));
+            LOGGER.info("{}Successful, Elapsed Time: {}ms.", ODB_PHASE_ONE,
+                    System.currentTimeMillis() - started);
             return true;
         } else {
             LOGGER.info("{}Was Not Successful!", ODB_PHASE_ONE);
@@ -182,6 +339,53 @@ public class OrientSchemaEnforcer implements SchemaEnforcer {
         }
     }
 
+    /**
+     * Phase 2 -- Schema Fingerprint Check
+     *
+     * Determine if the Fingerprint of the Domain Model last applied matches the current Domain Model.
+     * If not, and the Fingerprints of each Class and Index were Stored, Phases 2 and 3 are Limited
+     * to the Classes and Indexes whose Fingerprint has Changed.
+     *
+     * @param db reference to DB Admin Accessor.
+     * @return boolean indicator if Schema is current or not.
+     */
+    @Override
+    public synchronized boolean isSchemaCurrent(ODatabaseDocumentTx db) {
+        changedClasses = null;
+        changedIndexes = null;
+        if (!isSchemaFingerprintEnabled()) {
+            return false;
+        }
+        String fingerprint = SchemaFingerprint.compute(SCHEMA_ENTITY_DEFINITIONS);
+        ODocument metadataRecord = findSchemaMetadataRecord(db);
+        String storedFingerprint = (metadataRecord == null) ? null :
+                metadataRecord.<String>field(SCHEMA_METADATA_FINGERPRINT);
+        if (fingerprint.equals(storedFingerprint)) {
+            LOGGER.info("{}Schema Fingerprint: {} matches, Schema and Index Validation not required.",
+                    ODB_PHASE_TWO, fingerprint);
+            return true;
+        }
+        LOGGER.info("{}Schema Fingerprint: {} does not match Stored Fingerprint: {}, Validation required.",
+                ODB_PHASE_TWO, fingerprint, storedFingerprint);
+        /**
+         * Limit Validation to the Classes and Indexes Changed since the Model was last Applied.
+         */
+        Map<String, String> storedClasses = (metadataRecord == null) ? null :
+                metadataRecord.<Map<String, String>>field(SCHEMA_METADATA_CLASSES);
+        Map<String, String> storedIndexes = (metadataRecord == null) ? null :
+                metadataRecord.<Map<String, String>>field(SCHEMA_METADATA_INDEXES);
+        if (isSchemaIncrementalEnabled() && storedClasses != null && storedIndexes != null) {
+            Map<String, String> classes = SchemaFingerprint.computeClasses(SCHEMA_ENTITY_DEFINITIONS);
+            Map<String, String> indexes = SchemaFingerprint.computeIndexes(SCHEMA_ENTITY_DEFINITIONS);
+            changedClasses = SchemaFingerprint.changed(classes, storedClasses);
+            changedIndexes = SchemaFingerprint.changed(indexes, storedIndexes);
+            LOGGER.info("{}Incremental Validation of {} of {} Classes: {}, and {} of {} Indexes: {}.",
+                    ODB_PHASE_TWO, changedClasses.size(), classes.size(), changedClasses,
+                    changedIndexes.size(), indexes.size(), changedIndexes);
+        }
+        return false;
+    }
+
     /**
      * Phase 2
      * 
@@ -223,60 +427,26 @@ public class OrientSchemaEnforcer implements SchemaEnforcer {
             }
         }
         /**
-         * Perform a check to validate we have our Graph Root Classes Defined.
-         */
-        ensureRootGraphClasses(helpers, schema);
-        /**
-         * Now Iterate over our Classes to Validate the Class Exists on the current Persistent Store.
+         * Compute the Schema Change Plan In-Memory against a Snapshot of the current Schemata.
          */
-        for (SchemaEntity schemaEntity : SCHEMA_ENTITY_DEFINITIONS) {
-            /**
-             * Only Process Mapped Entities...
-             */
-            if (!schemaEntity.isMappedEntity()) {
-                if (LOGGER.isTraceEnabled()) {
-                    LOGGER.trace("{}Class: {} Not a Mapped Entity, Ignoring.", ODB_PHASE_TWO,
-                            schemaEntity.getEntityClass().getName());
-                }
-                continue;
-            }
-            /**
-             * Check Class has been Defined?
-             */
-            if (helpers.hasClass(schema, schemaEntity.resolveName())) {
-                LOGGER.info("{}Class: {} Already Defined.",
-                        ODB_PHASE_TWO, schemaEntity.resolveName());
-            } else {
-                LOGGER.info("{}Class: {} Does not Exist on Persistent Store, Will Define new Class.",
-                        ODB_PHASE_TWO, schemaEntity.resolveName());
-                /**
-                 * Ensure the Class is Defined.
-                 */
-                defineClass(helpers, schema, schemaEntity);
-            }
-            /**
-             * Validate the Properties for the Class Defined.
-             * Associations are not defined until all Classes have been defined...
-             */
-            validateProperties(helpers, schema, schemaEntity);
+        SchemaChangePlan plan = new SchemaDiff(schema.makeSnapshot()).diffSchema(SCHEMA_ENTITY_DEFINITIONS,
+                changedClasses);
+        LOGGER.info("{}{}", ODB_PHASE_TWO, plan);
+        if (isDryRun()) {
+            LOGGER.info("{}Dry Run, Schema Change Plan not Applied.", ODB_PHASE_TWO);
+            return true;
         }
         /**
-         * Now that all Classes should be defined,
-         * Iterate Again to Define and Check all Associations.
+         * Now Apply the Schema Change Plan, as a single Batch Script if Enabled, with any
+         * Changes the Script cannot carry Applied Serially upon our Connection, otherwise
+         * across Independent Components.
          */
-        for (SchemaEntity schemaEntity : SCHEMA_ENTITY_DEFINITIONS) {
-            /**
-             * Only Process Mapped Entities...
-             */
-            if (!schemaEntity.isMappedEntity()) {
-                continue;
+        if (isBatchEnabled()) {
+            for (SchemaChange schemaChange : applySchemaChangeScript(db, schema, plan, ODB_PHASE_TWO)) {
+                applySchemaChange(helpers, db, schema, schemaChange);
             }
-            /**
-             * Validate the Properties for the Class Defined.
-             */
-            LOGGER.info("{}Class: {} Validating Associations.",
-                    ODB_PHASE_TWO, schemaEntity.resolveName());
-            validateAssociations(helpers, schema, schemaEntity);
+        } else {
+            applySchemaChanges(helpers, db, schema, plan.getChanges());
         }
 
         /**
@@ -294,11 +464,11 @@ public class OrientSchemaEnforcer implements SchemaEnforcer {
      * @param db reference to DB Admin Accessor.
      * @return boolean indicator if Indexes is validated or not.
      */
-    @SuppressWarnings("unchecked")
     @Override
     public boolean validateIndexes(ODatabaseDocumentTx db) {
         LOGGER.info("{}Performing Index Validation...", ODB_PHASE_THREE);
-        int issueCount = 0;
+        int issueCount;
+        INDICES_CREATED.clear();
         /**
          * Initialize our OrientDB Schema Helpers.
          */
@@ -310,66 +480,41 @@ public class OrientSchemaEnforcer implements SchemaEnforcer {
         OMetadata metadata = db.getMetadata();
         OSchema schema = metadata.getSchema();
         /**
-         * Iterate over Classes to Define All Applicable Indices...
+         * Compute the Index Change Plan In-Memory against a Snapshot of the current Schemata.
          */
-        List<String> indicesProcessed = new ArrayList<>();
-        for (SchemaEntity schemaEntity : SCHEMA_ENTITY_DEFINITIONS) {
-            List<Annotation> odbIndices = (List<Annotation>)
-                    schemaEntity.getEntityData().get(ODBIndex_NAME);
-            if (odbIndices == null || odbIndices.isEmpty()) {
-                continue;
-            }
-            /**
-             * Iterate over the Indices to be defined...
-             */
-            for (Annotation annotation : odbIndices) {
-                String indexName = ((ODBIndex) annotation).name();
-                /**
-                 * Did we Already Process this Named Index?
-                 */
-                if (indicesProcessed.contains(indexName)) {
-                    continue;
-                }
-                /**
-                 * Continue Accessing Index Definition.
-                 */
-                String indexSQL = ((ODBIndex) annotation).sql();
-                if (indexSQL == null || indexSQL.isEmpty()) {
-                    LOGGER.info("{}Index '{}' no SQL Defined for Index Definition, Ignoring!",
-                            ODB_PHASE_THREE, indexName);
-                    continue;
-                }
-                // As long as we have the SQL to define the Index we are good...
-                //
-                //String[] properties = ((ODBIndex)annotation).properties();
-                //ODBIndex.EngineType engineType = ((ODBIndex)annotation).engineType();
-                //ODBIndex.IndexType indexType = ((ODBIndex)annotation).type();
-                /**
-                 * Define index...
-                 */
-                try {
-                    OClass oClass = helpers.ensureClass(schema, schemaEntity.getEntityClass().getSimpleName());
-                    if (!helpers.hasIndex(oClass, indexName)) {
-                        OCommandScript creationCommand = new OCommandScript("sql", indexSQL);
-                        db.command(creationCommand).execute();
-                        db.commit();
-                        LOGGER.info("{}Index '{}' has been Defined.",
-                                ODB_PHASE_THREE, indexName);
-                    } else {
-                        LOGGER.info("{}Index '{}' has already been Defined.",
-                                ODB_PHASE_THREE, indexName);
-                    }
-                } catch (Exception e) {
-                    LOGGER.error("{}Index '{}' had Issue Validating: '{}'",
-                            ODB_PHASE_THREE, indexName, e.getMessage());
-                    issueCount++;
+        SchemaChangePlan plan = new SchemaDiff(schema.makeSnapshot()).diffIndexes(SCHEMA_ENTITY_DEFINITIONS,
+                changedIndexes);
+        LOGGER.info("{}{}", ODB_PHASE_THREE, plan);
+        if (isDryRun()) {
+            LOGGER.info("{}Dry Run, Index Change Plan not Applied.", ODB_PHASE_THREE);
+            return true;
+        }
+        /**
+         * When Online, the Index Change Plan is Applied in the Background and Phase 3 Returns at once.
+         */
+        if (isIndexOnline() && connectionSupplier != null) {
+            buildIndexesOnline(helpers, plan.getChanges());
+            return true;
+        }
+        /**
+         * Now Apply the Index Change Plan, as a single Batch Script if Enabled,
+         * any remaining Changes are Applied Individually.
+         */
+        List<SchemaChange> remainingChanges = plan.getChanges();
+        if (isBatchEnabled()) {
+            remainingChanges = applySchemaChangeScript(db, schema, plan, ODB_PHASE_THREE);
+            for (SchemaChange schemaChange : plan.getChanges()) {
+                if (!remainingChanges.contains(schemaChange)) {
+                    INDICES_CREATED.add(schemaChange.getName());
                 }
-                /**
-                 * Add to our Processed List...
-                 */
-                indicesProcessed.add(indexName);
             }
         }
+        /**
+         * Remaining Index Changes are Applied using our Bounded Worker Pool.
+         */
+        issueCount = runIndexTasks(db, remainingChanges, SchemaChange::getName, "Definition",
+                (workerDb, schemaChange) ->
+                        applySchemaChange(helpers, workerDb, workerDb.getMetadata().getSchema(), schemaChange));
         /**
          * End of Phase Three.
          */
@@ -389,15 +534,72 @@ public class OrientSchemaEnforcer implements SchemaEnforcer {
      */
     @Override
     public boolean reBuildIndexes(ODatabaseDocumentTx db) {
+        List<String> indexNames = new ArrayList<>(INDICES_CREATED);
+        if (indexNames.isEmpty()) {
+            LOGGER.info("{}No Indexes Created, Index REBUILD not Required.", ODB_PHASE_THREE);
+            return true;
+        }
+        LOGGER.info("{}Rebuilding {} Created Indexes...", ODB_PHASE_THREE, indexNames.size());
+        int issueCount = runIndexTasks(db, indexNames, indexName -> indexName, "REBUILD",
+                (workerDb, indexName) -> {
+                    OCommandScript rebuildCommand = new OCommandScript("sql", "REBUILD INDEX " + indexName);
+                    workerDb.command(rebuildCommand).execute();
+                    workerDb.commit();
+                    bootstrapReport.recordRoundTrips(2);
+                });
+        if (issueCount == 0) {
+            LOGGER.info("{}Successfully Issued Index REBUILD.", ODB_PHASE_THREE);
+            return true;
+        } else {
+            LOGGER.warn("{}Issues Raised: '{}' while Rebuilding Indices.", ODB_PHASE_THREE, issueCount);
+            return false;
+        }
+    }
+
+    /**
+     * Phase 3b -- Save Schema Fingerprint
+     *
+     * @param db reference to DB Admin Accessor.
+     * @return boolean indicator if Fingerprint was saved or not.
+     */
+    @Override
+    public synchronized boolean saveSchemaFingerprint(ODatabaseDocumentTx db) {
+        if (!isSchemaFingerprintEnabled() || isDryRun()) {
+            return false;
+        }
         try {
-                OCommandScript creationCommand = new OCommandScript("sql", "REBUILD INDEX *");
-                db.command(creationCommand).execute();
-                db.commit();
-                LOGGER.info("{}Successfully Issued Index REBUILD.", ODB_PHASE_THREE);
-                return true;
+            String fingerprint = SchemaFingerprint.compute(SCHEMA_ENTITY_DEFINITIONS);
+            ODocument metadataRecord = findSchemaMetadataRecord(db);
+            if (metadataRecord == null) {
+                MigrationHelpers helpers = new MigrationHelpersImpl(LOGGER);
+                helpers.ensureClass(db.getMetadata().getSchema(), SCHEMA_METADATA_CLASS);
+                metadataRecord = new ODocument(SCHEMA_METADATA_CLASS);
+                metadataRecord.field(SCHEMA_METADATA_NAME, SCHEMA_METADATA_RECORD_NAME);
+            }
+            /**
+             * Indexes not yet Built Online are left out, and the Fingerprint of the Domain Model is
+             * Withheld, so they are Validated again should the Process stop before they are Ready.
+             */
+            Map<String, String> indexes = SchemaFingerprint.computeIndexes(SCHEMA_ENTITY_DEFINITIONS);
+            indexes.keySet().removeIf(indexName -> !indexBuildTracker.isUsable(indexName));
+            if (indexBuildTracker.getOutstandingCount() > 0) {
+                LOGGER.info("{}Schema Fingerprint Withheld until {} Online Index Builds are Ready.",
+                        ODB_PHASE_THREE, indexBuildTracker.getOutstandingCount());
+                fingerprint = null;
+            }
+            metadataRecord.field(SCHEMA_METADATA_FINGERPRINT, fingerprint);
+            metadataRecord.field(SCHEMA_METADATA_CLASSES,
+                    SchemaFingerprint.computeClasses(SCHEMA_ENTITY_DEFINITIONS), OType.EMBEDDEDMAP);
+            metadataRecord.field(SCHEMA_METADATA_INDEXES, indexes, OType.EMBEDDEDMAP);
+            metadataRecord.field(SCHEMA_METADATA_UPDATED, new Date());
+            db.save(metadataRecord);
+            bootstrapReport.recordRoundTrips(1);
+            LOGGER.info("{}Schema Fingerprint: {} Saved.", ODB_PHASE_THREE, fingerprint);
+            return true;
         } catch (Exception e) {
-                LOGGER.warn("{}Exception Raised: '{}' while Rebuilding Indices.", ODB_PHASE_THREE, e.getMessage(), e);
-                return false;
+            LOGGER.warn("{}Exception Raised: '{}' while Saving Schema Fingerprint.", ODB_PHASE_THREE,
+                    e.getMessage(), e);
+            return false;
         }
     }
 
@@ -448,86 +650,145 @@ public class OrientSchemaEnforcer implements SchemaEnforcer {
          * Get Classes in Package using Spring Candidate Component Provider.
          */
         LOGGER.info("{}Scanning Package: '{}'", ODB_PHASE_ONE, packageName);
-        Integer dependencyId = 0;
-        /**
-         * Create Scanner and disable default filters (that is the 'false' argument)
-         * and add filter to match all classes...
-         */
-        //final ClassPathScanningCandidateComponentProvider provider =
-        //        new ClassPathScanningCandidateComponentProvider(false);
-        //provider.addIncludeFilter(new RegexPatternTypeFilter(Pattern.compile(".*")));
+        String packageNamePrefix = packageName + ".";
         /**
-         * Get the Matching Classes from our Candidate Provider.
+         * Use the Entity Index generated at Compile Time if available, otherwise
+         * fall back to Scanning the Classpath for all Classes within the Package.
          */
-        // final Set<BeanDefinition> classes = provider.findCandidateComponents(packageName);
-        final Set<BeanDefinition> classes = findCandidateComponents(packageName);
+        Set<String> classes = findIndexedCandidates(packageNamePrefix);
+        if (classes == null) {
+            classes = new LinkedHashSet<>();
+            for (BeanDefinition bean : findCandidateComponents(packageName)) {
+                classes.add(bean.getBeanClassName());
+            }
+        }
         /**
          * Indicate the Number of Classes Found...
          */
         LOGGER.info("{}Entity Classes Found in Package: {}", ODB_PHASE_ONE, classes.size());
         /**
-         * Now Iterate over each Entity Class Found.
+         * If our Class Name is not with our Entity Packages,
+         * then simply Ignore.
          */
-        String packageNamePrefix = packageName + ".";
-        for (BeanDefinition bean : classes) {
-            String className = bean.getBeanClassName();
-            /**
-             * If our Class Name is not with our Entity Packages,
-             * then simply Ignore.
-             */
-            if (!className.startsWith(packageNamePrefix)) {
-                continue;
-            }
-            /**
-             * Obtain the Class based Upon the Name,
-             * any Errors/Exceptions are Ignored during this Phase.
-             */
-            Class jClass;
-            try {
-                jClass = Class.forName(className);
-            } catch (Exception ignored) {
-                continue;
-            }
-            if (jClass == null) {
-                continue;
+        List<String> candidates = new ArrayList<>(classes.size());
+        for (String className : classes) {
+            if (className.startsWith(packageNamePrefix)) {
+                candidates.add(className);
             }
-            /**
-             * Determine if this Class is a ENUM or Interface, which we can Ignore during Processing...
-             */
-            if (jClass.isEnum() || jClass.isInterface()) {
-                continue;
+        }
+        /**
+         * Now Process each Entity Class Found in Parallel, the Candidate Order is
+         * retained so the Dependency Order which follows is Deterministic.
+         */
+        List<SchemaEntity> schemaEntities = parallelScan(candidates.size(),
+                index -> scanClass(index + 1, candidates.get(index)));
+        for (SchemaEntity schemaEntity : schemaEntities) {
+            if (schemaEntity != null) {
+                SCHEMA_ENTITY_DEFINITIONS.add(schemaEntity);
             }
-            /**
-             * Instantiate a Schema Entity Class for us to Map Our Definitions.
-             */
-            dependencyId++;
-            SchemaEntity schemaEntity = new SchemaEntity(dependencyId, className, jClass);
-            SCHEMA_ENTITY_DEFINITIONS.add(schemaEntity);
-            /**
-             * Check if this Class Abstract?
-             */
-            schemaEntity.setAbstractClass(Modifier.isAbstract(jClass.getModifiers()));
-            /**
-             * Get Base Annotations.
-             */
-            Annotation[] annotations = jClass.getAnnotations();
-            for (Annotation annotation : annotations) {
-                processClassAnnotation(schemaEntity, annotation);
+        }
+        return true;
+    }
+
+    /**
+     * scanClass
+     *
+     * Build the Schema Entity of a single Class, upon a Scan Worker.
+     *
+     * @param dependencyId Dependency Id of the Entity.
+     * @param className    Class Name
+     * @return SchemaEntity or null, if the Class cannot be Loaded or is not an Entity.
+     */
+    @SuppressWarnings("unchecked")
+    protected SchemaEntity scanClass(int dependencyId, String className) {
+        long classStarted = System.nanoTime();
+        /**
+         * Obtain the Class based Upon the Name,
+         * any Errors/Exceptions are Ignored during this Phase.
+         */
+        Class jClass;
+        try {
+            jClass = Class.forName(className);
+        } catch (Exception | LinkageError ignored) {
+            return null;
+        }
+        /**
+         * Determine if this Class is a ENUM or Interface, which we can Ignore during Processing...
+         */
+        if (jClass.isEnum() || jClass.isInterface()) {
+            return null;
+        }
+        /**
+         * Instantiate a Schema Entity Class for us to Map Our Definitions.
+         */
+        SchemaEntity schemaEntity = new SchemaEntity(dependencyId, className, jClass);
+        /**
+         * Check if this Class Abstract?
+         */
+        schemaEntity.setAbstractClass(Modifier.isAbstract(jClass.getModifiers()));
+        /**
+         * Get Base Annotations.
+         */
+        Annotation[] annotations = jClass.getAnnotations();
+        for (Annotation annotation : annotations) {
+            processClassAnnotation(schemaEntity, annotation);
+        }
+        /**
+         * Process the Inheritance Chain, without inherited fields, since our
+         * Persistent Store implementation is OrientDB, polymorphism is
+         * automatic, as long as inheritance chain is maintained.
+         */
+        processInheritance(jClass, schemaEntity);
+        /**
+         * Is this a Mapped Entity? If so, obtain the Fields aka Properties.
+         */
+        if (schemaEntity.isMappedEntity()) {
+            processFieldAnnotations(jClass, schemaEntity);
+            bootstrapReport.recordClassScan(schemaEntity.resolveName(), System.nanoTime() - classStarted);
+        }
+        return schemaEntity;
+    }
+
+    /**
+     * parallelScan
+     *
+     * Run a Scan Task per Item upon a Fork Join Pool, retaining the Item Order in the Results.
+     *
+     * @param size Number of Items.
+     * @param task Task performed for each Item Index.
+     * @param <R>  Result Type.
+     * @return List of Results, in Item Order.
+     */
+    protected <R> List<R> parallelScan(int size, IntFunction<R> task) {
+        int parallelism = Math.min(getScanParallelism(), size);
+        if (parallelism <= 1) {
+            List<R> results = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                results.add(task.apply(i));
             }
-            /**
-             * Process the Inheritance Chain, without inherited fields, since our
-             * Persistent Store implementation is OrientDB, polymorphism is
-             * automatic, as long as inheritance chain is maintained.
-             */
-            processInheritance(jClass, schemaEntity);
-            /**
-             * Is this a Mapped Entity? If so, obtain the Fields aka Properties.
-             */
-            if (schemaEntity.isMappedEntity()) {
-                processFieldAnnotations(jClass, schemaEntity);
+            return results;
+        }
+        ForkJoinPool scanPool = new ForkJoinPool(parallelism, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("odb-scan-" + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        }, null, false);
+        try {
+            return scanPool.submit(() -> IntStream.range(0, size).parallel()
+                    .mapToObj(task)
+                    .collect(Collectors.toList())).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while Scanning Entity Package.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
             }
+            throw new IllegalStateException("Failure while Scanning Entity Package.", e.getCause());
+        } finally {
+            scanPool.shutdownNow();
         }
-        return true;
     }
 
     /**
@@ -565,35 +826,31 @@ public class OrientSchemaEnforcer implements SchemaEnforcer {
      * @param schemaEntity Current Schema Entity POJO
      * @param annotation   Associated Annotation
      */
-    @SuppressWarnings("unchecked")
     protected void processClassAnnotation(SchemaEntity schemaEntity, Annotation annotation) {
         if (annotation instanceof ODBGraphObject) {
             schemaEntity.setMappedEntity(true);
             schemaEntity.setOverrideEntityName(((ODBGraphObject) annotation).name());
             schemaEntity.setGraphType(((ODBGraphObject) annotation).type());
             schemaEntity.setRootClass(((ODBGraphObject) annotation).rootClass());
-            schemaEntity.getEntityData().put(annotation.getClass().getSimpleName(), annotation);
         } else if (annotation instanceof ODBIndex) {
             /**
              * Process a Single Index Annotation...
              */
-            if (!schemaEntity.getEntityData().containsKey(ODBIndex_NAME)) {
-                schemaEntity.getEntityData().put(ODBIndex_NAME, new ArrayList<Annotation>());
-            }
-            List<Annotation> odbIndices = (List<Annotation>)
-                    schemaEntity.getEntityData().get(ODBIndex_NAME);
-            odbIndices.add(annotation);
+            schemaEntity.addIndex(SchemaEntityIndex.fromAnnotation((ODBIndex) annotation));
         } else if (annotation instanceof ODBIndices) {
             /**
              * Iterate over the Multiple Defined Indices...
               */
             for(ODBIndex innerAnnotation : ((ODBIndices)annotation).value()) {
-                if (!schemaEntity.getEntityData().containsKey(ODBIndex_NAME)) {
-                    schemaEntity.getEntityData().put(ODBIndex_NAME, new ArrayList<Annotation>());
-                }
-                List<Annotation> odbIndices = (List<Annotation>)
-                        schemaEntity.getEntityData().get(ODBIndex_NAME);
-                odbIndices.add(innerAnnotation);
+                schemaEntity.addIndex(SchemaEntityIndex.fromAnnotation(innerAnnotation));
+            }
+        } else if (!annotation.annotationType().getName().startsWith("java.lang.annotation.")) {
+            /**
+             * A Composed Annotation, Meta-Annotated as a Graph Object...
+             */
+            ODBGraphObject graphObject = AnnotationUtils.findAnnotation(annotation.annotationType(), ODBGraphObject.class);
+            if (graphObject != null) {
+                processClassAnnotation(schemaEntity, graphObject);
             }
         }
     }
@@ -622,517 +879,769 @@ public class OrientSchemaEnforcer implements SchemaEnforcer {
                     Modifier.isFinal(field.getModifiers())) {
                 continue;
             }
-            boolean uniqueIdentifier = false;
-            Map<String, Object> propertyData = new HashMap<>();
-            Annotation[] annotations = field.getAnnotations();
-            for (Annotation annotation : annotations) {
-                if (annotation instanceof ODBUniqueIdentifier) {
-                    uniqueIdentifier = true;
-                    propertyData.put(ODBUniqueIdentifier_NAME, annotation);
-                } else if (annotation instanceof ODBAssociation) {
-                    propertyData.put(ODBAssociation_NAME, annotation);
-                } else if (annotation instanceof ODBProperty) {
-                    propertyData.put(ODBProperty_NAME, annotation);
-                }
-            }
             /**
-             * Add Property to Mapped Fields.
+             * Resolve the Property Descriptor once and add to Mapped Fields.
              */
-            SchemaEntityProperty schemaEntityProperty =
-                    new SchemaEntityProperty(field.getName(), field.getType(), uniqueIdentifier);
-            schemaEntityProperty.getPropertyData().putAll(propertyData);
-            schemaEntity.getProperties().put(schemaEntityProperty.getPropertyName(), schemaEntityProperty);
+            schemaEntity.addProperty(SchemaEntityProperty.fromField(field));
         }
     }
 
     /**
-     * Private Helper Method to Validate the Properties for a Given ODB Class.
-     *
-     * @param helpers      Reference to Helpers
-     * @param schema       Reference to Schemata
-     * @param schemaEntity Entity Reference
+     * Order the Entity Classes by their Dependencies, Superclasses and Linked or Edge Classes first,
+     * to Determine Processing Dependency Order. Entities not Mapped follow the Mapped Entities.
      */
-    protected void validateProperties(MigrationHelpers helpers, OSchema schema, SchemaEntity schemaEntity) {
-        /**
-         * Iterate over all Schema Entity Properties...
-         */
-        for (String propertyKey : schemaEntity.getProperties().keySet()) {
-            SchemaEntityProperty property = schemaEntity.getProperties().get(propertyKey);
-            String propertyName = property.getPropertyName();
-            ODBProperty.PropertyType propertyType = null;
-            /**
-             * Obtain the Annotation for the Property.
-             */
-            if (property.getPropertyData().get(ODBProperty_NAME) != null) {
-                ODBProperty propertyAnnotation = (ODBProperty) property.getPropertyData().get(ODBProperty_NAME);
-                if (propertyAnnotation.name() != null && !propertyAnnotation.name().isEmpty()) {
-                    propertyName = propertyAnnotation.name();
-                }
-                propertyType = propertyAnnotation.type();
-                if (propertyType != null && propertyType.equals(ODBProperty.PropertyType.TRANSIENT)) {
-                    continue;
-                }
-            } else if (property.getPropertyData().get(ODBUniqueIdentifier_NAME) != null) {
-                ODBUniqueIdentifier propertyAnnotation =
-                        (ODBUniqueIdentifier) property.getPropertyData().get(ODBUniqueIdentifier_NAME);
-                if (propertyAnnotation.name() != null && !propertyAnnotation.name().isEmpty()) {
-                    propertyName = propertyAnnotation.name();
-                }
-                propertyType = ODBProperty.PropertyType.STRING;
-            } else if (property.getPropertyData().get(ODBAssociation_NAME) != null) {
-                continue;
+    protected void orderByDependencies() {
+        LOGGER.info("{}Processing Dependency Order for Schema Entities...", ODB_PHASE_ONE);
+        DependencyGraph dependencyGraph = new DependencyGraph(SCHEMA_ENTITY_DEFINITIONS);
+        for (List<String> cycle : dependencyGraph.getCycles()) {
+            LOGGER.info("{}Association Cycle among Classes: {}, their Associations follow all Classes.",
+                    ODB_PHASE_ONE, cycle);
+        }
+        List<SchemaEntity> ordered = dependencyGraph.sort();
+        Set<SchemaEntity> orderedEntities = Collections.newSetFromMap(new IdentityHashMap<>());
+        orderedEntities.addAll(ordered);
+        for (SchemaEntity schemaEntity : SCHEMA_ENTITY_DEFINITIONS) {
+            if (!orderedEntities.contains(schemaEntity)) {
+                ordered.add(schemaEntity);
             }
-            /**
-             * Process Property or Association?
-             */
-            if (propertyType != null) {
-                /**
-                 * Now that we have the correct name if it was overridden, validate the Properties Existence.
-                 */
-                if (helpers.hasProperty(schema, schemaEntity.resolveName(), propertyName)) {
-                    LOGGER.info("{}Class: {}, Property: '{}' Already Defined.",
-                            ODB_PHASE_TWO, schemaEntity.resolveName(),
-                            propertyName);
-                    /**
-                     * Even though the Property is Defined, we need to ensure the Property Type is the Same
-                     * as what has been defined per Annotations.
-                     */
+        }
+        SCHEMA_ENTITY_DEFINITIONS.clear();
+        SCHEMA_ENTITY_DEFINITIONS.addAll(ordered);
+    }
 
-                } else {
-                    LOGGER.info("{}Class: {}, Property: '{}' Does Not Exist, need to Define.",
-                            ODB_PHASE_TWO, schemaEntity.resolveName(),
-                            propertyName);
-                }
+    /**
+     * findIndexedCandidates
+     *
+     * Load the Entity Index Resources generated by the
+     * {@link jeffaschenk.orientdb.processor.ODBGraphObjectIndexProcessor} at Compile Time.
+     *
+     * The Index is only used when every Classpath Root holding the Package ships an Index of
+     * its own, and at least one Index lists a Class of the Package. Otherwise, such as when
+     * only a Dependency ships an Index, the Classpath is Scanned.
+     *
+     * @param packageNamePrefix Package Name Prefix, Classes outside of this Prefix are Ignored.
+     * @return Set of Class Names or null, if the Entity Index does not cover the Package or its usage is disabled.
+     */
+    protected Set<String> findIndexedCandidates(String packageNamePrefix) {
+        if (!environment.getProperty(ENTITY_INDEX_ENABLED_PROPERTY_NAME, Boolean.class, true)) {
+            return null;
+        }
+        ResourcePatternResolver resourcePatternResolver = new PathMatchingResourcePatternResolver();
+        try {
+            Resource[] resources = resourcePatternResolver.getResources(
+                    "classpath*:" + ODBGraphObjectIndexProcessor.ENTITY_INDEX_RESOURCE);
+            if (resources.length == 0) {
+                LOGGER.info("{}No Entity Index found, Scanning Classpath.", ODB_PHASE_ONE);
+                return null;
             }
             /**
-             * Define the Property...
+             * Each Classpath Root holding the Package must ship an Index.
              */
-            defineProperty(helpers, schema, schemaEntity, property, propertyName);
+            Set<String> indexedRoots = new HashSet<>();
+            for (Resource resource : resources) {
+                indexedRoots.add(classpathRoot(resource, ODBGraphObjectIndexProcessor.ENTITY_INDEX_RESOURCE));
+            }
+            String packagePath = packageNamePrefix.replace('.', '/');
+            for (Resource packageResource : resourcePatternResolver.getResources("classpath*:" + packagePath)) {
+                String packageRoot = classpathRoot(packageResource, packagePath);
+                if (!indexedRoots.contains(packageRoot)) {
+                    LOGGER.info("{}Package Location: {} has no Entity Index, Scanning Classpath.",
+                            ODB_PHASE_ONE, packageRoot);
+                    return null;
+                }
+            }
+            Set<String> candidates = new LinkedHashSet<>();
+            for (Resource resource : resources) {
+                if (LOGGER.isTraceEnabled()) {
+                    LOGGER.trace("Reading Entity Index " + resource);
+                }
+                try (BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        line = line.trim();
+                        if (line.startsWith(packageNamePrefix)) {
+                            candidates.add(line);
+                        }
+                    }
+                }
+            }
+            if (candidates.isEmpty()) {
+                LOGGER.info("{}No Entity Index lists Package: '{}', Scanning Classpath.", ODB_PHASE_ONE,
+                        packageNamePrefix);
+                return null;
+            }
+            LOGGER.info("{}Using Entity Index, Resources Found: {}", ODB_PHASE_ONE, resources.length);
+            return candidates;
+        } catch (IOException ioe) {
+            LOGGER.warn("{}Unable to read Entity Index: '{}', Scanning Classpath.", ODB_PHASE_ONE,
+                    ioe.getMessage());
+            return null;
         }
     }
 
     /**
-     * Private Helper Method to Validate the Associations for a Given ODB Class.
+     * Obtain the Classpath Root of a Resource, its URL without the Resource Path.
+     */
+    private static String classpathRoot(Resource resource, String resourcePath) throws IOException {
+        String url = resource.getURL().toString();
+        if (url.endsWith("/")) {
+            url = url.substring(0, url.length() - 1);
+        }
+        String path = resourcePath.endsWith("/") ? resourcePath.substring(0, resourcePath.length() - 1) : resourcePath;
+        return url.endsWith(path) ? url.substring(0, url.length() - path.length()) : url;
+    }
+
+    /**
+     * findCandidateComponents
+     * Obtained from org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider.
+     * 
+     * Modified from original, to allow inclusion of Non-Concrete Classes, to Read the Class
+     * Metadata in Parallel, and to only include Classes Mapped by an {@link ODBGraphObject}
+     * Annotation, upon the Class or its Superclasses, as Determined from the Class Metadata
+     * alone, so Non-Entity Classes are never Loaded.
      *
-     * @param helpers      Reference to Helpers
-     * @param schema       Reference to Schemata
-     * @param schemaEntity Entity Reference
+     * @param basePackage String of Base Package to find Candidates.
+     * @return Set of Bean Definitions.
      */
-    protected void validateAssociations(MigrationHelpers helpers, OSchema schema, SchemaEntity schemaEntity) {
-        /**
-         * Iterate over all Schema Entity Properties...
-         */
-        for (String propertyKey : schemaEntity.getProperties().keySet()) {
-            SchemaEntityProperty property = schemaEntity.getProperties().get(propertyKey);
-            String propertyName = property.getPropertyName();
-            ODBAssociation.AssociationType associationType;
-            /**
-             * Obtain the Annotation for the Association.
-             */
-            if (property.getPropertyData().get(ODBAssociation_NAME) != null) {
-                ODBAssociation associationAnnotation = (ODBAssociation) property.getPropertyData().get(ODBAssociation_NAME);
-                if (associationAnnotation.name() != null && !associationAnnotation.name().isEmpty()) {
-                    propertyName = associationAnnotation.name();
+    protected Set<BeanDefinition> findCandidateComponents(String basePackage) {
+        ResourcePatternResolver resourcePatternResolver = new PathMatchingResourcePatternResolver();
+        MetadataReaderFactory metadataReaderFactory =
+                new CachingMetadataReaderFactory(new PathMatchingResourcePatternResolver());
+        Map<String, Boolean> mappedClasses = new ConcurrentHashMap<>();
+        try {
+            String ex = "classpath*:" + this.resolveBasePackage(basePackage) + "/" + "**/*.class";
+            Resource[] resources = resourcePatternResolver.getResources(ex);
+
+            List<BeanDefinition> scanned = parallelScan(resources.length, index -> {
+                Resource resource = resources[index];
+                if (LOGGER.isTraceEnabled()) {
+                    LOGGER.trace("Scanning " + resource);
                 }
-                associationType = associationAnnotation.type();
-                if (associationType != null && associationType.equals(ODBAssociation.AssociationType.TRANSIENT) ||
-                        associationType != null && associationType.equals(ODBAssociation.AssociationType.NONE)) {
-                    continue;
+                if (!resource.isReadable()) {
+                    LOGGER.trace("Resource Ignored because not readable: " + resource);
+                    return null;
                 }
-            } else {
-                continue;
-            }
+                try {
+                    MetadataReader ex1 = metadataReaderFactory.getMetadataReader(resource);
+                    if (!isMappedCandidate(metadataReaderFactory, ex1, mappedClasses)) {
+                        return null;
+                    }
+                    ScannedGenericBeanDefinition sbd = new ScannedGenericBeanDefinition(ex1);
+                    sbd.setResource(resource);
+                    sbd.setSource(resource);
+                    return sbd;
+                } catch (Throwable var13) {
+                    throw new BeanDefinitionStoreException("Failed to read candidate component class: " + resource, var13);
+                }
+            });
             /**
-             * Define the Association...
+             * Return the Candidates
              */
-            LOGGER.info("{}Class: {}, Validating Association: '{}'.",
-                    ODB_PHASE_TWO, schemaEntity.resolveName(),
-                    propertyName);
-            defineProperty(helpers, schema, schemaEntity, property, propertyName);
+            Set<BeanDefinition> candidates = new LinkedHashSet<>();
+            for (BeanDefinition beanDefinition : scanned) {
+                if (beanDefinition != null) {
+                    candidates.add(beanDefinition);
+                }
+            }
+            LOGGER.info("{}Classpath Scan Read {} Classes, {} are Entity Candidates, the others are not Loaded.",
+                    ODB_PHASE_ONE, resources.length, candidates.size());
+            return candidates;
+        } catch (IOException var14) {
+            throw new BeanDefinitionStoreException("I/O failure during classpath scanning", var14);
         }
     }
 
     /**
-     * Private Helper Method to Define a Class for a Given ODB Class.
+     * isMappedCandidate
      *
-     * @param helpers      Reference to Helpers
-     * @param schema       Reference to Schemata
-     * @param schemaEntity Entity Reference
+     * Determine from its Metadata alone if a Class is Mapped by an {@link ODBGraphObject} Annotation,
+     * either Directly or as the Meta-Annotation of a Composed Annotation, upon the Class itself
+     * or any of its Superclasses. Interfaces, Annotations and Enums are never Mapped.
+     *
+     * @param metadataReaderFactory Factory to Read the Metadata of Superclasses.
+     * @param metadataReader        Metadata of the Class.
+     * @param mappedClasses         Results by Class Name, Shared across the Scan.
+     * @return boolean indicator if the Class is a Mapped Candidate.
      */
-    protected void defineClass(MigrationHelpers helpers,
-                               OSchema schema, SchemaEntity schemaEntity) {
-        /**
-         * Ensure the Class has been established with the Correct Setting if the class
-         * is Abstract or not.
-         */
-        OClass oClass = helpers.ensureClass(schema, schemaEntity.resolveName());
-        helpers.ensureClassAttribute(oClass, OClass.ATTRIBUTES.ABSTRACT, schemaEntity.isAbstractClass());
-
-        /**
-         * Check for a Root Base Class Indicator
-         */
-        if (schemaEntity.isRootClass() && !schemaEntity.getGraphType().equals(ODBGraphObject.ODBGraphObjectType.NONE)) {
-            LOGGER.info("{}Root Class: {} is Derived from: {}",
-                    ODB_PHASE_TWO, schemaEntity.resolveName(),
-                    schemaEntity.getGraphType().name().substring(0, 1).toUpperCase());
-            helpers.ensureClassAttribute(oClass, OClass.ATTRIBUTES.SUPERCLASS,
-                    schema.getClass(schemaEntity.getGraphType().name().substring(0, 1).toUpperCase()));
+    protected boolean isMappedCandidate(MetadataReaderFactory metadataReaderFactory, MetadataReader metadataReader,
+                                        Map<String, Boolean> mappedClasses) {
+        ClassMetadata classMetadata = metadataReader.getClassMetadata();
+        if (classMetadata.isInterface() || classMetadata.isAnnotation() ||
+                Enum.class.getName().equals(classMetadata.getSuperClassName())) {
+            return false;
         }
-        /**
-         * Now Check which SuperClass this is Derived From?
-         */
-        if (schemaEntity.getInheritanceChain() == null || schemaEntity.getInheritanceChain().isEmpty()) {
-            /**
-             * No Inheritance Chain so, Ignore, no need for a SuperClass.
-             */
-            return;
+        Boolean mapped = mappedClasses.get(classMetadata.getClassName());
+        if (mapped != null) {
+            return mapped;
         }
-        /**
-         * Set our SuperClass per our Inheritance chain.
-         */
-        Class inheritanceMember = schemaEntity.getInheritanceChain().get(0);
-        LOGGER.info("{}Class: {} is Derived from: {}",
-                ODB_PHASE_TWO, schemaEntity.resolveName(), inheritanceMember.getName());
-        helpers.ensureClassAttribute(oClass, OClass.ATTRIBUTES.SUPERCLASS,
-                schema.getClass(inheritanceMember.getSimpleName()));
+        AnnotationMetadata annotationMetadata = metadataReader.getAnnotationMetadata();
+        mapped = annotationMetadata.hasAnnotation(ODBGraphObject.class.getName()) ||
+                annotationMetadata.hasMetaAnnotation(ODBGraphObject.class.getName());
+        String superClassName = classMetadata.getSuperClassName();
+        if (!mapped && superClassName != null && !Object.class.getName().equals(superClassName)) {
+            try {
+                mapped = isMappedCandidate(metadataReaderFactory,
+                        metadataReaderFactory.getMetadataReader(superClassName), mappedClasses);
+            } catch (IOException ioe) {
+                LOGGER.trace("Superclass Metadata not readable: " + superClassName);
+            }
+        }
+        mappedClasses.put(classMetadata.getClassName(), mapped);
+        return mapped;
+    }
+
+    /**
+     * Determine if the Schema Fingerprint Check is Enabled.
+     *
+     * @return boolean indicator, defaults to true.
+     */
+    protected boolean isSchemaFingerprintEnabled() {
+        return environment.getProperty(SCHEMA_FINGERPRINT_ENABLED_PROPERTY_NAME, Boolean.class, true);
+    }
+
+    /**
+     * Determine if Validation is Limited to the Classes and Indexes Changed since the Model was last Applied.
+     *
+     * @return boolean indicator, defaults to true.
+     */
+    protected boolean isSchemaIncrementalEnabled() {
+        return environment.getProperty(SCHEMA_INCREMENTAL_ENABLED_PROPERTY_NAME, Boolean.class, true);
     }
 
     /**
-     * Private Helper Method to Define a Property for a Given ODB Class.
+     * Find the Schema Metadata Record holding the Stored Fingerprint.
+     *
+     * @param db reference to DB Admin Accessor.
+     * @return ODocument of the Schema Metadata Record or null if not Found.
+     */
+    protected ODocument findSchemaMetadataRecord(ODatabaseDocumentTx db) {
+        if (!db.getMetadata().getSchema().existsClass(SCHEMA_METADATA_CLASS)) {
+            return null;
+        }
+        List<ODocument> results = db.query(new OSQLSynchQuery<ODocument>(
+                        "SELECT FROM " + SCHEMA_METADATA_CLASS + " WHERE " + SCHEMA_METADATA_NAME + " = ?"),
+                SCHEMA_METADATA_RECORD_NAME);
+        bootstrapReport.recordRoundTrips(1);
+        return (results == null || results.isEmpty()) ? null : results.get(0);
+    }
+
+    /**
+     * Resolve Base Package Name.
+     *
+     * @param basePackage String containing Base Package Name.
+     * @return String of resolved Base Package.
+     */
+    protected String resolveBasePackage(String basePackage) {
+        return ClassUtils.convertClassNameToResourcePath(this.environment.resolveRequiredPlaceholders(basePackage));
+    }
+
+    /**
+     * Apply a Single Schema Change from a Schema Change Plan.
+     * All Changes are applied through the Migration Helpers, which will only modify
+     * the Persistent Store if the Schema still differs.
      *
      * @param helpers      Reference to Helpers
+     * @param db           reference to DB Admin Accessor.
      * @param schema       Reference to Schemata
-     * @param schemaEntity Entity Reference
-     * @param property     Property reference
-     * @param propertyName Property Name Resolved.
+     * @param schemaChange Schema Change to be Applied.
      */
-    protected void defineProperty(MigrationHelpers helpers,
-                                  OSchema schema, SchemaEntity schemaEntity, SchemaEntityProperty property,
-                                  String propertyName) {
+    protected void applySchemaChange(MigrationHelpers helpers, ODatabaseDocumentTx db,
+                                     OSchema schema, SchemaChange schemaChange) {
+        long started = System.nanoTime();
+        OClass oClass = helpers.ensureClass(schema, schemaChange.getClassName());
+        switch (schemaChange.getChangeType()) {
+            case CREATE_CLASS:
+                break;
+            case SET_CLASS_ATTRIBUTE:
+                OClass.ATTRIBUTES classAttribute = OClass.ATTRIBUTES.valueOf(schemaChange.getAttribute());
+                helpers.ensureClassAttribute(oClass, classAttribute,
+                        classAttribute == OClass.ATTRIBUTES.SUPERCLASS ?
+                                schema.getClass(schemaChange.getValue()) : Boolean.valueOf(schemaChange.getValue()));
+                break;
+            case CREATE_PROPERTY:
+            case ALTER_PROPERTY_TYPE:
+                helpers.ensureProperty(oClass, schemaChange.getName(), OType.valueOf(schemaChange.getValue()));
+                break;
+            case SET_PROPERTY_ATTRIBUTE:
+                OProperty.ATTRIBUTES propertyAttribute = OProperty.ATTRIBUTES.valueOf(schemaChange.getAttribute());
+                helpers.ensurePropertyAttribute(oClass.getProperty(schemaChange.getName()), propertyAttribute,
+                        toPropertyAttributeValue(schema, propertyAttribute, schemaChange.getValue()));
+                break;
+            case RECREATE_INDEX:
+                if (helpers.hasIndex(oClass, schemaChange.getName())) {
+                    db.getMetadata().getIndexManager().dropIndex(schemaChange.getName());
+                    bootstrapReport.recordSchemaMutations(1);
+                    bootstrapReport.recordRoundTrips(1);
+                    LOGGER.info("{}Index '{}' Dropped, Definition: {} no longer matches.",
+                            ODB_PHASE_THREE, schemaChange.getName(), schemaChange.getPreviousValue());
+                }
+                /**
+                 * Fall through to Create the Index with its Current Definition.
+                 */
+            case CREATE_INDEX:
+                if (!helpers.hasIndex(oClass, schemaChange.getName())) {
+                    if (schemaChange.isStructuredIndex()) {
+                        List<String> fields = schemaChange.getIndexFields();
+                        oClass.createIndex(schemaChange.getName(), schemaChange.getAttribute(), null, null,
+                                schemaChange.getIndexAlgorithm(), fields.toArray(new String[fields.size()]));
+                        bootstrapReport.recordRoundTrips(1);
+                    } else {
+                        OCommandScript creationCommand = new OCommandScript("sql", schemaChange.getValue());
+                        db.command(creationCommand).execute();
+                        db.commit();
+                        bootstrapReport.recordRoundTrips(2);
+                    }
+                    bootstrapReport.recordSchemaMutations(1);
+                    INDICES_CREATED.add(schemaChange.getName());
+                    LOGGER.info("{}Index '{}' has been Defined.",
+                            ODB_PHASE_THREE, schemaChange.getName());
+                } else {
+                    LOGGER.info("{}Index '{}' has already been Defined.",
+                            ODB_PHASE_THREE, schemaChange.getName());
+                }
+                break;
+            default:
+                LOGGER.warn("{}Unknown Schema Change: {}, Ignoring!", ODB_PHASE_TWO, schemaChange);
+                return;
+        }
         /**
-         * Validate Property Name is Present.
+         * Index Changes are Recorded per Index by their Task.
          */
-        if (propertyName == null || propertyName.isEmpty()) {
-            LOGGER.error("{}  + Unable to Define Property for Class: {}, As Property Name is Missing!",
-                    ODB_PHASE_TWO,
-                    schemaEntity.resolveName());
+        if (!schemaChange.isIndexChange()) {
+            bootstrapReport.recordSchemaMutations(1);
+            bootstrapReport.recordRoundTrips(1);
+            bootstrapReport.recordClassChange(schemaChange.getClassName(), System.nanoTime() - started);
+        }
+    }
+
+    /**
+     * Build Indexes Online, one at a time upon a Background Worker with a fixed Pause between each.
+     * This Defers the Index Creation only, each Build is a Blocking Create Index which Locks its
+     * Class while it Runs, is not Throttled, and Queries are not Gated upon it. Each Index is
+     * Tracked by the {@link IndexBuildTracker}, for Callers to Wait upon before Relying on it.
+     * Once every Index is Ready, the Schema Fingerprint is Saved.
+     *
+     * @param helpers       Migration Helpers
+     * @param schemaChanges Index Changes to be Applied.
+     */
+    protected synchronized void buildIndexesOnline(MigrationHelpers helpers, List<SchemaChange> schemaChanges) {
+        if (schemaChanges.isEmpty()) {
             return;
         }
-        /**
-         * Obtain our ODB Class from Schema Helper.
-         */
-        OClass oClass = helpers.ensureClass(schema, schemaEntity.resolveName());
-        if (oClass == null) {
-            LOGGER.error("{}  + Unable to Obtain ODB Class: {}, very Bad!", ODB_PHASE_TWO,
-                    schemaEntity.resolveName());
+        if (onlineIndexExecutor == null) {
+            onlineIndexExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "odb-index-online");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        for (SchemaChange schemaChange : schemaChanges) {
+            indexBuildTracker.submit(schemaChange.getName());
+        }
+        LOGGER.info("{}{} Indexes Scheduled to be Built Online: {}", ODB_PHASE_THREE,
+                schemaChanges.size(), indexBuildTracker.getStates().keySet());
+        long pauseMs = getIndexOnlinePauseMs();
+        onlineIndexExecutor.execute(() -> {
+            int built = 0;
+            for (SchemaChange schemaChange : schemaChanges) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                String indexName = schemaChange.getName();
+                indexBuildTracker.markBuilding(indexName);
+                long started = System.nanoTime();
+                try (ODatabaseDocumentTx workerDb = connectionSupplier.get()) {
+                    applySchemaChange(helpers, workerDb, workerDb.getMetadata().getSchema(), schemaChange);
+                    indexBuildTracker.markReady(indexName);
+                    bootstrapReport.recordIndex(indexName, "Online", System.nanoTime() - started, true);
+                    LOGGER.info("{}Online Index '{}' is Ready, {} of {}, Elapsed Time: {}ms.", ODB_PHASE_THREE,
+                            indexName, ++built, schemaChanges.size(), indexBuildTracker.getElapsedMs(indexName));
+                } catch (RuntimeException e) {
+                    indexBuildTracker.markFailed(indexName, e);
+                    bootstrapReport.recordIndex(indexName, "Online", System.nanoTime() - started, false);
+                    LOGGER.error("{}Online Index '{}' Failed: '{}'", ODB_PHASE_THREE, indexName, e.getMessage());
+                }
+                try {
+                    TimeUnit.MILLISECONDS.sleep(pauseMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+            if (indexBuildTracker.getOutstandingCount() == 0) {
+                try (ODatabaseDocumentTx workerDb = connectionSupplier.get()) {
+                    saveSchemaFingerprint(workerDb);
+                } catch (RuntimeException e) {
+                    LOGGER.warn("{}Unable to Save Schema Fingerprint after Online Index Builds: '{}'",
+                            ODB_PHASE_THREE, e.getMessage());
+                }
+            }
+        });
+    }
+
+    /**
+     * Apply Schema Changes in Phase 2.
+     *
+     * The Domain Model is Partitioned into Independent Components by its {@link DependencyGraph},
+     * the Changes of each Component are Applied in Plan Order upon their own Connection, with
+     * Components Applied in Parallel. Changes to Classes outside the Domain Model, such as the
+     * Root Graph Classes and Edge Classes, may be shared by Components and so are Applied first.
+     *
+     * @param helpers       Migration Helpers
+     * @param db            reference to DB Admin Accessor.
+     * @param schema        Schema of the DB Admin Accessor.
+     * @param schemaChanges Changes to be Applied, in Plan Order.
+     */
+    protected void applySchemaChanges(MigrationHelpers helpers, ODatabaseDocumentTx db, OSchema schema,
+                                      List<SchemaChange> schemaChanges) {
+        List<List<String>> components = new DependencyGraph(SCHEMA_ENTITY_DEFINITIONS).getComponents();
+        Map<String, Integer> componentsByClass = new HashMap<>();
+        for (int component = 0; component < components.size(); component++) {
+            for (String className : components.get(component)) {
+                componentsByClass.put(className, component);
+            }
+        }
+        List<SchemaChange> sharedChanges = new ArrayList<>();
+        Map<Integer, List<SchemaChange>> componentChanges = new TreeMap<>();
+        for (SchemaChange schemaChange : schemaChanges) {
+            Integer component = componentsByClass.get(schemaChange.getClassName());
+            if (component == null) {
+                sharedChanges.add(schemaChange);
+            } else {
+                componentChanges.computeIfAbsent(component, key -> new ArrayList<>()).add(schemaChange);
+            }
+        }
+        int parallelism = Math.min(getValidationParallelism(), componentChanges.size());
+        if (parallelism <= 1 || connectionSupplier == null) {
+            for (SchemaChange schemaChange : schemaChanges) {
+                applySchemaChange(helpers, db, schema, schemaChange);
+            }
             return;
         }
+        for (SchemaChange schemaChange : sharedChanges) {
+            applySchemaChange(helpers, db, schema, schemaChange);
+        }
+        LOGGER.info("{}Applying {} Schema Changes across {} Independent Components using {} Workers.",
+                ODB_PHASE_TWO, schemaChanges.size() - sharedChanges.size(), componentChanges.size(), parallelism);
+        ExecutorService executorService = Executors.newFixedThreadPool(parallelism, new ThreadFactory() {
+            private final AtomicInteger threadNumber = new AtomicInteger();
 
-        /**
-         * Define the Property either simple or Association.
-         */
-        if (property.getPropertyData().get(ODBProperty_NAME) != null) {
-            ODBProperty propertyAnnotation = (ODBProperty) property.getPropertyData().get(ODBProperty_NAME);
-            if (LOGGER.isTraceEnabled()) {
-                LOGGER.trace("{}  + Defining Property: '{}'", ODB_PHASE_TWO, propertyName);
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "odb-schema-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
             }
-            OType oType = SchemaEntityPropertyTransformer.entityPropertyTypeToOType(propertyAnnotation.type());
-            if (oType != null) {
-                OProperty oProperty = helpers.ensureProperty(oClass, propertyName, oType);
-                /**
-                 * Define Attributes for the Property if applicable...
-                 */
-                setCommonAttributes(helpers, oProperty, propertyAnnotation.mandatory(), propertyAnnotation.notNull());
-                /**
-                 * Define any RegEx Validators, if Applicable...
-                 */
-                setRegExAttributes(helpers, oProperty, propertyAnnotation.regex());
-                /**
-                 * If the type is Embedded, add the Linked Class if Applicable.
-                 */
-                if (oType == OType.EMBEDDED ||
-                        oType == OType.EMBEDDEDLIST ||
-                        oType == OType.EMBEDDEDMAP ||
-                        oType == OType.EMBEDDEDSET) {
-                    /**
-                     * Create Linked Class Name, if Applicable...
-                     */
-                    if (propertyAnnotation.linkedClassName() != null && !propertyAnnotation.linkedClassName().isEmpty()) {
-                        helpers.ensurePropertyAttribute(oProperty,
-                                OProperty.ATTRIBUTES.LINKEDCLASS, schema.getClass(propertyAnnotation.linkedClassName()));
-                    }
-                    /**
-                     * Create Linked Type, if Applicable...
-                     */
-                    if (propertyAnnotation.linkedType() != null &&
-                            !propertyAnnotation.linkedType().equals(ODBProperty.LinkedType.NONE)) {
-                        OType linkedTypeOType =
-                                SchemaEntityPropertyTransformer.entityLinkedTypeToOType(propertyAnnotation.linkedType());
-                        helpers.ensurePropertyAttribute(oProperty, OProperty.ATTRIBUTES.LINKEDTYPE, linkedTypeOType);
+        });
+        RuntimeException failure = null;
+        try {
+            Map<Integer, Future<Long>> futures = new LinkedHashMap<>();
+            for (Map.Entry<Integer, List<SchemaChange>> entry : componentChanges.entrySet()) {
+                futures.put(entry.getKey(), executorService.submit(() -> {
+                    long started = System.currentTimeMillis();
+                    try (ODatabaseDocumentTx workerDb = connectionSupplier.get()) {
+                        /**
+                         * Shared Changes were Applied upon another Connection.
+                         */
+                        workerDb.getMetadata().reload();
+                        bootstrapReport.recordRoundTrips(1);
+                        OSchema workerSchema = workerDb.getMetadata().getSchema();
+                        MigrationHelpers workerHelpers = new MigrationHelpersImpl(LOGGER);
+                        for (SchemaChange schemaChange : entry.getValue()) {
+                            applySchemaChange(workerHelpers, workerDb, workerSchema, schemaChange);
+                        }
                     }
-
-                }
-            } else {
-                LOGGER.warn("{}  + Unable to Determine OType for Property: '{}', Ignoring.",
-                        ODB_PHASE_TWO, propertyName);
+                    return System.currentTimeMillis() - started;
+                }));
             }
             /**
-             * Check for ODBUniqueIdentifier Annotation...
+             * Report each Component in Component Order, regardless of Completion Order.
              */
-        } else if (property.getPropertyData().get(ODBUniqueIdentifier_NAME) != null) {
-            ODBUniqueIdentifier propertyAnnotation =
-                    (ODBUniqueIdentifier) property.getPropertyData().get(ODBUniqueIdentifier_NAME);
-            if (LOGGER.isTraceEnabled()) {
-                LOGGER.debug("{}  + Defining Identity Property: '{}'", ODB_PHASE_TWO, propertyName);
+            int reported = 0;
+            for (Map.Entry<Integer, Future<Long>> entry : futures.entrySet()) {
+                List<String> classNames = components.get(entry.getKey());
+                reported++;
+                try {
+                    LOGGER.info("{}Component {} of {}, Classes: {}, {} Changes Applied, Elapsed Time: {}ms.",
+                            ODB_PHASE_TWO, reported, futures.size(), classNames,
+                            componentChanges.get(entry.getKey()).size(), entry.getValue().get());
+                } catch (ExecutionException e) {
+                    LOGGER.error("{}Component {} of {}, Classes: {}, Failed: '{}'",
+                            ODB_PHASE_TWO, reported, futures.size(), classNames, e.getCause().getMessage());
+                    if (failure == null) {
+                        failure = new IllegalStateException("Schema Changes Failed for Classes: " + classNames,
+                                e.getCause());
+                    }
+                }
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure = new IllegalStateException("Interrupted while Applying Schema Changes.", e);
+        } finally {
+            executorService.shutdownNow();
             /**
-             * Ensure Properties established for Identity
-             */
-            OType oType = SchemaEntityPropertyTransformer.entityPropertyTypeToOType(ODBProperty.PropertyType.STRING);
-            OProperty oProperty = helpers.ensureProperty(oClass, propertyName, oType);
-            /**
-             * Define Attributes for the Property if applicable...
-             */
-            setCommonAttributes(helpers, oProperty, propertyAnnotation.mandatory(), propertyAnnotation.notNull());
-            /**
-             * Define a RegEx to ensure UUID Compliance.
+             * Workers have changed the Schema on their own Connections, so
+             * Re-Activate and Reload the MetaData for our Connection.
              */
-            helpers.ensurePropertyAttribute(oProperty, OProperty.ATTRIBUTES.REGEXP, UUID_REGEXP);
-            /**
-             * Check for Association Annotation...
-             */
-        } else if (property.getPropertyData().get(ODBAssociation_NAME) != null) {
-            ODBAssociation associationAnnotation = (ODBAssociation) property.getPropertyData().get(ODBAssociation_NAME);
-            if (LOGGER.isTraceEnabled()) {
-                LOGGER.trace("{}  + Defining Association: {}", ODB_PHASE_TWO, associationAnnotation.toString());
+            db.activateOnCurrentThread();
+            db.getMetadata().reload();
+            bootstrapReport.recordRoundTrips(1);
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Run a Task per Index, using a Bounded Pool of Workers each with their own DB Admin Accessor,
+     * when Parallelism is Configured and a Connection Supplier has been Provided,
+     * otherwise Tasks are run Sequentially using the Supplied DB Admin Accessor.
+     *
+     * @param db     reference to DB Admin Accessor.
+     * @param items  Items to be Processed, one Task per Item.
+     * @param nameOf Function to obtain the Index Name of an Item.
+     * @param action Description of the Action, used for Logging.
+     * @param task   Task to be performed for each Item.
+     * @param <T>    Item Type.
+     * @return int Number of Issues Raised.
+     */
+    protected <T> int runIndexTasks(ODatabaseDocumentTx db, List<T> items, Function<T, String> nameOf,
+                                    String action, BiConsumer<ODatabaseDocumentTx, T> task) {
+        if (items.isEmpty()) {
+            return 0;
+        }
+        int parallelism = Math.min(getIndexParallelism(), items.size());
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger issues = new AtomicInteger();
+        if (parallelism <= 1 || connectionSupplier == null) {
+            for (T item : items) {
+                runIndexTask(db, item, nameOf, action, task, completed, issues, items.size());
             }
-            /**
-             * Check for Edge type of Association Type.
-             */
-            if (associationAnnotation.type().equals(ODBAssociation.AssociationType.EDGE)) {
-                if (associationAnnotation.edgeName() == null || associationAnnotation.edgeName().isEmpty()) {
-                    LOGGER.warn("{}  + Edge Association Specified, but no Edge Name Specified, Fix Annotation, Ignoring!",
-                            ODB_PHASE_TWO);
-                    return;
-                }
-                /**
-                 * Ensure Properties established for Edge
-                 */
-                OClass edgeCls = helpers.ensureClass(schema, associationAnnotation.edgeName());
-                helpers.ensureClassAttribute(edgeCls, OClass.ATTRIBUTES.SUPERCLASS,
-                        schema.getClass(EDGE));
-                helpers.ensureClassAttribute(edgeCls, OClass.ATTRIBUTES.ABSTRACT, false);
+            return issues.get();
+        }
+        LOGGER.info("{}Running {} Index {} Tasks using {} Workers.",
+                ODB_PHASE_THREE, items.size(), action, parallelism);
+        ExecutorService executorService = Executors.newFixedThreadPool(parallelism, new ThreadFactory() {
+            private final AtomicInteger threadNumber = new AtomicInteger();
 
-            } else if (associationAnnotation.type().toString().toUpperCase().startsWith("LINK") ||
-                    associationAnnotation.type().toString().toUpperCase().startsWith("EMBEDDED")) {
-                /**
-                 * Handle Links
-                 */
-                OType oType = SchemaEntityPropertyTransformer.entityAssociationTypeToOType(associationAnnotation.type());
-                if (oType != null) {
-                    OProperty oProperty = helpers.ensureProperty(oClass, propertyName, oType);
-                    /**
-                     * Create Linked Class Name
-                     */
-                    if (associationAnnotation.linkedClassName() != null && !associationAnnotation.linkedClassName().isEmpty()) {
-                        helpers.ensurePropertyAttribute(oProperty,
-                                OProperty.ATTRIBUTES.LINKEDCLASS, schema.getClass(associationAnnotation.linkedClassName()));
-                    }
-                    if (associationAnnotation.linkedType() != null &&
-                            !associationAnnotation.linkedType().equals(ODBAssociation.LinkedType.NONE)) {
-                        OType linkedTypeOType = SchemaEntityPropertyTransformer.entityLinkedTypeToOType(associationAnnotation.linkedType());
-                        helpers.ensurePropertyAttribute(oProperty, OProperty.ATTRIBUTES.LINKEDTYPE, linkedTypeOType);
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "odb-index-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (T item : items) {
+                futures.add(executorService.submit(() -> {
+                    try (ODatabaseDocumentTx workerDb = connectionSupplier.get()) {
+                        runIndexTask(workerDb, item, nameOf, action, task, completed, issues, items.size());
                     }
-                    /**
-                     * Define Attributes for the Property if applicable...
-                     */
-                    setCommonAttributes(helpers, oProperty, associationAnnotation.mandatory(), associationAnnotation.notNull());
-                } else {
-                    LOGGER.warn("{}  + Unable to Determine OType for Association: '{}', Ignoring.",
-                            ODB_PHASE_TWO, propertyName);
+                }));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    LOGGER.error("{}Index {} Worker Failed: '{}'", ODB_PHASE_THREE, action,
+                            e.getCause().getMessage());
+                    issues.incrementAndGet();
                 }
-            } else {
-                LOGGER.warn("{}  + Unknown Association Type:'{}', Ignoring!",
-                        ODB_PHASE_TWO, associationAnnotation.type().toString());
             }
-
-            /**
-             * Show anything not Handled...
-             */
-        } else if (!property.getPropertyData().isEmpty()) {
-            /**
-             * Catch All in case we Missed something.
-             */
-            LOGGER.warn("{}   + Unknown Property Annotation: Dumping Property Data:", ODB_PHASE_TWO);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.error("{}Interrupted while waiting on Index {} Tasks.", ODB_PHASE_THREE, action);
+            issues.incrementAndGet();
+        } finally {
+            executorService.shutdownNow();
             /**
-             * Dump the Property Data
+             * Workers have changed the Schema on their own Connections, so
+             * Re-Activate and Reload the MetaData for our Connection.
              */
-            for (String key : property.getPropertyData().keySet()) {
-                LOGGER.info("{}  + Property Data: '{}' '{}'", ODB_PHASE_TWO,
-                        key,
-                        property.getPropertyData().get(key));
-            }
-        } else {
-            LOGGER.debug("{}  + Unknown Property: '{}', Unable to Determine how to Define!", ODB_PHASE_TWO, propertyName);
+            db.activateOnCurrentThread();
+            db.getMetadata().reload();
+            bootstrapReport.recordRoundTrips(1);
         }
-
+        return issues.get();
     }
 
     /**
-     * Private Helper Method to ensure The Root Graph Classes are Available.
-     *
-     * @param helpers Reference
-     * @param schema  OSchema Reference
+     * Run a single Index Task, Reporting its Progress and Timing.
      */
-    protected void ensureRootGraphClasses(MigrationHelpers helpers, OSchema schema) {
-        /**
-         * Perform a check to validate we have our Graph Root CLasses Defined.
-         */
-        LOGGER.info("{}Checking for Root Graph Classes: {} and {}",
-                ODB_PHASE_TWO, VERTEX, EDGE);
-        if (!helpers.hasClass(schema, VERTEX)) {
-            LOGGER.info("{}Creating Root Graph Class: {}.", ODB_PHASE_TWO, VERTEX);
-            helpers.ensureClass(schema, VERTEX);
-        } else {
-            LOGGER.info("{}Root Graph Class: {}, Already Defined.", ODB_PHASE_TWO, VERTEX);
-        }
-        if (!helpers.hasClass(schema, EDGE)) {
-            LOGGER.info("{}Creating Root Graph Class: {}.", ODB_PHASE_TWO, EDGE);
-            helpers.ensureClass(schema, EDGE);
-        } else {
-            LOGGER.info("{}Root Graph Class: {}, Already Defined.", ODB_PHASE_TWO, EDGE);
+    private <T> void runIndexTask(ODatabaseDocumentTx db, T item, Function<T, String> nameOf, String action,
+                                  BiConsumer<ODatabaseDocumentTx, T> task,
+                                  AtomicInteger completed, AtomicInteger issues, int total) {
+        String indexName = nameOf.apply(item);
+        long started = System.nanoTime();
+        try {
+            task.accept(db, item);
+            long elapsed = System.nanoTime() - started;
+            bootstrapReport.recordIndex(indexName, action, elapsed, true);
+            LOGGER.info("{}Index '{}' {} Completed in {}ms, {} of {}.", ODB_PHASE_THREE, indexName, action,
+                    TimeUnit.NANOSECONDS.toMillis(elapsed), completed.incrementAndGet(), total);
+        } catch (Exception e) {
+            bootstrapReport.recordIndex(indexName, action, System.nanoTime() - started, false);
+            LOGGER.error("{}Index '{}' had Issue with {}: '{}', {} of {}.", ODB_PHASE_THREE, indexName, action,
+                    e.getMessage(), completed.incrementAndGet(), total);
+            issues.incrementAndGet();
         }
     }
 
     /**
-     * Private Helper Method to perform Weighting of the Entity Classes
-     * to Determine Processing Dependency Order.
+     * Apply a Schema Change Plan as a single SQL Batch Script.
+     *
+     * @param db     reference to DB Admin Accessor.
+     * @param schema Reference to Schemata
+     * @param plan   Schema Change Plan to be Applied.
+     * @param phase  Phase Log Prefix.
+     * @return List of Schema Changes not Applied by the Script, which must be Applied Individually.
+     * If the Script fails, all Changes are returned, as every Change can be safely re-applied.
      */
-    protected void weight() {
-        LOGGER.info("{}Processing Weight Order for Schema Entities...", ODB_PHASE_ONE);
-        /**
-         * Obtain all Abstract Base Classes...
-         */
-        for (SchemaEntity schemaEntity : SCHEMA_ENTITY_DEFINITIONS) {
-            /**
-             * Only Process Mapped Entities...
-             */
-            if (!schemaEntity.isMappedEntity()) {
-                continue;
-            }
-            /**
-             * Is Class Abstract?
-             */
-            if (schemaEntity.isAbstractClass() && schemaEntity.isRootClass()) {
-                schemaEntity.setDependencyWeight(Integer.MAX_VALUE);
-            } else if (schemaEntity.isAbstractClass()) {
-                schemaEntity.setDependencyWeight(Integer.MAX_VALUE - 1);
+    protected List<SchemaChange> applySchemaChangeScript(ODatabaseDocumentTx db, OSchema schema,
+                                                         SchemaChangePlan plan, String phase) {
+        SchemaScriptBuilder scriptBuilder = new SchemaScriptBuilder();
+        List<SchemaChange> remainingChanges = new ArrayList<>();
+        for (SchemaChange schemaChange : plan.getChanges()) {
+            if (SchemaScriptBuilder.isScriptable(schemaChange)) {
+                scriptBuilder.add(schemaChange);
+            } else {
+                remainingChanges.add(schemaChange);
             }
+        }
+        if (scriptBuilder.isEmpty()) {
+            return remainingChanges;
+        }
+        String script = scriptBuilder.build();
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("{}Schema Batch Script:\n{}", phase, script);
+        }
+        long started = System.nanoTime();
+        try {
+            db.command(new OCommandScript(SchemaScriptBuilder.SCRIPT_LANGUAGE, script)).execute();
+            schema.reload();
+            bootstrapReport.recordRoundTrips(2);
+            bootstrapReport.recordSchemaMutations(scriptBuilder.size());
             /**
-             * Does this Class Extend any Base Classes?
+             * Record each Scripted Change, the Time of the Script cannot be Attributed
+             * to a single Class or Index.
              */
-            if (schemaEntity.getInheritanceChain().size() > 0) {
-                schemaEntity.setDependencyWeight(
-                        schemaEntity.getDependencyWeight() - schemaEntity.getInheritanceChain().size());
+            for (SchemaChange schemaChange : plan.getChanges()) {
+                if (remainingChanges.contains(schemaChange)) {
+                    continue;
+                }
+                if (schemaChange.isIndexChange()) {
+                    bootstrapReport.recordIndex(schemaChange.getName(), "Script", 0, true);
+                } else {
+                    bootstrapReport.recordClassChange(schemaChange.getClassName(), 0);
+                }
             }
+            LOGGER.info("{}Schema Batch Script of {} Statements Applied in {}ms.", phase, scriptBuilder.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+            return remainingChanges;
+        } catch (Exception e) {
+            LOGGER.warn("{}Schema Batch Script Failed: '{}', Applying Changes Individually.",
+                    phase, e.getMessage());
+            schema.reload();
+            bootstrapReport.recordRoundTrips(2);
+            return plan.getChanges();
         }
-        /**
-         * Now Sort the Entities by this Weight, in ascending order.
-         */
-        Comparator<SchemaEntity> weightComparator = Comparator.comparing(SchemaEntity::getDependencyWeight);
-        SCHEMA_ENTITY_DEFINITIONS.sort(weightComparator.reversed());
     }
 
     /**
-     * findCandidateComponents
-     * Obtained from org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider.
-     * 
-     * Modified from original, to allow inclusion of Non-Concrete Classes.
+     * Convert the String form of a Property Attribute Value to its Schema Value.
      *
-     * @param basePackage String of Base Package to find Candidates.
-     * @return Set of Bean Definitions.
+     * @param schema    Reference to Schemata
+     * @param attribute Property Attribute
+     * @param value     String Value
+     * @return Object Value to be Applied.
      */
-    protected Set<BeanDefinition> findCandidateComponents(String basePackage) {
-        LinkedHashSet candidates = new LinkedHashSet();
-        ResourcePatternResolver resourcePatternResolver = new PathMatchingResourcePatternResolver();
-        MetadataReaderFactory metadataReaderFactory =
-                new CachingMetadataReaderFactory(new PathMatchingResourcePatternResolver());
-        try {
-            String ex = "classpath*:" + this.resolveBasePackage(basePackage) + "/" + "**/*.class";
-            Resource[] resources = resourcePatternResolver.getResources(ex);
-
-            for (int ei = 0; ei < resources.length; ei++) {
-                Resource resource = resources[ei];
-                if (LOGGER.isTraceEnabled()) {
-                    LOGGER.trace("Scanning " + resource);
-                }
+    protected Object toPropertyAttributeValue(OSchema schema, OProperty.ATTRIBUTES attribute, String value) {
+        if (value == null) {
+            return null;
+        }
+        switch (attribute) {
+            case MANDATORY:
+            case NOTNULL:
+            case READONLY:
+                return Boolean.valueOf(value);
+            case LINKEDCLASS:
+                return schema.getClass(value);
+            case LINKEDTYPE:
+            case TYPE:
+                return OType.valueOf(value);
+            default:
+                return value;
+        }
+    }
 
-                if (resource.isReadable()) {
-                    try {
+    /**
+     * Determine if Schema Change Plans should be Applied as a single SQL Batch Script.
+     *
+     * @return boolean indicator, defaults to false.
+     */
+    protected boolean isBatchEnabled() {
+        return environment.getProperty(SCHEMA_BATCH_ENABLED_PROPERTY_NAME, Boolean.class, false);
+    }
 
-                        MetadataReader ex1 = metadataReaderFactory.getMetadataReader(resource);
-                        ScannedGenericBeanDefinition sbd = new ScannedGenericBeanDefinition(ex1);
-                        sbd.setResource(resource);
-                        sbd.setSource(resource);
+    /**
+     * Obtain the Number of Workers used for Index Creation and Rebuilds.
+     *
+     * @return int Parallelism, defaults to the number of Processors, up to 4.
+     */
+    protected int getIndexParallelism() {
+        return environment.getProperty(SCHEMA_INDEX_PARALLELISM_PROPERTY_NAME, Integer.class,
+                DEFAULT_INDEX_PARALLELISM);
+    }
 
-                        candidates.add(sbd);
+    /**
+     * Determine if Indexes are Built Online, in the Background, rather than during Phase 3.
+     *
+     * @return boolean indicator, defaults to false.
+     */
+    protected boolean isIndexOnline() {
+        return environment.getProperty(SCHEMA_INDEX_ONLINE_PROPERTY_NAME, Boolean.class, false);
+    }
 
-                    } catch (Throwable var13) {
-                        throw new BeanDefinitionStoreException("Failed to read candidate component class: " + resource, var13);
-                    }
-                } else {
-                    LOGGER.trace("Resource Ignored because not readable: " + resource);
-                }
-            }
-            /**
-             * Return the Candidates
-             */
-            return candidates;
-        } catch (IOException var14) {
-            throw new BeanDefinitionStoreException("I/O failure during classpath scanning", var14);
-        }
+    /**
+     * Obtain the fixed Pause between Online Index Builds, giving Writes a chance to catch up.
+     * The Builds themselves are not Throttled.
+     *
+     * @return long Pause in Milliseconds, defaults to 1000.
+     */
+    protected long getIndexOnlinePauseMs() {
+        return environment.getProperty(SCHEMA_INDEX_ONLINE_PAUSE_PROPERTY_NAME, Long.class,
+                DEFAULT_INDEX_ONLINE_PAUSE_MS);
     }
 
     /**
-     * Resolve Base Package Name.
+     * Obtain the Number of Workers used for Applying Schema Changes in Phase 2.
      *
-     * @param basePackage String containing Base Package Name.
-     * @return String of resolved Base Package.
+     * @return int Parallelism, defaults to the number of Processors, up to 4.
      */
-    protected String resolveBasePackage(String basePackage) {
-        return ClassUtils.convertClassNameToResourcePath(this.environment.resolveRequiredPlaceholders(basePackage));
+    protected int getValidationParallelism() {
+        return environment.getProperty(SCHEMA_VALIDATION_PARALLELISM_PROPERTY_NAME, Integer.class,
+                DEFAULT_VALIDATION_PARALLELISM);
     }
 
     /**
-     * setCommonAttributes
-     * @param helpers Reference to Helpers
-     * @param oProperty Property to be modified.
-     * @param mandatory indicating if property is Mandatory or not.
-     * @param notNull indicating if property is NotNull or not.
+     * Obtain the Number of Workers used for Scanning the Entity Package in Phase 1.
+     *
+     * @return int Parallelism, defaults to the number of Processors.
      */
-    protected void setCommonAttributes(MigrationHelpers helpers,
-                                       OProperty oProperty, boolean mandatory, boolean notNull) {
-        /**
-         * Define Attributes for the Property if applicable...
-         */
-        helpers.ensurePropertyAttribute(oProperty, OProperty.ATTRIBUTES.MANDATORY, mandatory);
-        helpers.ensurePropertyAttribute(oProperty, OProperty.ATTRIBUTES.NOTNULL, notNull);
+    protected int getScanParallelism() {
+        return environment.getProperty(SCHEMA_SCAN_PARALLELISM_PROPERTY_NAME, Integer.class,
+                DEFAULT_SCAN_PARALLELISM);
     }
 
     /**
-     * setRegExAttributes
-     * @param helpers Reference to Helpers
-     * @param oProperty Property to be modified.
-     * @param regex String of the Pattern to be Applied.
+     * Determine if Schema Changes should only be Planned and Logged, not Applied.
+     *
+     * @return boolean indicator, defaults to false.
      */
-    protected void setRegExAttributes(MigrationHelpers helpers,
-                                       OProperty oProperty, String regex) {
-        /**
-         * Define Attributes for the Property if applicable...
-         */
-        if (regex != null && !regex.isEmpty()) {
-            helpers.ensurePropertyAttribute(oProperty, OProperty.ATTRIBUTES.REGEXP, regex);
-        }
+    protected boolean isDryRun() {
+        return environment.getProperty(SCHEMA_DRY_RUN_PROPERTY_NAME, Boolean.class, false);
     }
 
 }
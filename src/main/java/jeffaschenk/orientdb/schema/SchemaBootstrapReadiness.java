@@ -0,0 +1,125 @@
+package jeffaschenk.orientdb.schema;
+
+import jeffaschenk.orientdb.schema.SchemaBootstrapReport.Phase;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * SchemaBootstrapReadiness
+ *
+ * Readiness Signals of the Schema Bootstrap, a Future per Phase completed with the Phase Result,
+ * a Read Ready Future completed once the Schema has been Verified, after Phase 2, and a Ready
+ * Future completed once all Phases have Run. Should a Phase Fail, every Future not yet
+ * completed is completed Exceptionally with the Failure.
+ *
+ * The Futures returned are Dependents of those held here, so Callers cannot complete them.
+ *
+ * @author jeffaschenk@gmail.com
+ */
+public class SchemaBootstrapReadiness {
+
+    private final Map<Phase, CompletableFuture<Boolean>> phases;
+
+    private final CompletableFuture<Void> readReady = new CompletableFuture<>();
+
+    private final CompletableFuture<Void> ready = new CompletableFuture<>();
+
+    public SchemaBootstrapReadiness() {
+        Map<Phase, CompletableFuture<Boolean>> phaseMap = new EnumMap<>(Phase.class);
+        for (Phase phase : Phase.values()) {
+            phaseMap.put(phase, new CompletableFuture<>());
+        }
+        this.phases = Collections.unmodifiableMap(phaseMap);
+    }
+
+    /**
+     * Complete a Phase with its Result.
+     */
+    public void completePhase(Phase phase, boolean result) {
+        phases.get(phase).complete(result);
+    }
+
+    /**
+     * Complete a Phase which was not Needed, such as when the Schema was Current.
+     */
+    public void skipPhase(Phase phase) {
+        completePhase(phase, true);
+    }
+
+    /**
+     * Signal the Schema has been Verified, Read Paths may be Opened.
+     */
+    public void markReadReady() {
+        readReady.complete(null);
+    }
+
+    /**
+     * Signal all Phases have Run, completing any Phase not Run.
+     */
+    public void markReady() {
+        for (CompletableFuture<Boolean> phase : phases.values()) {
+            phase.complete(false);
+        }
+        readReady.complete(null);
+        ready.complete(null);
+    }
+
+    /**
+     * Fail every Future not yet completed.
+     *
+     * @param cause Failure of the Bootstrap.
+     */
+    public void fail(Throwable cause) {
+        for (CompletableFuture<Boolean> phase : phases.values()) {
+            phase.completeExceptionally(cause);
+        }
+        readReady.completeExceptionally(cause);
+        ready.completeExceptionally(cause);
+    }
+
+    /**
+     * @return Future of the Phase Result, true if the Phase was not Needed, false if it Failed
+     * or was not Run due to an earlier Failure.
+     */
+    public CompletableFuture<Boolean> whenPhaseComplete(Phase phase) {
+        return phases.get(phase).thenApply(result -> result);
+    }
+
+    /**
+     * @return Future completed once the Schema has been Verified.
+     */
+    public CompletableFuture<Void> whenReadReady() {
+        return readReady.thenApply(result -> result);
+    }
+
+    /**
+     * @return Future completed once all Phases have Run.
+     */
+    public CompletableFuture<Void> whenReady() {
+        return ready.thenApply(result -> result);
+    }
+
+    public boolean isReadReady() {
+        return readReady.isDone() && !readReady.isCompletedExceptionally();
+    }
+
+    public boolean isReady() {
+        return ready.isDone() && !ready.isCompletedExceptionally();
+    }
+
+    public boolean isFailed() {
+        return ready.isCompletedExceptionally();
+    }
+
+    @Override
+    public String toString() {
+        return "SchemaBootstrapReadiness{" +
+                "readReady=" + isReadReady() +
+                ", ready=" + isReady() +
+                ", failed=" + isFailed() +
+                '}';
+    }
+}
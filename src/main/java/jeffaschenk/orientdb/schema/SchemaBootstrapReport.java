@@ -0,0 +1,328 @@
+package jeffaschenk.orientdb.schema;
+
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SchemaBootstrapReport
+ *
+ * Timings of the Schema Bootstrap, per Phase, per Class and per Index, with the Number of
+ * Schema Mutations and Server Round-Trips issued. Populated by the Schema Enforcer as each
+ * Phase runs, and Summarized as JSON by {@link #toJson()} once the Bootstrap has Completed.
+ *
+ * @author jeffaschenk@gmail.com
+ */
+@Component
+public class SchemaBootstrapReport {
+
+    /**
+     * Bootstrap Phases, in the Order they are Run.
+     */
+    public enum Phase {
+        SCAN,
+        FINGERPRINT_CHECK,
+        SCHEMA_VALIDATION,
+        INDEX_VALIDATION,
+        INDEX_REBUILD,
+        FINGERPRINT_SAVE,
+        DATA_MIGRATION
+    }
+
+    private volatile long startedAt;
+
+    private volatile long completedAt;
+
+    private final Map<Phase, PhaseTiming> phases = Collections.synchronizedMap(new EnumMap<>(Phase.class));
+
+    private final ConcurrentMap<String, ClassTiming> classes = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, IndexTiming> indexes = new ConcurrentHashMap<>();
+
+    private final LongAdder schemaMutations = new LongAdder();
+
+    private final LongAdder roundTrips = new LongAdder();
+
+    /**
+     * Clear the Report, at the Start of a Bootstrap.
+     */
+    public void reset() {
+        startedAt = System.currentTimeMillis();
+        completedAt = 0;
+        phases.clear();
+        classes.clear();
+        indexes.clear();
+        schemaMutations.reset();
+        roundTrips.reset();
+    }
+
+    /**
+     * Mark the Bootstrap as Completed.
+     */
+    public void complete() {
+        completedAt = System.currentTimeMillis();
+    }
+
+    /**
+     * Record the Timing of a Phase.
+     *
+     * @param phase         Phase
+     * @param durationNanos Time spent in the Phase.
+     * @param result        Result of the Phase, false if it Failed or, for the Fingerprint Check,
+     *                      if the Schema was not Current.
+     */
+    public void recordPhase(Phase phase, long durationNanos, boolean result) {
+        phases.put(phase, new PhaseTiming(durationNanos, result));
+    }
+
+    /**
+     * Record the Time spent Scanning a Class in Phase 1.
+     */
+    public void recordClassScan(String className, long durationNanos) {
+        classTiming(className).scanNanos.add(durationNanos);
+    }
+
+    /**
+     * Record a Schema Change Applied to a Class in Phase 2.
+     *
+     * @param className     Class Name
+     * @param durationNanos Time spent Applying the Change, 0 when Applied within a Batch Script.
+     */
+    public void recordClassChange(String className, long durationNanos) {
+        ClassTiming classTiming = classTiming(className);
+        classTiming.changes.increment();
+        classTiming.applyNanos.add(durationNanos);
+    }
+
+    /**
+     * Record an Action upon an Index in Phase 3.
+     *
+     * @param indexName     Index Name
+     * @param action        Action, such as Definition or REBUILD.
+     * @param durationNanos Time spent upon the Action.
+     * @param successful    Indicator if the Action was Successful.
+     */
+    public void recordIndex(String indexName, String action, long durationNanos, boolean successful) {
+        IndexTiming indexTiming = indexes.computeIfAbsent(indexName, name -> new IndexTiming());
+        indexTiming.actionNanos.put(action, durationNanos);
+        if (!successful) {
+            indexTiming.failed = true;
+        }
+    }
+
+    /**
+     * Record Schema Mutations issued to the Server.
+     */
+    public void recordSchemaMutations(int count) {
+        schemaMutations.add(count);
+    }
+
+    /**
+     * Record Round-Trips to the Server.
+     */
+    public void recordRoundTrips(int count) {
+        roundTrips.add(count);
+    }
+
+    private ClassTiming classTiming(String className) {
+        return classes.computeIfAbsent(className, name -> new ClassTiming());
+    }
+
+    /**
+     * @return long Total Elapsed Time of the Bootstrap in Milliseconds, up to now if not Completed.
+     */
+    public long getTotalMs() {
+        if (startedAt == 0) {
+            return 0;
+        }
+        return ((completedAt == 0) ? System.currentTimeMillis() : completedAt) - startedAt;
+    }
+
+    /**
+     * @return Map of Phase Durations in Milliseconds, in Phase Order, for the Phases which have Run.
+     */
+    public Map<Phase, Double> getPhaseMs() {
+        Map<Phase, Double> phaseMs = new EnumMap<>(Phase.class);
+        synchronized (phases) {
+            for (Map.Entry<Phase, PhaseTiming> entry : phases.entrySet()) {
+                phaseMs.put(entry.getKey(), toMs(entry.getValue().durationNanos));
+            }
+        }
+        return phaseMs;
+    }
+
+    /**
+     * @return Map of Total Time per Class in Milliseconds, Slowest first.
+     */
+    public Map<String, Double> getClassMs() {
+        List<Map.Entry<String, ClassTiming>> entries = new ArrayList<>(classes.entrySet());
+        entries.sort((a, b) -> Long.compare(b.getValue().totalNanos(), a.getValue().totalNanos()));
+        Map<String, Double> classMs = new LinkedHashMap<>();
+        for (Map.Entry<String, ClassTiming> entry : entries) {
+            classMs.put(entry.getKey(), toMs(entry.getValue().totalNanos()));
+        }
+        return classMs;
+    }
+
+    /**
+     * @return Map of Total Time per Index in Milliseconds, Slowest first.
+     */
+    public Map<String, Double> getIndexMs() {
+        List<Map.Entry<String, IndexTiming>> entries = new ArrayList<>(indexes.entrySet());
+        entries.sort((a, b) -> Long.compare(b.getValue().totalNanos(), a.getValue().totalNanos()));
+        Map<String, Double> indexMs = new LinkedHashMap<>();
+        for (Map.Entry<String, IndexTiming> entry : entries) {
+            indexMs.put(entry.getKey(), toMs(entry.getValue().totalNanos()));
+        }
+        return indexMs;
+    }
+
+    public long getSchemaMutations() {
+        return schemaMutations.sum();
+    }
+
+    public long getRoundTrips() {
+        return roundTrips.sum();
+    }
+
+    /**
+     * Summarize the Report as a single line of JSON, Classes and Indexes Slowest first.
+     *
+     * @return String JSON Summary.
+     */
+    public String toJson() {
+        StringBuilder json = new StringBuilder("{");
+        json.append("\"totalMs\":").append(getTotalMs());
+        json.append(",\"schemaMutations\":").append(getSchemaMutations());
+        json.append(",\"roundTrips\":").append(getRoundTrips());
+        json.append(",\"phases\":[");
+        synchronized (phases) {
+            String separator = "";
+            for (Map.Entry<Phase, PhaseTiming> entry : phases.entrySet()) {
+                json.append(separator).append("{\"phase\":");
+                appendString(json, entry.getKey().name());
+                json.append(",\"ms\":").append(formatMs(entry.getValue().durationNanos));
+                json.append(",\"result\":").append(entry.getValue().result).append('}');
+                separator = ",";
+            }
+        }
+        json.append("],\"classes\":[");
+        List<Map.Entry<String, ClassTiming>> classEntries = new ArrayList<>(classes.entrySet());
+        classEntries.sort((a, b) -> Long.compare(b.getValue().totalNanos(), a.getValue().totalNanos()));
+        String separator = "";
+        for (Map.Entry<String, ClassTiming> entry : classEntries) {
+            ClassTiming classTiming = entry.getValue();
+            json.append(separator).append("{\"class\":");
+            appendString(json, entry.getKey());
+            json.append(",\"scanMs\":").append(formatMs(classTiming.scanNanos.sum()));
+            json.append(",\"applyMs\":").append(formatMs(classTiming.applyNanos.sum()));
+            json.append(",\"changes\":").append(classTiming.changes.sum()).append('}');
+            separator = ",";
+        }
+        json.append("],\"indexes\":[");
+        List<Map.Entry<String, IndexTiming>> indexEntries = new ArrayList<>(indexes.entrySet());
+        indexEntries.sort((a, b) -> Long.compare(b.getValue().totalNanos(), a.getValue().totalNanos()));
+        separator = "";
+        for (Map.Entry<String, IndexTiming> entry : indexEntries) {
+            IndexTiming indexTiming = entry.getValue();
+            json.append(separator).append("{\"index\":");
+            appendString(json, entry.getKey());
+            for (Map.Entry<String, Long> action : new TreeMap<>(indexTiming.actionNanos).entrySet()) {
+                json.append(',');
+                appendString(json, action.getKey().toLowerCase(Locale.ROOT) + "Ms");
+                json.append(':').append(formatMs(action.getValue()));
+            }
+            json.append(",\"successful\":").append(!indexTiming.failed).append('}');
+            separator = ",";
+        }
+        return json.append("]}").toString();
+    }
+
+    private static void appendString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c < 0x20) {
+                json.append(String.format("\\u%04x", (int) c));
+            } else {
+                json.append(c);
+            }
+        }
+        json.append('"');
+    }
+
+    private static double toMs(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    private static String formatMs(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", toMs(nanos));
+    }
+
+    @Override
+    public String toString() {
+        return "SchemaBootstrapReport{" +
+                "totalMs=" + getTotalMs() +
+                ", phases=" + getPhaseMs() +
+                ", schemaMutations=" + getSchemaMutations() +
+                ", roundTrips=" + getRoundTrips() +
+                ", classes=" + classes.size() +
+                ", indexes=" + indexes.size() +
+                '}';
+    }
+
+    /**
+     * PhaseTiming
+     */
+    private static final class PhaseTiming {
+
+        private final long durationNanos;
+
+        private final boolean result;
+
+        PhaseTiming(long durationNanos, boolean result) {
+            this.durationNanos = durationNanos;
+            this.result = result;
+        }
+    }
+
+    /**
+     * ClassTiming
+     */
+    private static final class ClassTiming {
+
+        private final LongAdder scanNanos = new LongAdder();
+
+        private final LongAdder applyNanos = new LongAdder();
+
+        private final LongAdder changes = new LongAdder();
+
+        long totalNanos() {
+            return scanNanos.sum() + applyNanos.sum();
+        }
+    }
+
+    /**
+     * IndexTiming
+     */
+    private static final class IndexTiming {
+
+        private final Map<String, Long> actionNanos = new ConcurrentHashMap<>();
+
+        private volatile boolean failed;
+
+        long totalNanos() {
+            long total = 0;
+            for (Long nanos : actionNanos.values()) {
+                total += nanos;
+            }
+            return total;
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package jeffaschenk.orientdb.schema;
+
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OProperty;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * SchemaChange
+ * Represents a single Change to be applied to the Persistent Store Schema.
+ *
+ * All Values are held in their String form, so a Change can be Serialized and
+ * reviewed independently of any Database Connection.
+ *
+ * @author jeffaschenk@gmail.com
+ */
+public class SchemaChange implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Change Types, in the Order they are typically Applied.
+     */
+    public enum ChangeType {
+        CREATE_CLASS,
+        SET_CLASS_ATTRIBUTE,
+        CREATE_PROPERTY,
+        ALTER_PROPERTY_TYPE,
+        SET_PROPERTY_ATTRIBUTE,
+        CREATE_INDEX,
+        RECREATE_INDEX
+    }
+
+    private final ChangeType changeType;
+
+    private final String className;
+
+    private final String name;
+
+    private final String attribute;
+
+    private final String value;
+
+    private final String previousValue;
+
+    /**
+     * Fields and Algorithm of a Structured Index, Fields are null when the Index is defined by SQL alone.
+     */
+    private final List<String> indexFields;
+
+    private final String indexAlgorithm;
+
+    private SchemaChange(ChangeType changeType, String className, String name,
+                         String attribute, String value, String previousValue) {
+        this(changeType, className, name, attribute, value, previousValue, null, null);
+    }
+
+    private SchemaChange(ChangeType changeType, String className, String name,
+                         String attribute, String value, String previousValue,
+                         List<String> indexFields, String indexAlgorithm) {
+        this.changeType = changeType;
+        this.className = className;
+        this.name = name;
+        this.attribute = attribute;
+        this.value = value;
+        this.previousValue = previousValue;
+        this.indexFields = (indexFields == null) ? null :
+                Collections.unmodifiableList(new ArrayList<>(indexFields));
+        this.indexAlgorithm = indexAlgorithm;
+    }
+
+    public static SchemaChange createClass(String className) {
+        return new SchemaChange(ChangeType.CREATE_CLASS, className, null, null, null, null);
+    }
+
+    public static SchemaChange setClassAttribute(String className, OClass.ATTRIBUTES attribute,
+                                                 Object value, Object previousValue) {
+        return new SchemaChange(ChangeType.SET_CLASS_ATTRIBUTE, className, null,
+                attribute.name(), asString(value), asString(previousValue));
+    }
+
+    public static SchemaChange createProperty(String className, String propertyName, OType type) {
+        return new SchemaChange(ChangeType.CREATE_PROPERTY, className, propertyName,
+                OProperty.ATTRIBUTES.TYPE.name(), type.name(), null);
+    }
+
+    public static SchemaChange alterPropertyType(String className, String propertyName,
+                                                 OType type, OType previousType) {
+        return new SchemaChange(ChangeType.ALTER_PROPERTY_TYPE, className, propertyName,
+                OProperty.ATTRIBUTES.TYPE.name(), type.name(), asString(previousType));
+    }
+
+    public static SchemaChange setPropertyAttribute(String className, String propertyName,
+                                                    OProperty.ATTRIBUTES attribute,
+                                                    Object value, Object previousValue) {
+        return new SchemaChange(ChangeType.SET_PROPERTY_ATTRIBUTE, className, propertyName,
+                attribute.name(), asString(value), asString(previousValue));
+    }
+
+    public static SchemaChange createIndex(String className, String indexName, String indexSQL) {
+        return new SchemaChange(ChangeType.CREATE_INDEX, className, indexName, null, indexSQL, null);
+    }
+
+    /**
+     * Create a Structured Index, the Attribute holds the OrientDB Index Type and the Value its SQL form.
+     */
+    public static SchemaChange createIndex(String className, SchemaEntityIndex index) {
+        return new SchemaChange(ChangeType.CREATE_INDEX, className, index.getName(),
+                index.getOrientIndexType(), index.toSql(className), null,
+                index.getProperties(), index.getOrientAlgorithm());
+    }
+
+    /**
+     * Drop and Create a Structured Index whose existing Definition no longer matches.
+     */
+    public static SchemaChange recreateIndex(String className, SchemaEntityIndex index, String previousDefinition) {
+        return new SchemaChange(ChangeType.RECREATE_INDEX, className, index.getName(),
+                index.getOrientIndexType(), index.toSql(className), previousDefinition,
+                index.getProperties(), index.getOrientAlgorithm());
+    }
+
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    /**
+     * @return String Name of the Property or Index, null for Class Changes.
+     */
+    public String getName() {
+        return name;
+    }
+
+    public String getAttribute() {
+        return attribute;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public String getPreviousValue() {
+        return previousValue;
+    }
+
+    /**
+     * @return List of Indexed Fields, null unless a Structured Index Change.
+     */
+    public List<String> getIndexFields() {
+        return indexFields;
+    }
+
+    /**
+     * @return String Index Algorithm, null for the Default Algorithm of the Index Type.
+     */
+    public String getIndexAlgorithm() {
+        return indexAlgorithm;
+    }
+
+    public boolean isIndexChange() {
+        return changeType == ChangeType.CREATE_INDEX || changeType == ChangeType.RECREATE_INDEX;
+    }
+
+    public boolean isStructuredIndex() {
+        return indexFields != null;
+    }
+
+    /**
+     * Helper to obtain the String form of an Attribute Value.
+     *
+     * @param value Object Value
+     * @return String of Value or null.
+     */
+    protected static String asString(Object value) {
+        if (value == null) {
+            return null;
+        } else if (value instanceof OClass) {
+            return ((OClass) value).getName();
+        } else if (value instanceof OType) {
+            return ((OType) value).name();
+        }
+        return value.toString();
+    }
+
+    @Override
+    public String toString() {
+        switch (changeType) {
+            case CREATE_CLASS:
+                return "CREATE CLASS " + className;
+            case SET_CLASS_ATTRIBUTE:
+                return "ALTER CLASS " + className + " " + attribute +
+                        " '" + previousValue + "' -> '" + value + "'";
+            case CREATE_PROPERTY:
+                return "CREATE PROPERTY " + className + "." + name + " " + value;
+            case ALTER_PROPERTY_TYPE:
+                return "ALTER PROPERTY " + className + "." + name + " TYPE" +
+                        " '" + previousValue + "' -> '" + value + "'";
+            case SET_PROPERTY_ATTRIBUTE:
+                return "ALTER PROPERTY " + className + "." + name + " " + attribute +
+                        " '" + previousValue + "' -> '" + value + "'";
+            case CREATE_INDEX:
+                return "CREATE INDEX " + name + " ON " + className + ": " + value;
+            case RECREATE_INDEX:
+                return "RECREATE INDEX " + name + " ON " + className +
+                        " '" + previousValue + "' -> " + value;
+            default:
+                return changeType + " " + className;
+        }
+    }
+}
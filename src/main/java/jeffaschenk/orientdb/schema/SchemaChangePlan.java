@@ -0,0 +1,45 @@
+package jeffaschenk.orientdb.schema;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * SchemaChangePlan
+ * Ordered List of Schema Changes, computed In-Memory by the {@link SchemaDiff}
+ * before anything is applied to the Persistent Store.
+ *
+ * @author jeffaschenk@gmail.com
+ */
+public class SchemaChangePlan implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<SchemaChange> changes = new ArrayList<>();
+
+    public void add(SchemaChange schemaChange) {
+        this.changes.add(schemaChange);
+    }
+
+    public List<SchemaChange> getChanges() {
+        return Collections.unmodifiableList(changes);
+    }
+
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    public int size() {
+        return changes.size();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("SchemaChangePlan{Changes=").append(changes.size());
+        for (int i = 0; i < changes.size(); i++) {
+            sb.append("\n  ").append(i + 1).append(". ").append(changes.get(i));
+        }
+        return sb.append('}').toString();
+    }
+}
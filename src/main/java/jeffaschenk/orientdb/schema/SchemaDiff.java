@@ -0,0 +1,591 @@
+package jeffaschenk.orientdb.schema;
+
+import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OProperty;
+import com.orientechnologies.orient.core.metadata.schema.OSchema;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import jeffaschenk.orientdb.annotations.*;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+
+import static jeffaschenk.orientdb.schema.OrientSchemaEnforcer.*;
+
+/**
+ * SchemaDiff
+ *
+ * Compares a Snapshot of the live Persistent Store Schema against the Scanned Domain Model
+ * entirely In-Memory and produces an ordered {@link SchemaChangePlan}.
+ * Nothing is written to the Persistent Store by this Component.
+ *
+ * The Plan is ordered as:
+ * + Root Graph Classes,
+ * + Each Class with its Class Attributes, Properties and Associations, in Dependency Order.
+ *
+ * When the Classes Link to each other in a Cycle, the Plan is instead ordered as:
+ * + Root Graph Classes,
+ * + Classes with their Class Attributes, in Dependency Order,
+ * + Properties,
+ * + Associations, once all Classes they may reference have been Planned.
+ *
+ * @author jeffaschenk@gmail.com
+ */
+public class SchemaDiff {
+    /**
+     * Common Logger
+     */
+    protected final static org.slf4j.Logger LOGGER =
+            LoggerFactory.getLogger(SchemaEnforcer.class);
+
+    /**
+     * Snapshot of the live Schema.
+     */
+    private final OSchema snapshot;
+
+    /**
+     * In-Memory Overlay of Changes already Planned, so subsequent Comparisons
+     * see the Schema as it will be once the Plan is Applied.
+     */
+    private final Set<String> plannedClasses = new HashSet<>();
+
+    private final Map<String, String> plannedSuperClasses = new HashMap<>();
+
+    private final Map<String, Boolean> plannedAbstract = new HashMap<>();
+
+    private final Map<String, PropertyState> plannedProperties = new HashMap<>();
+
+    /**
+     * Names of all Classes defined by the Domain Model.
+     */
+    private final Set<String> modelClassNames = new HashSet<>();
+
+    /**
+     * Default Constructor
+     *
+     * @param snapshot Snapshot of the live Schema, typically obtained from {@link OSchema#makeSnapshot()}.
+     */
+    public SchemaDiff(OSchema snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * Compute the Schema Change Plan for Classes, Properties and Associations.
+     *
+     * @param schemaEntities Scanned Schema Entities, in Dependency Order.
+     * @return SchemaChangePlan
+     */
+    public SchemaChangePlan diffSchema(List<SchemaEntity> schemaEntities) {
+        return diffSchema(schemaEntities, null);
+    }
+
+    /**
+     * Compute the Schema Change Plan for the Classes, Properties and Associations of the Named Classes.
+     * The whole Domain Model is still used to Resolve SuperClass and Linked Class Names.
+     *
+     * @param schemaEntities Scanned Schema Entities, in Dependency Order.
+     * @param classNames     Names of the Classes to Plan, or null to Plan all Classes.
+     * @return SchemaChangePlan
+     */
+    public SchemaChangePlan diffSchema(List<SchemaEntity> schemaEntities, Set<String> classNames) {
+        SchemaChangePlan plan = new SchemaChangePlan();
+        Map<Class, SchemaEntity> entitiesByClass = new HashMap<>();
+        for (SchemaEntity schemaEntity : schemaEntities) {
+            if (schemaEntity.isMappedEntity()) {
+                modelClassNames.add(schemaEntity.resolveName());
+                entitiesByClass.put(schemaEntity.getEntityClass(), schemaEntity);
+            }
+        }
+        if (classNames != null) {
+            List<SchemaEntity> selectedEntities = new ArrayList<>();
+            for (SchemaEntity schemaEntity : schemaEntities) {
+                if (classNames.contains(schemaEntity.resolveName())) {
+                    selectedEntities.add(schemaEntity);
+                }
+            }
+            schemaEntities = selectedEntities;
+        }
+        /**
+         * Perform a check to validate we have our Graph Root Classes Defined.
+         */
+        diffRootGraphClasses(plan);
+        /**
+         * Without Cycles, every Class a Class depends upon is Planned before it, so each Class
+         * is Planned with its Properties and Associations in a single Pass.
+         */
+        if (new DependencyGraph(schemaEntities).isAcyclic()) {
+            for (SchemaEntity schemaEntity : schemaEntities) {
+                if (schemaEntity.isMappedEntity()) {
+                    diffClass(plan, schemaEntity, entitiesByClass);
+                    diffProperties(plan, schemaEntity);
+                    diffAssociations(plan, schemaEntity);
+                }
+            }
+            return plan;
+        }
+        /**
+         * Classes
+         */
+        for (SchemaEntity schemaEntity : schemaEntities) {
+            if (!schemaEntity.isMappedEntity()) {
+                if (LOGGER.isTraceEnabled()) {
+                    LOGGER.trace("{}Class: {} Not a Mapped Entity, Ignoring.", ODB_PHASE_TWO,
+                            schemaEntity.getEntityClass().getName());
+                }
+                continue;
+            }
+            diffClass(plan, schemaEntity, entitiesByClass);
+        }
+        /**
+         * Properties
+         */
+        for (SchemaEntity schemaEntity : schemaEntities) {
+            if (schemaEntity.isMappedEntity()) {
+                diffProperties(plan, schemaEntity);
+            }
+        }
+        /**
+         * Associations, now that all Classes have been Planned.
+         */
+        for (SchemaEntity schemaEntity : schemaEntities) {
+            if (schemaEntity.isMappedEntity()) {
+                diffAssociations(plan, schemaEntity);
+            }
+        }
+        return plan;
+    }
+
+    /**
+     * Compute the Schema Change Plan for Indexes.
+     *
+     * @param schemaEntities Scanned Schema Entities, in Dependency Order.
+     * @return SchemaChangePlan
+     */
+    public SchemaChangePlan diffIndexes(List<SchemaEntity> schemaEntities) {
+        return diffIndexes(schemaEntities, null);
+    }
+
+    /**
+     * Compute the Schema Change Plan for the Named Indexes.
+     *
+     * @param schemaEntities Scanned Schema Entities, in Dependency Order.
+     * @param indexNames     Names of the Indexes to Plan, or null to Plan all Indexes.
+     * @return SchemaChangePlan
+     */
+    public SchemaChangePlan diffIndexes(List<SchemaEntity> schemaEntities, Set<String> indexNames) {
+        SchemaChangePlan plan = new SchemaChangePlan();
+        Set<String> indicesProcessed = new HashSet<>();
+        for (SchemaEntity schemaEntity : schemaEntities) {
+            for (SchemaEntityIndex index : schemaEntity.getIndices()) {
+                String indexName = index.getName();
+                /**
+                 * Did we Already Process this Named Index?
+                 */
+                if (indicesProcessed.contains(indexName) ||
+                        (indexNames != null && !indexNames.contains(indexName))) {
+                    continue;
+                }
+                OClass oClass = snapshot.getClass(schemaEntity.resolveName());
+                OIndex<?> oIndex = (oClass == null) ? null : oClass.getClassIndex(indexName);
+                if (index.isStructured()) {
+                    diffStructuredIndex(plan, schemaEntity, index, oIndex);
+                    indicesProcessed.add(indexName);
+                    continue;
+                }
+                String indexSQL = index.getSql();
+                if (indexSQL == null || indexSQL.isEmpty()) {
+                    LOGGER.info("{}Index '{}' no Properties or SQL Defined for Index Definition, Ignoring!",
+                            ODB_PHASE_THREE, indexName);
+                    continue;
+                }
+                if (oIndex != null) {
+                    LOGGER.info("{}Index '{}' has already been Defined.",
+                            ODB_PHASE_THREE, indexName);
+                } else {
+                    plan.add(SchemaChange.createIndex(schemaEntity.resolveName(), indexName, indexSQL));
+                }
+                indicesProcessed.add(indexName);
+            }
+        }
+        return plan;
+    }
+
+    // *****************************************************************
+    // Diff Utility Methods
+    // *****************************************************************
+
+    /**
+     * Plan a Structured Index, Recreating an existing Index whose Type, Engine or Fields no longer match.
+     *
+     * @param plan         Change Plan
+     * @param schemaEntity Schema Entity of the Index.
+     * @param index        Structured Index Definition.
+     * @param oIndex       Existing Index or null.
+     */
+    protected void diffStructuredIndex(SchemaChangePlan plan, SchemaEntity schemaEntity,
+                                       SchemaEntityIndex index, OIndex<?> oIndex) {
+        if (oIndex == null) {
+            plan.add(SchemaChange.createIndex(schemaEntity.resolveName(), index));
+        } else if (!index.matches(oIndex)) {
+            String previousDefinition = SchemaEntityIndex.describe(oIndex);
+            LOGGER.info("{}Index '{}' Definition: {} no longer matches {} {} {}, Recreating.",
+                    ODB_PHASE_THREE, index.getName(), previousDefinition, index.getOrientIndexType(),
+                    index.getOrientAlgorithm(), index.getProperties());
+            plan.add(SchemaChange.recreateIndex(schemaEntity.resolveName(), index, previousDefinition));
+        } else {
+            LOGGER.info("{}Index '{}' has already been Defined.",
+                    ODB_PHASE_THREE, index.getName());
+        }
+    }
+
+    /**
+     * Plan the Root Graph Classes if not Available.
+     *
+     * @param plan Change Plan
+     */
+    protected void diffRootGraphClasses(SchemaChangePlan plan) {
+        LOGGER.info("{}Checking for Root Graph Classes: {} and {}",
+                ODB_PHASE_TWO, VERTEX, EDGE);
+        for (String rootClass : new String[]{VERTEX, EDGE}) {
+            if (!classExists(rootClass)) {
+                LOGGER.info("{}Creating Root Graph Class: {}.", ODB_PHASE_TWO, rootClass);
+                planClass(plan, rootClass);
+            } else {
+                LOGGER.info("{}Root Graph Class: {}, Already Defined.", ODB_PHASE_TWO, rootClass);
+            }
+        }
+    }
+
+    /**
+     * Plan a Class and its Class Attributes, if the Class does not Exist.
+     *
+     * @param plan            Change Plan
+     * @param schemaEntity    Entity Reference
+     * @param entitiesByClass Mapped Entities by Class, to resolve SuperClass Names.
+     */
+    protected void diffClass(SchemaChangePlan plan, SchemaEntity schemaEntity,
+                             Map<Class, SchemaEntity> entitiesByClass) {
+        String className = schemaEntity.resolveName();
+        if (classExists(className)) {
+            LOGGER.info("{}Class: {} Already Defined.", ODB_PHASE_TWO, className);
+            return;
+        }
+        LOGGER.info("{}Class: {} Does not Exist on Persistent Store, Will Define new Class.",
+                ODB_PHASE_TWO, className);
+        planClass(plan, className);
+        if (schemaEntity.isAbstractClass()) {
+            plan.add(SchemaChange.setClassAttribute(className, OClass.ATTRIBUTES.ABSTRACT, true, false));
+            plannedAbstract.put(className, true);
+        }
+        /**
+         * Determine the SuperClass, either the first Member of our Inheritance Chain or
+         * for a Root Class, the Graph Root Class.
+         */
+        String superClassName = null;
+        if (!schemaEntity.getInheritanceChain().isEmpty()) {
+            Class inheritanceMember = schemaEntity.getInheritanceChain().get(0);
+            SchemaEntity superEntity = entitiesByClass.get(inheritanceMember);
+            superClassName = (superEntity != null) ? superEntity.resolveName() : inheritanceMember.getSimpleName();
+            LOGGER.info("{}Class: {} is Derived from: {}",
+                    ODB_PHASE_TWO, className, inheritanceMember.getName());
+        } else if (schemaEntity.isRootClass() &&
+                !schemaEntity.getGraphType().equals(ODBGraphObject.ODBGraphObjectType.NONE)) {
+            superClassName = schemaEntity.getGraphType().name().substring(0, 1).toUpperCase();
+            LOGGER.info("{}Root Class: {} is Derived from: {}",
+                    ODB_PHASE_TWO, className, superClassName);
+        }
+        if (superClassName != null) {
+            plan.add(SchemaChange.setClassAttribute(className, OClass.ATTRIBUTES.SUPERCLASS, superClassName, null));
+            plannedSuperClasses.put(className, superClassName);
+        }
+    }
+
+    /**
+     * Plan the Properties for a Given Entity, Associations are Planned separately.
+     *
+     * @param plan         Change Plan
+     * @param schemaEntity Entity Reference
+     */
+    protected void diffProperties(SchemaChangePlan plan, SchemaEntity schemaEntity) {
+        String className = schemaEntity.resolveName();
+        for (SchemaEntityProperty property : schemaEntity.getProperties()) {
+            String propertyName = property.getPropertyName();
+            switch (property.getKind()) {
+                case PROPERTY:
+                case IDENTIFIER:
+                    if (property.isTransientProperty()) {
+                        continue;
+                    }
+                    if (property.getType() == null) {
+                        LOGGER.warn("{}  + Unable to Determine OType for Property: '{}', Ignoring.",
+                                ODB_PHASE_TWO, propertyName);
+                        continue;
+                    }
+                    PropertyState state = diffProperty(plan, className, propertyName, property.getType());
+                    diffPropertyAttribute(plan, className, propertyName, state,
+                            OProperty.ATTRIBUTES.MANDATORY, property.isMandatory());
+                    diffPropertyAttribute(plan, className, propertyName, state,
+                            OProperty.ATTRIBUTES.NOTNULL, property.isNotNull());
+                    if (property.getRegex() != null) {
+                        diffPropertyAttribute(plan, className, propertyName, state,
+                                OProperty.ATTRIBUTES.REGEXP, property.getRegex());
+                    }
+                    /**
+                     * Linked Class and Type are only Resolved for Embedded Types.
+                     */
+                    diffLinkedAttributes(plan, className, propertyName, state, property);
+                    break;
+                case ASSOCIATION:
+                    break;
+                default:
+                    LOGGER.debug("{}  + Unknown Property: '{}', Unable to Determine how to Define!",
+                            ODB_PHASE_TWO, propertyName);
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Plan the Associations for a Given Entity.
+     *
+     * @param plan         Change Plan
+     * @param schemaEntity Entity Reference
+     */
+    protected void diffAssociations(SchemaChangePlan plan, SchemaEntity schemaEntity) {
+        String className = schemaEntity.resolveName();
+        LOGGER.info("{}Class: {} Validating Associations.", ODB_PHASE_TWO, className);
+        for (SchemaEntityProperty property : schemaEntity.getProperties()) {
+            /**
+             * Properties and Identifiers take precedence and have already been Planned.
+             */
+            if (property.getKind() != SchemaEntityProperty.PropertyKind.ASSOCIATION ||
+                    property.isTransientProperty()) {
+                continue;
+            }
+            String propertyName = property.getPropertyName();
+            ODBAssociation.AssociationType associationType = property.getAssociationType();
+            LOGGER.info("{}Class: {}, Validating Association: '{}'.",
+                    ODB_PHASE_TWO, className, propertyName);
+            if (associationType.equals(ODBAssociation.AssociationType.EDGE)) {
+                if (property.getEdgeName() == null) {
+                    LOGGER.warn("{}  + Edge Association Specified, but no Edge Name Specified, Fix Annotation, Ignoring!",
+                            ODB_PHASE_TWO);
+                    continue;
+                }
+                diffEdgeClass(plan, property.getEdgeName());
+            } else if (property.getType() != null) {
+                PropertyState state = diffProperty(plan, className, propertyName, property.getType());
+                diffLinkedAttributes(plan, className, propertyName, state, property);
+                diffPropertyAttribute(plan, className, propertyName, state,
+                        OProperty.ATTRIBUTES.MANDATORY, property.isMandatory());
+                diffPropertyAttribute(plan, className, propertyName, state,
+                        OProperty.ATTRIBUTES.NOTNULL, property.isNotNull());
+            } else {
+                LOGGER.warn("{}  + Unknown Association Type:'{}', Ignoring!",
+                        ODB_PHASE_TWO, associationType.toString());
+            }
+        }
+    }
+
+    /**
+     * Plan the Linked Class and Linked Type of a Property, if Specified.
+     *
+     * @param plan         Change Plan
+     * @param className    Class Name
+     * @param propertyName Property Name
+     * @param state        Current Property State
+     * @param property     Property Descriptor
+     */
+    protected void diffLinkedAttributes(SchemaChangePlan plan, String className, String propertyName,
+                                        PropertyState state, SchemaEntityProperty property) {
+        if (property.getLinkedClassName() != null) {
+            diffPropertyAttribute(plan, className, propertyName, state,
+                    OProperty.ATTRIBUTES.LINKEDCLASS, resolveLinkedClass(property.getLinkedClassName()));
+        }
+        if (property.getLinkedType() != null) {
+            diffPropertyAttribute(plan, className, propertyName, state,
+                    OProperty.ATTRIBUTES.LINKEDTYPE, property.getLinkedType());
+        }
+    }
+
+    /**
+     * Plan an Edge Class, ensuring it is a Concrete Class derived from the Root Edge Class.
+     *
+     * @param plan     Change Plan
+     * @param edgeName Name of the Edge Class.
+     */
+    protected void diffEdgeClass(SchemaChangePlan plan, String edgeName) {
+        if (!classExists(edgeName)) {
+            planClass(plan, edgeName);
+        }
+        List<String> actualSuperClasses = superClassesOf(edgeName);
+        if (!actualSuperClasses.contains(EDGE)) {
+            plan.add(SchemaChange.setClassAttribute(edgeName, OClass.ATTRIBUTES.SUPERCLASS, EDGE,
+                    actualSuperClasses.isEmpty() ? null : String.join(",", actualSuperClasses)));
+            plannedSuperClasses.put(edgeName, EDGE);
+        }
+        if (isAbstract(edgeName)) {
+            plan.add(SchemaChange.setClassAttribute(edgeName, OClass.ATTRIBUTES.ABSTRACT, false, true));
+            plannedAbstract.put(edgeName, false);
+        }
+    }
+
+    /**
+     * Plan a Property with the expected Type.
+     *
+     * @param plan         Change Plan
+     * @param className    Class Name
+     * @param propertyName Property Name
+     * @param oType        Expected Type
+     * @return PropertyState as it will be once Planned Changes are Applied.
+     */
+    protected PropertyState diffProperty(SchemaChangePlan plan, String className, String propertyName, OType oType) {
+        PropertyState state = propertyState(className, propertyName);
+        if (state == null) {
+            LOGGER.info("{}Class: {}, Property: '{}' Does Not Exist, need to Define.",
+                    ODB_PHASE_TWO, className, propertyName);
+            plan.add(SchemaChange.createProperty(className, propertyName, oType));
+            state = new PropertyState(oType);
+            plannedProperties.put(className + "." + propertyName, state);
+        } else {
+            if (LOGGER.isTraceEnabled()) {
+                LOGGER.trace("{}Class: {}, Property: '{}' Already Defined.",
+                        ODB_PHASE_TWO, className, propertyName);
+            }
+            if (state.type != oType) {
+                plan.add(SchemaChange.alterPropertyType(className, propertyName, oType, state.type));
+                state.type = oType;
+            }
+        }
+        return state;
+    }
+
+    /**
+     * Plan a Property Attribute, if it differs from its expected Value.
+     *
+     * @param plan         Change Plan
+     * @param className    Class Name
+     * @param propertyName Property Name
+     * @param state        Current Property State
+     * @param attribute    Property Attribute
+     * @param expected     Expected Value
+     */
+    protected void diffPropertyAttribute(SchemaChangePlan plan, String className, String propertyName,
+                                         PropertyState state, OProperty.ATTRIBUTES attribute, Object expected) {
+        String expectedValue = SchemaChange.asString(expected);
+        String actualValue = state.attributes.get(attribute);
+        if (!Objects.equals(actualValue, expectedValue)) {
+            plan.add(SchemaChange.setPropertyAttribute(className, propertyName, attribute, expectedValue, actualValue));
+            state.attributes.put(attribute, expectedValue);
+        }
+    }
+
+    /**
+     * Obtain the State of a Property, including any Planned Changes.
+     *
+     * @param className    Class Name
+     * @param propertyName Property Name
+     * @return PropertyState or null if the Property does not Exist.
+     */
+    protected PropertyState propertyState(String className, String propertyName) {
+        String key = className + "." + propertyName;
+        PropertyState state = plannedProperties.get(key);
+        if (state != null) {
+            return state;
+        }
+        OClass oClass = snapshot.getClass(className);
+        if (oClass != null && oClass.existsProperty(propertyName)) {
+            state = new PropertyState(oClass.getProperty(propertyName));
+        } else if (plannedSuperClasses.containsKey(className)) {
+            /**
+             * A new Class inherits Properties from its SuperClass.
+             */
+            PropertyState inherited = propertyState(plannedSuperClasses.get(className), propertyName);
+            state = (inherited == null) ? null : new PropertyState(inherited);
+        }
+        if (state != null) {
+            plannedProperties.put(key, state);
+        }
+        return state;
+    }
+
+    protected void planClass(SchemaChangePlan plan, String className) {
+        plan.add(SchemaChange.createClass(className));
+        plannedClasses.add(className);
+    }
+
+    protected boolean classExists(String className) {
+        return plannedClasses.contains(className) || snapshot.existsClass(className);
+    }
+
+    /**
+     * Resolve a Linked Class Name, only Classes which Exist or are defined by the
+     * Domain Model can be Linked.
+     *
+     * @param linkedClassName Name of the Linked Class.
+     * @return String of Linked Class Name or null.
+     */
+    protected String resolveLinkedClass(String linkedClassName) {
+        return (classExists(linkedClassName) || modelClassNames.contains(linkedClassName)) ? linkedClassName : null;
+    }
+
+    /**
+     * Obtain the Names of the SuperClasses of a Class, a Class may have several.
+     *
+     * @param className Class Name
+     * @return List of SuperClass Names, Empty if none.
+     */
+    protected List<String> superClassesOf(String className) {
+        if (plannedSuperClasses.containsKey(className)) {
+            return Collections.singletonList(plannedSuperClasses.get(className));
+        }
+        OClass oClass = snapshot.getClass(className);
+        if (oClass == null) {
+            return Collections.emptyList();
+        }
+        List<String> superClassNames = new ArrayList<>();
+        for (OClass superClass : oClass.getSuperClasses()) {
+            superClassNames.add(superClass.getName());
+        }
+        return superClassNames;
+    }
+
+    protected boolean isAbstract(String className) {
+        if (plannedAbstract.containsKey(className)) {
+            return plannedAbstract.get(className);
+        }
+        OClass oClass = snapshot.getClass(className);
+        return oClass != null && oClass.isAbstract();
+    }
+
+    /**
+     * PropertyState
+     * Type and Attribute Values of a Property, in their String form.
+     */
+    protected static class PropertyState {
+
+        private OType type;
+
+        private final Map<OProperty.ATTRIBUTES, String> attributes = new EnumMap<>(OProperty.ATTRIBUTES.class);
+
+        PropertyState(OType type) {
+            this.type = type;
+            this.attributes.put(OProperty.ATTRIBUTES.MANDATORY, Boolean.FALSE.toString());
+            this.attributes.put(OProperty.ATTRIBUTES.NOTNULL, Boolean.FALSE.toString());
+        }
+
+        PropertyState(OProperty oProperty) {
+            this.type = oProperty.getType();
+            this.attributes.put(OProperty.ATTRIBUTES.MANDATORY, String.valueOf(oProperty.isMandatory()));
+            this.attributes.put(OProperty.ATTRIBUTES.NOTNULL, String.valueOf(oProperty.isNotNull()));
+            this.attributes.put(OProperty.ATTRIBUTES.REGEXP, oProperty.getRegexp());
+            this.attributes.put(OProperty.ATTRIBUTES.LINKEDCLASS, SchemaChange.asString(oProperty.getLinkedClass()));
+            this.attributes.put(OProperty.ATTRIBUTES.LINKEDTYPE, SchemaChange.asString(oProperty.getLinkedType()));
+        }
+
+        PropertyState(PropertyState other) {
+            this.type = other.type;
+            this.attributes.putAll(other.attributes);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
 import jeffaschenk.orientdb.schema.migrations.DataMigration;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * SchemaEnforcer
@@ -12,6 +13,13 @@ import java.util.List;
  */
 public interface SchemaEnforcer {
 
+    /**
+     * Provide the Supplier of additional DB Admin Accessors, used when Work for a Phase
+     * is performed in Parallel. Each Accessor obtained will be closed once its Work completes.
+     * @param connectionSupplier Supplier of DB Admin Accessors.
+     */
+    void setConnectionSupplier(Supplier<ODatabaseDocumentTx> connectionSupplier);
+
     /**
      * Phase 1
      *
@@ -20,6 +28,30 @@ public interface SchemaEnforcer {
      */
     boolean scanSchema();
 
+    /**
+     * Obtain the Schema Entity Definitions built by the Phase 1 Scan.
+     *
+     * @return List of Schema Entity Definitions, in Dependency Order, empty if not yet Scanned.
+     */
+    List<SchemaEntity> getSchemaEntityDefinitions();
+
+    /**
+     * Determine if the Phase 1 Scan has Completed, and its Schema Entity Definitions are Published.
+     *
+     * @return boolean indicator if the Domain Model has been Scanned.
+     */
+    boolean isSchemaScanned();
+
+    /**
+     * Phase 2 -- Schema Fingerprint Check
+     *
+     * Determine if the Fingerprint of the Domain Model last applied to the Persistent Store
+     * matches the current Domain Model, in which case Phases 2 and 3 can be skipped.
+     * @param db reference to DB Admin Accessor.
+     * @return boolean indicator if Schema is current or not.
+     */
+    boolean isSchemaCurrent(ODatabaseDocumentTx db);
+
     /**
      * Phase 2
      *
@@ -40,11 +72,23 @@ public interface SchemaEnforcer {
 
     /**
      * Phase 3a -- Rebuild Indexes
+     *
+     * Rebuild only the Indexes Created during Phase 3 of this Run.
      * @param db reference to DB Admin Accessor.
      * @return boolean indicator if Indexes were validated or not.
      */
     boolean reBuildIndexes(ODatabaseDocumentTx db);
 
+    /**
+     * Phase 3b -- Save Schema Fingerprint
+     *
+     * Store the Fingerprint of the current Domain Model, once Phases 2 and 3 have been
+     * applied successfully.
+     * @param db reference to DB Admin Accessor.
+     * @return boolean indicator if Fingerprint was saved or not.
+     */
+    boolean saveSchemaFingerprint(ODatabaseDocumentTx db);
+
     /**
      * Phase 4
      *
@@ -55,5 +99,19 @@ public interface SchemaEnforcer {
      */
     boolean performDataMigrations(ODatabaseDocumentTx db, List<DataMigration> dataMigrations);
 
+    /**
+     * Obtain the Report of Timings and Counts Recorded as each Phase runs.
+     *
+     * @return SchemaBootstrapReport
+     */
+    SchemaBootstrapReport getBootstrapReport();
+
+    /**
+     * Obtain the Progress of Indexes Built Online, in the Background, once Phase 3 has Returned.
+     *
+     * @return IndexBuildTracker
+     */
+    IndexBuildTracker getIndexBuildTracker();
+
 
 }
@@ -2,10 +2,7 @@ package jeffaschenk.orientdb.schema;
 
 import jeffaschenk.orientdb.annotations.ODBGraphObject;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 
 /**
  * SchemaEntity
@@ -37,9 +34,12 @@ public class SchemaEntity {
 
     private final List<Class> inheritanceChain = new ArrayList<>();
 
-    private final Map<String, SchemaEntityProperty> properties = new HashMap<>();
+    /**
+     * Property Descriptors, by Field Name.
+     */
+    private final Map<String, SchemaEntityProperty> properties = new TreeMap<>();
 
-    private final Map<String, Object> entityData = new HashMap<>();
+    private final List<SchemaEntityIndex> indices = new ArrayList<>();
 
     /**
      * Defailt Constructor to Instantiate a Schema Definition
@@ -77,16 +77,38 @@ public class SchemaEntity {
         return entityClass;
     }
 
-    public Map<String, Object> getEntityData() {
-        return entityData;
+    /**
+     * @return List of Index Descriptors, in Declaration Order.
+     */
+    public List<SchemaEntityIndex> getIndices() {
+        return Collections.unmodifiableList(indices);
+    }
+
+    protected void addIndex(SchemaEntityIndex index) {
+        this.indices.add(index);
     }
 
     public List<Class> getInheritanceChain() {
         return inheritanceChain;
     }
 
-    public Map<String, SchemaEntityProperty> getProperties() {
-        return properties;
+    /**
+     * @return Collection of Property Descriptors, ordered by Field Name.
+     */
+    public Collection<SchemaEntityProperty> getProperties() {
+        return Collections.unmodifiableCollection(properties.values());
+    }
+
+    /**
+     * @param fieldName Name of the Java Field.
+     * @return SchemaEntityProperty or null if not a Field of this Entity.
+     */
+    public SchemaEntityProperty getProperty(String fieldName) {
+        return properties.get(fieldName);
+    }
+
+    protected void addProperty(SchemaEntityProperty property) {
+        this.properties.put(property.getFieldName(), property);
     }
 
     public boolean isMappedEntityValidated() {
@@ -0,0 +1,172 @@
+package jeffaschenk.orientdb.schema;
+
+import com.orientechnologies.orient.core.index.OIndex;
+import jeffaschenk.orientdb.annotations.ODBIndex;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * SchemaEntityIndex
+ * Immutable, Typed Descriptor of an Index defined by an {@link ODBIndex} Annotation.
+ *
+ * An Index declaring its Properties is Structured, its Definition is derived from its
+ * Properties, Type and Engine Type, and can be compared against an existing Index.
+ * Otherwise the Index is defined by its SQL alone.
+ *
+ * @author jeffaschenk@gmail.com
+ */
+public final class SchemaEntityIndex {
+
+    private static final String LUCENE_ALGORITHM = "LUCENE";
+
+    private final String name;
+
+    private final ODBIndex.EngineType engineType;
+
+    private final ODBIndex.IndexType indexType;
+
+    private final List<String> properties;
+
+    private final String sql;
+
+    private SchemaEntityIndex(String name, ODBIndex.EngineType engineType, ODBIndex.IndexType indexType,
+                              List<String> properties, String sql) {
+        this.name = name;
+        this.engineType = engineType;
+        this.indexType = indexType;
+        this.properties = Collections.unmodifiableList(properties);
+        this.sql = sql;
+    }
+
+    /**
+     * Resolve the Descriptor from the Index Annotation.
+     *
+     * @param annotation Index Annotation.
+     * @return SchemaEntityIndex
+     */
+    public static SchemaEntityIndex fromAnnotation(ODBIndex annotation) {
+        List<String> properties = new ArrayList<>();
+        for (String property : annotation.properties()) {
+            if (property != null && !property.isEmpty()) {
+                properties.add(property);
+            }
+        }
+        return new SchemaEntityIndex(annotation.name(), annotation.engineType(), annotation.type(),
+                properties, annotation.sql());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public ODBIndex.EngineType getEngineType() {
+        return engineType;
+    }
+
+    public ODBIndex.IndexType getIndexType() {
+        return indexType;
+    }
+
+    /**
+     * @return List of Property Names making up the Index, empty if none Specified.
+     */
+    public List<String> getProperties() {
+        return properties;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    /**
+     * @return boolean indicator if the Index is defined by its Properties, Type and Engine Type.
+     */
+    public boolean isStructured() {
+        return !properties.isEmpty();
+    }
+
+    /**
+     * Resolve the OrientDB Index Type, the Hash Index Engine is selected by the Type Name.
+     *
+     * @return String of OrientDB Index Type, such as UNIQUE or NOTUNIQUE_HASH_INDEX.
+     */
+    public String getOrientIndexType() {
+        String orientIndexType = (indexType == ODBIndex.IndexType.NOTEUNIQUE) ? "NOTUNIQUE" : indexType.name();
+        if (engineType == ODBIndex.EngineType.HASHINDEX && indexType != ODBIndex.IndexType.SPATIAL) {
+            orientIndexType += "_HASH_INDEX";
+        }
+        return orientIndexType;
+    }
+
+    /**
+     * Resolve the OrientDB Index Algorithm, Spatial Indexes are only available with Lucene.
+     *
+     * @return String of Algorithm, null for the Default Algorithm of the Index Type.
+     */
+    public String getOrientAlgorithm() {
+        return (engineType == ODBIndex.EngineType.LUCENE || indexType == ODBIndex.IndexType.SPATIAL) ?
+                LUCENE_ALGORITHM : null;
+    }
+
+    /**
+     * Render the Structured Definition as OrientDB SQL.
+     *
+     * @param className Name of the Indexed Class.
+     * @return String of SQL Statement.
+     */
+    public String toSql(String className) {
+        String algorithm = getOrientAlgorithm();
+        return "CREATE INDEX " + name + " ON " + className + " (" + String.join(", ", properties) + ") " +
+                getOrientIndexType() + ((algorithm == null) ? "" : " ENGINE " + algorithm);
+    }
+
+    /**
+     * Determine if an existing Index matches the Structured Definition, by Type, Engine and Fields.
+     *
+     * @param oIndex Existing Index.
+     * @return boolean indicator if the Index matches.
+     */
+    public boolean matches(OIndex<?> oIndex) {
+        if (!getOrientIndexType().equalsIgnoreCase(oIndex.getType())) {
+            return false;
+        }
+        if ((getOrientAlgorithm() != null) != LUCENE_ALGORITHM.equalsIgnoreCase(oIndex.getAlgorithm())) {
+            return false;
+        }
+        List<String> fields = (oIndex.getDefinition() == null) ? Collections.emptyList() :
+                oIndex.getDefinition().getFields();
+        if (fields.size() != properties.size()) {
+            return false;
+        }
+        for (int i = 0; i < fields.size(); i++) {
+            if (!properties.get(i).equalsIgnoreCase(fields.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Describe an existing Index by Type, Engine and Fields, as compared by {@link #matches(OIndex)}.
+     *
+     * @param oIndex Existing Index.
+     * @return String Description.
+     */
+    public static String describe(OIndex<?> oIndex) {
+        return oIndex.getType() + " " + oIndex.getAlgorithm() + " " +
+                ((oIndex.getDefinition() == null) ? "[]" : oIndex.getDefinition().getFields());
+    }
+
+    @Override
+    public String toString() {
+        return "Index{" +
+                "name='" + name + '\'' +
+                ", engineType=" + engineType +
+                ", type=" + indexType +
+                ", properties=" + properties +
+                ", sql='" + sql + '\'' +
+                '}';
+    }
+}
@@ -1,30 +1,182 @@
 package jeffaschenk.orientdb.schema;
 
-import java.util.HashMap;
-import java.util.Map;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import jeffaschenk.orientdb.annotations.ODBAssociation;
+import jeffaschenk.orientdb.annotations.ODBProperty;
+import jeffaschenk.orientdb.annotations.ODBUniqueIdentifier;
+
+import java.lang.reflect.Field;
 
 /**
- * SchemaEntity
- * Represents a Schema Definition Object.
+ * SchemaEntityProperty
+ * Immutable, Typed Descriptor of a Mapped Field.
+ *
+ * All Annotation Attributes are Resolved once during the Phase 1 Scan, so every
+ * subsequent Phase and any Runtime Mapper can use the Descriptor without
+ * Re-Reading Annotations.
  *
  * @author jeffaschenk@gmail.com on 4/4/16.
  */
-public class SchemaEntityProperty {
+public final class SchemaEntityProperty {
+
+    /**
+     * Kind of Mapping, determined by the Annotation which takes Precedence:
+     * {@link ODBProperty}, then {@link ODBUniqueIdentifier}, then {@link ODBAssociation}.
+     */
+    public enum PropertyKind {
+        PROPERTY,
+        IDENTIFIER,
+        ASSOCIATION,
+        UNMAPPED
+    }
+
+    private final Field field;
+
+    private final String fieldName;
+
+    private final String propertyName;
+
+    private final Class<?> propertyClass;
+
+    private final PropertyKind kind;
+
+    private final boolean identityProperty;
+
+    private final boolean transientProperty;
+
+    private final OType type;
+
+    private final OType linkedType;
+
+    private final String linkedClassName;
 
-    private String propertyName;
+    private final boolean mandatory;
 
-    private Class<?> propertyClass;
+    private final boolean notNull;
 
-    private boolean identityProperty;
+    private final String regex;
 
-    private final Map<String, Object> propertyData = new HashMap<>();
+    private final ODBAssociation.AssociationType associationType;
 
-    public SchemaEntityProperty(String propertyName, Class<?> propertyClass, boolean identityProperty) {
+    private final String edgeName;
+
+    private final String fetchPlan;
+
+    private final int fetchDepth;
+
+    private SchemaEntityProperty(Field field, String propertyName, PropertyKind kind, boolean identityProperty,
+                                 boolean transientProperty, OType type, OType linkedType, String linkedClassName,
+                                 boolean mandatory, boolean notNull, String regex,
+                                 ODBAssociation.AssociationType associationType, String edgeName, String fetchPlan,
+                                 int fetchDepth) {
+        this.field = field;
+        this.fieldName = field.getName();
         this.propertyName = propertyName;
-        this.propertyClass = propertyClass;
+        this.propertyClass = field.getType();
+        this.kind = kind;
         this.identityProperty = identityProperty;
+        this.transientProperty = transientProperty;
+        this.type = type;
+        this.linkedType = linkedType;
+        this.linkedClassName = linkedClassName;
+        this.mandatory = mandatory;
+        this.notNull = notNull;
+        this.regex = regex;
+        this.associationType = associationType;
+        this.edgeName = edgeName;
+        this.fetchPlan = fetchPlan;
+        this.fetchDepth = fetchDepth;
     }
 
+    /**
+     * Resolve the Descriptor for a Field from its Annotations.
+     *
+     * @param field Field of a Mapped Entity.
+     * @return SchemaEntityProperty
+     */
+    public static SchemaEntityProperty fromField(Field field) {
+        ODBProperty propertyAnnotation = field.getAnnotation(ODBProperty.class);
+        ODBUniqueIdentifier identifierAnnotation = field.getAnnotation(ODBUniqueIdentifier.class);
+        ODBAssociation associationAnnotation = field.getAnnotation(ODBAssociation.class);
+        boolean identityProperty = identifierAnnotation != null;
+
+        if (propertyAnnotation != null) {
+            OType oType = SchemaEntityPropertyTransformer.entityPropertyTypeToOType(propertyAnnotation.type());
+            OType linkedType = null;
+            String linkedClassName = null;
+            /**
+             * Linked Class and Type only Apply to Embedded Types.
+             */
+            if (oType == OType.EMBEDDED ||
+                    oType == OType.EMBEDDEDLIST ||
+                    oType == OType.EMBEDDEDMAP ||
+                    oType == OType.EMBEDDEDSET) {
+                linkedClassName = emptyToNull(propertyAnnotation.linkedClassName());
+                if (propertyAnnotation.linkedType() != null &&
+                        !propertyAnnotation.linkedType().equals(ODBProperty.LinkedType.NONE)) {
+                    linkedType = SchemaEntityPropertyTransformer.entityLinkedTypeToOType(propertyAnnotation.linkedType());
+                }
+            }
+            return new SchemaEntityProperty(field, resolveName(propertyAnnotation.name(), field),
+                    PropertyKind.PROPERTY, identityProperty,
+                    ODBProperty.PropertyType.TRANSIENT.equals(propertyAnnotation.type()),
+                    oType, linkedType, linkedClassName,
+                    propertyAnnotation.mandatory(), propertyAnnotation.notNull(),
+                    emptyToNull(propertyAnnotation.regex()), null, null, null, 0);
+        } else if (identifierAnnotation != null) {
+            /**
+             * Unique Identifiers are Strings, with a RegEx to ensure UUID Compliance.
+             */
+            return new SchemaEntityProperty(field, resolveName(identifierAnnotation.name(), field),
+                    PropertyKind.IDENTIFIER, true, false,
+                    SchemaEntityPropertyTransformer.entityPropertyTypeToOType(ODBProperty.PropertyType.STRING),
+                    null, null, identifierAnnotation.mandatory(), identifierAnnotation.notNull(),
+                    OrientSchemaEnforcer.UUID_REGEXP, null, null, null, 0);
+        } else if (associationAnnotation != null) {
+            ODBAssociation.AssociationType associationType = associationAnnotation.type();
+            boolean transientProperty = associationType == null ||
+                    associationType.equals(ODBAssociation.AssociationType.TRANSIENT) ||
+                    associationType.equals(ODBAssociation.AssociationType.NONE);
+            OType oType = null;
+            OType linkedType = null;
+            String linkedClassName = null;
+            if (!transientProperty && (associationType.toString().startsWith("LINK") ||
+                    associationType.toString().startsWith("EMBEDDED"))) {
+                oType = SchemaEntityPropertyTransformer.entityAssociationTypeToOType(associationType);
+                linkedClassName = emptyToNull(associationAnnotation.linkedClassName());
+                if (associationAnnotation.linkedType() != null &&
+                        !associationAnnotation.linkedType().equals(ODBAssociation.LinkedType.NONE)) {
+                    linkedType = SchemaEntityPropertyTransformer.entityLinkedTypeToOType(associationAnnotation.linkedType());
+                }
+            }
+            return new SchemaEntityProperty(field, resolveName(associationAnnotation.name(), field),
+                    PropertyKind.ASSOCIATION, false, transientProperty,
+                    oType, linkedType, linkedClassName,
+                    associationAnnotation.mandatory(), associationAnnotation.notNull(), null,
+                    associationType, emptyToNull(associationAnnotation.edgeName()),
+                    emptyToNull(associationAnnotation.fetchPlan()), resolveFetchDepth(associationAnnotation));
+        }
+        return new SchemaEntityProperty(field, field.getName(), PropertyKind.UNMAPPED, false, false,
+                null, null, null, false, false, null, null, null, null, 0);
+    }
+
+    /**
+     * @return Field being Mapped.
+     */
+    public Field getField() {
+        return field;
+    }
+
+    /**
+     * @return String Name of the Java Field.
+     */
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    /**
+     * @return String Resolved Name of the Persistent Property, honoring any Annotation Name Override.
+     */
     public String getPropertyName() {
         return propertyName;
     }
@@ -33,20 +185,108 @@ public class SchemaEntityProperty {
         return propertyClass;
     }
 
+    public PropertyKind getKind() {
+        return kind;
+    }
+
     public boolean isIdentityProperty() {
         return identityProperty;
     }
 
-    public Map<String, Object> getPropertyData() {
-        return propertyData;
+    /**
+     * @return boolean indicator if the Field is not Persisted.
+     */
+    public boolean isTransientProperty() {
+        return transientProperty;
+    }
+
+    /**
+     * @return boolean indicator if the Field is Persisted as a Property of the Class,
+     * Edge Associations are Persisted as separate Edge Classes.
+     */
+    public boolean isPersistentProperty() {
+        return kind != PropertyKind.UNMAPPED && !transientProperty && type != null;
+    }
+
+    /**
+     * @return OType of the Persistent Property, or null if not Resolved or an Edge Association.
+     */
+    public OType getType() {
+        return type;
+    }
+
+    public OType getLinkedType() {
+        return linkedType;
+    }
+
+    public String getLinkedClassName() {
+        return linkedClassName;
+    }
+
+    public boolean isMandatory() {
+        return mandatory;
+    }
+
+    public boolean isNotNull() {
+        return notNull;
+    }
+
+    public String getRegex() {
+        return regex;
+    }
+
+    /**
+     * @return AssociationType, or null if not an Association.
+     */
+    public ODBAssociation.AssociationType getAssociationType() {
+        return associationType;
+    }
+
+    public String getEdgeName() {
+        return edgeName;
+    }
+
+    /**
+     * @return String Fetch Plan for Loading the Linked Records, or null for the Default Fetch Plan.
+     */
+    public String getFetchPlan() {
+        return fetchPlan;
+    }
+
+    /**
+     * @return int Depth of the Linked Graph Fetched with the Owning Record, 0 for none and -1 for all of it.
+     */
+    public int getFetchDepth() {
+        return fetchDepth;
+    }
+
+    /**
+     * Resolve the Fetch Depth of an Association, Eager Associations are Fetched to a Depth of 1
+     * unless a Fetch Depth is specified.
+     */
+    private static int resolveFetchDepth(ODBAssociation associationAnnotation) {
+        int fetchDepth = Math.max(associationAnnotation.fetchDepth(), -1);
+        return (fetchDepth == 0 && associationAnnotation.eager()) ? 1 : fetchDepth;
+    }
+
+    private static String resolveName(String overrideName, Field field) {
+        return (overrideName == null || overrideName.isEmpty()) ? field.getName() : overrideName;
+    }
+
+    private static String emptyToNull(String value) {
+        return (value == null || value.isEmpty()) ? null : value;
     }
 
     @Override
     public String toString() {
         return "Property{" +
                 "name='" + propertyName + '\'' +
+                ", field='" + fieldName + '\'' +
                 ", Class=" + propertyClass +
+                ", kind=" + kind +
+                ", type=" + type +
                 ", identityProperty=" + identityProperty +
+                ", transient=" + transientProperty +
                 '}';
     }
 }
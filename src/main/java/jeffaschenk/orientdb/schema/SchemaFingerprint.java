@@ -0,0 +1,198 @@
+package jeffaschenk.orientdb.schema;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * SchemaFingerprint
+ *
+ * Computes a stable Hash of the Scanned Domain Model, used to determine if the
+ * Schema previously applied to the Persistent Store is still current, and a Hash
+ * per Class and per Index, used to determine which Classes and Indexes have Changed.
+ *
+ * @author jeffaschenk@gmail.com
+ */
+public final class SchemaFingerprint {
+
+    /**
+     * Fingerprint Version, change to invalidate all previously stored Fingerprints
+     * when the enforcement rules themselves change.
+     */
+    protected static final String FINGERPRINT_VERSION = "2";
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private SchemaFingerprint() {
+    }
+
+    /**
+     * Compute the Fingerprint for the Mapped Schema Entities.
+     *
+     * @param schemaEntities Scanned Schema Entity Definitions.
+     * @return String Hex Encoded Fingerprint.
+     */
+    protected static String compute(List<SchemaEntity> schemaEntities) {
+        return compute(schemaEntities, FINGERPRINT_VERSION);
+    }
+
+    /**
+     * Compute the Fingerprint for the Mapped Schema Entities, under a Fingerprint Version.
+     *
+     * @param schemaEntities Scanned Schema Entity Definitions.
+     * @param version        Fingerprint Version.
+     * @return String Hex Encoded Fingerprint.
+     */
+    protected static String compute(List<SchemaEntity> schemaEntities, String version) {
+        StringBuilder sb = new StringBuilder("v").append(version).append('\n');
+        for (SchemaEntity schemaEntity : mappedEntities(schemaEntities)) {
+            appendEntity(sb, schemaEntity);
+        }
+        return digest(sb.toString());
+    }
+
+    /**
+     * Compute the Fingerprint of each Mapped Schema Entity, without its Indexes.
+     *
+     * @param schemaEntities Scanned Schema Entity Definitions.
+     * @return Map of Fingerprints by Class Name.
+     */
+    protected static Map<String, String> computeClasses(List<SchemaEntity> schemaEntities) {
+        Map<String, String> fingerprints = new TreeMap<>();
+        for (SchemaEntity schemaEntity : schemaEntities) {
+            if (schemaEntity.isMappedEntity()) {
+                StringBuilder sb = new StringBuilder("v").append(FINGERPRINT_VERSION).append('\n');
+                appendClass(sb, schemaEntity);
+                appendProperties(sb, schemaEntity);
+                fingerprints.put(schemaEntity.resolveName(), digest(sb.toString()));
+            }
+        }
+        return fingerprints;
+    }
+
+    /**
+     * Compute the Fingerprint of each Index of the Mapped Schema Entities.
+     *
+     * @param schemaEntities Scanned Schema Entity Definitions.
+     * @return Map of Fingerprints by Index Name.
+     */
+    protected static Map<String, String> computeIndexes(List<SchemaEntity> schemaEntities) {
+        /**
+         * An Index Inherited by SubClasses is Fingerprinted with the first Entity by Name.
+         */
+        Map<String, String> fingerprints = new TreeMap<>();
+        for (SchemaEntity schemaEntity : mappedEntities(schemaEntities)) {
+            for (SchemaEntityIndex index : schemaEntity.getIndices()) {
+                fingerprints.putIfAbsent(index.getName(), digest("v" + FINGERPRINT_VERSION + '\n' +
+                        schemaEntity.resolveName() + '\n' + index));
+            }
+        }
+        return fingerprints;
+    }
+
+    /**
+     * Determine the Names whose Fingerprint has Changed, or was not Stored.
+     *
+     * @param current Current Fingerprints by Name.
+     * @param stored  Stored Fingerprints by Name.
+     * @return Set of Changed Names, in Name Order.
+     */
+    protected static Set<String> changed(Map<String, String> current, Map<String, String> stored) {
+        Set<String> changed = new TreeSet<>();
+        for (Map.Entry<String, String> entry : current.entrySet()) {
+            if (!entry.getValue().equals(stored.get(entry.getKey()))) {
+                changed.add(entry.getKey());
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Order the Mapped Entities by Name, so Fingerprints do not depend upon Scan Order.
+     *
+     * @param schemaEntities Scanned Schema Entity Definitions.
+     * @return List of Mapped Schema Entities, in Name Order.
+     */
+    private static List<SchemaEntity> mappedEntities(List<SchemaEntity> schemaEntities) {
+        List<SchemaEntity> mappedEntities = new ArrayList<>();
+        for (SchemaEntity schemaEntity : schemaEntities) {
+            if (schemaEntity.isMappedEntity()) {
+                mappedEntities.add(schemaEntity);
+            }
+        }
+        mappedEntities.sort(Comparator.comparing(SchemaEntity::getEntityName));
+        return mappedEntities;
+    }
+
+    /**
+     * Append the Canonical Form of a Schema Entity.
+     *
+     * @param sb           Builder
+     * @param schemaEntity Schema Entity
+     */
+    private static void appendEntity(StringBuilder sb, SchemaEntity schemaEntity) {
+        appendClass(sb, schemaEntity);
+        List<String> indices = new ArrayList<>();
+        for (SchemaEntityIndex index : schemaEntity.getIndices()) {
+            indices.add(index.toString());
+        }
+        Collections.sort(indices);
+        for (String index : indices) {
+            sb.append(" ").append(index).append('\n');
+        }
+        appendProperties(sb, schemaEntity);
+    }
+
+    private static void appendClass(StringBuilder sb, SchemaEntity schemaEntity) {
+        sb.append("class:").append(schemaEntity.resolveName())
+                .append(";abstract=").append(schemaEntity.isAbstractClass())
+                .append(";root=").append(schemaEntity.isRootClass())
+                .append(";graphType=").append(schemaEntity.getGraphType())
+                .append(";extends=");
+        for (Class inheritanceMember : schemaEntity.getInheritanceChain()) {
+            sb.append(inheritanceMember.getSimpleName()).append(',');
+        }
+        sb.append('\n');
+    }
+
+    private static void appendProperties(StringBuilder sb, SchemaEntity schemaEntity) {
+        for (SchemaEntityProperty property : schemaEntity.getProperties()) {
+            sb.append(" property:").append(property.getFieldName())
+                    .append(";name=").append(property.getPropertyName())
+                    .append(";kind=").append(property.getKind())
+                    .append(";identity=").append(property.isIdentityProperty())
+                    .append(";transient=").append(property.isTransientProperty())
+                    .append(";type=").append(property.getType())
+                    .append(";linkedType=").append(property.getLinkedType())
+                    .append(";linkedClass=").append(property.getLinkedClassName())
+                    .append(";mandatory=").append(property.isMandatory())
+                    .append(";notNull=").append(property.isNotNull())
+                    .append(";regex=").append(property.getRegex())
+                    .append(";association=").append(property.getAssociationType())
+                    .append(";edge=").append(property.getEdgeName())
+                    .append('\n');
+        }
+    }
+
+    /**
+     * Digest the Canonical Form.
+     *
+     * @param canonical String of Canonical Schema Form.
+     * @return String Hex Encoded Digest.
+     */
+    private static String digest(String canonical) {
+        try {
+            byte[] hash = MessageDigest.getInstance(DIGEST_ALGORITHM)
+                    .digest(canonical.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(hash.length * 2);
+            for (byte b : hash) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Digest Algorithm not available: " + DIGEST_ALGORITHM, e);
+        }
+    }
+
+}
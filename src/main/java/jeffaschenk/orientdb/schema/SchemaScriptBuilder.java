@@ -0,0 +1,117 @@
+package jeffaschenk.orientdb.schema;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SchemaScriptBuilder
+ *
+ * Renders Schema Changes as OrientDB SQL Statements and assembles them into a single
+ * SQL Batch Script, so a complete Phase can be applied with a single Server Round-Trip.
+ *
+ * @author jeffaschenk@gmail.com
+ */
+public class SchemaScriptBuilder {
+
+    /**
+     * OrientDB SQL Batch Script Language.
+     */
+    public static final String SCRIPT_LANGUAGE = "sql";
+
+    private static final String NULL = "null";
+
+    private final List<String> statements = new ArrayList<>();
+
+    /**
+     * Add a Change to the Script.
+     *
+     * @param schemaChange Change to be Added, must be {@link #isScriptable(SchemaChange) Scriptable}.
+     * @return SchemaScriptBuilder
+     */
+    public SchemaScriptBuilder add(SchemaChange schemaChange) {
+        if (!isScriptable(schemaChange)) {
+            throw new IllegalArgumentException("Schema Change can not be Scripted: " + schemaChange);
+        }
+        statements.add(toSql(schemaChange));
+        return this;
+    }
+
+    public boolean isEmpty() {
+        return statements.isEmpty();
+    }
+
+    public int size() {
+        return statements.size();
+    }
+
+    /**
+     * @return String of the SQL Batch Script, one Statement per Line.
+     */
+    public String build() {
+        StringBuilder sb = new StringBuilder();
+        for (String statement : statements) {
+            sb.append(statement).append(";\n");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Determine if a Change can be safely expressed within a Batch Script.
+     * Values which would need Escaping, such as Regular Expressions with Quotes or
+     * Backslashes, or Index SQL with Statement Separators, are left to the Schema API,
+     * as are Indexes to be Recreated.
+     *
+     * @param schemaChange Change to be checked.
+     * @return boolean indicator if Scriptable or not.
+     */
+    public static boolean isScriptable(SchemaChange schemaChange) {
+        String value = schemaChange.getValue();
+        if (value == null) {
+            return true;
+        }
+        switch (schemaChange.getChangeType()) {
+            case SET_PROPERTY_ATTRIBUTE:
+                return value.indexOf('"') < 0 && value.indexOf('\\') < 0 && value.indexOf(';') < 0 &&
+                        value.indexOf('\n') < 0 && value.indexOf('\r') < 0;
+            case CREATE_INDEX:
+                return value.indexOf(';') < 0;
+            case RECREATE_INDEX:
+                return false;
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * Render a Change as an OrientDB SQL Statement.
+     *
+     * @param schemaChange Change to be Rendered.
+     * @return String of SQL Statement.
+     */
+    public static String toSql(SchemaChange schemaChange) {
+        String className = schemaChange.getClassName();
+        String value = schemaChange.getValue();
+        switch (schemaChange.getChangeType()) {
+            case CREATE_CLASS:
+                return "CREATE CLASS " + className;
+            case SET_CLASS_ATTRIBUTE:
+                return "ALTER CLASS " + className + " " + schemaChange.getAttribute() + " " +
+                        (value == null ? NULL : value);
+            case CREATE_PROPERTY:
+                return "CREATE PROPERTY " + className + "." + schemaChange.getName() + " " + value;
+            case ALTER_PROPERTY_TYPE:
+            case SET_PROPERTY_ATTRIBUTE:
+                String attributeValue = value == null ? NULL : value;
+                if (value != null && "REGEXP".equals(schemaChange.getAttribute())) {
+                    attributeValue = "\"" + value + "\"";
+                }
+                return "ALTER PROPERTY " + className + "." + schemaChange.getName() + " " +
+                        schemaChange.getAttribute() + " " + attributeValue;
+            case CREATE_INDEX:
+                return value.replace('\n', ' ').replace('\r', ' ');
+            default:
+                throw new IllegalArgumentException("Unknown Schema Change Type: " + schemaChange.getChangeType());
+        }
+    }
+
+}
@@ -0,0 +1,159 @@
+package jeffaschenk.orientdb.mapping;
+
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import jeffaschenk.examples.model.entities.lwcf.CustomProperty;
+import jeffaschenk.orientdb.schema.ScannedModels;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * EntityMapperBenchmark
+ *
+ * Compares the Entity Mapper, using its Generated Accessors, with Hand-Written Mapping of a
+ * RootEntity-Sized CustomProperty, and the Generated Accessors with Reflective Field Access.
+ *
+ * Run with: java -cp target/test-classes:target/classes:[test classpath] org.openjdk.jmh.Main EntityMapperBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityMapperBenchmark {
+
+    private EntityMapper entityMapper;
+
+    private CustomProperty customProperty;
+
+    private ODocument document;
+
+    private Function<Object, Object>[] getters;
+
+    private Field[] fields;
+
+    @Setup
+    public void scanExampleModel() {
+        entityMapper = new OrientEntityMapper(ScannedModels.scan(ScannedModels.EXAMPLE_MODEL));
+        EntityMapping entityMapping = entityMapper.getEntityMapping(CustomProperty.class);
+        getters = entityMapping.getGetters();
+        String[] propertyNames = entityMapping.getPropertyNames();
+        fields = new Field[propertyNames.length];
+        for (int ordinal = 0; ordinal < propertyNames.length; ordinal++) {
+            fields[ordinal] = ReflectionUtils.findField(CustomProperty.class, propertyNames[ordinal]);
+            ReflectionUtils.makeAccessible(fields[ordinal]);
+        }
+
+        customProperty = new CustomProperty();
+        customProperty.setUuid(UUID.randomUUID().toString());
+        customProperty.setName("color");
+        customProperty.setDescription("Color of the Asset");
+        customProperty.setStatus("ACTIVE");
+        customProperty.setCreatedBy("benchmark");
+        customProperty.setCreatedByDate(new Date());
+        customProperty.setUpdatedBy("benchmark");
+        customProperty.setUpdatedByDate(new Date());
+        customProperty.setUpdatedByRequest(UUID.randomUUID().toString());
+        customProperty.setOwnerUUID(UUID.randomUUID().toString());
+        customProperty.setDomainLocation(new HashMap<>());
+        customProperty.setDomainLocationOrder(7);
+        customProperty.setType("STRING");
+        customProperty.setValue(new HashMap<>());
+        customProperty.setExampleValue(new HashMap<>());
+        customProperty.setDefaultValue(new HashMap<>());
+        customProperty.setMode("RW");
+        customProperty.setWorkflow("none");
+        document = entityMapper.toDocument(customProperty);
+    }
+
+    @Benchmark
+    public ODocument toDocumentGenerated() {
+        return entityMapper.toDocument(customProperty);
+    }
+
+    @Benchmark
+    public ODocument toDocumentHandWritten() {
+        ODocument document = new ODocument("CustomProperty");
+        document.field("uuid", customProperty.getUuid());
+        document.field("name", customProperty.getName());
+        document.field("description", customProperty.getDescription());
+        document.field("status", customProperty.getStatus());
+        document.field("createdBy", customProperty.getCreatedBy());
+        document.field("createdByDate", customProperty.getCreatedByDate());
+        document.field("updatedBy", customProperty.getUpdatedBy());
+        document.field("updatedByDate", customProperty.getUpdatedByDate());
+        document.field("updatedByRequest", customProperty.getUpdatedByRequest());
+        document.field("ownerUUID", customProperty.getOwnerUUID());
+        document.field("domainLocation", customProperty.getDomainLocation());
+        document.field("domainLocationOrder", customProperty.getDomainLocationOrder());
+        document.field("type", customProperty.getType());
+        document.field("value", customProperty.getValue());
+        document.field("exampleValue", customProperty.getExampleValue());
+        document.field("defaultValue", customProperty.getDefaultValue());
+        document.field("mode", customProperty.getMode());
+        document.field("workflow", customProperty.getWorkflow());
+        return document;
+    }
+
+    @Benchmark
+    public CustomProperty fromDocumentGenerated() {
+        return entityMapper.fromDocument(document, CustomProperty.class);
+    }
+
+    @Benchmark
+    public CustomProperty fromDocumentHandWritten() {
+        CustomProperty customProperty = new CustomProperty();
+        customProperty.setUuid(document.field("uuid"));
+        customProperty.setName(document.field("name"));
+        customProperty.setDescription(document.field("description"));
+        customProperty.setStatus(document.field("status"));
+        customProperty.setCreatedBy(document.field("createdBy"));
+        customProperty.setCreatedByDate(document.field("createdByDate"));
+        customProperty.setUpdatedBy(document.field("updatedBy"));
+        customProperty.setUpdatedByDate(document.field("updatedByDate"));
+        customProperty.setUpdatedByRequest(document.field("updatedByRequest"));
+        customProperty.setOwnerUUID(document.field("ownerUUID"));
+        customProperty.setDomainLocation(document.<Map<String, Object>>field("domainLocation"));
+        Integer domainLocationOrder = document.field("domainLocationOrder");
+        if (domainLocationOrder != null) {
+            customProperty.setDomainLocationOrder(domainLocationOrder);
+        }
+        customProperty.setType(document.field("type"));
+        customProperty.setValue(document.<Map<String, Object>>field("value"));
+        customProperty.setExampleValue(document.<Map<String, Object>>field("exampleValue"));
+        customProperty.setDefaultValue(document.<Map<String, Object>>field("defaultValue"));
+        customProperty.setMode(document.field("mode"));
+        customProperty.setWorkflow(document.field("workflow"));
+        return customProperty;
+    }
+
+    @Benchmark
+    public void readGenerated(Blackhole blackhole) {
+        for (Function<Object, Object> getter : getters) {
+            blackhole.consume(getter.apply(customProperty));
+        }
+    }
+
+    @Benchmark
+    public void readReflective(Blackhole blackhole) throws IllegalAccessException {
+        for (Field field : fields) {
+            blackhole.consume(field.get(customProperty));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(EntityMapperBenchmark.class.getSimpleName()).build()).run();
+    }
+}
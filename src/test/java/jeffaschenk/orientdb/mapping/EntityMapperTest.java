@@ -0,0 +1,107 @@
+package jeffaschenk.orientdb.mapping;
+
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.record.ORecordInternal;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import jeffaschenk.examples.model.entities.lwcf.CustomProperty;
+import jeffaschenk.orientdb.schema.OrientSchemaEnforcer;
+import jeffaschenk.orientdb.schema.ScannedModels;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+
+import static org.junit.Assert.*;
+
+/**
+ * EntityMapperTest
+ *
+ * Verifies Entity to Document Mapping driven by the Scanned Example Model, of Entities and
+ * of Lazy Links.
+ */
+public class EntityMapperTest {
+
+    private EntityMapper entityMapper;
+
+    @Before
+    public void scanExampleModel() {
+        entityMapper = new OrientEntityMapper(ScannedModels.scan(ScannedModels.EXAMPLE_MODEL));
+    }
+
+    @Test
+    public void testDocumentRoundTrip() {
+        CustomProperty customProperty = new CustomProperty();
+        customProperty.setName("color");
+        customProperty.setCreatedByDate(new Date());
+        customProperty.setDomainLocationOrder(7);
+        customProperty.setDomainLocation(new HashMap<>());
+        customProperty.setDomainLocationName("default");
+
+        ODocument document = entityMapper.toDocument(customProperty);
+        assertEquals("CustomProperty", document.getClassName());
+        assertNotNull(customProperty.getUuid());
+        assertEquals(customProperty.getUuid(), document.field("uuid"));
+        assertEquals("color", document.field("name"));
+        assertEquals(Integer.valueOf(7), document.field("domainLocationOrder"));
+
+        CustomProperty mapped = entityMapper.fromDocument(document, CustomProperty.class);
+        assertEquals(customProperty.getUuid(), mapped.getUuid());
+        assertEquals("color", mapped.getName());
+        assertEquals(customProperty.getCreatedByDate(), mapped.getCreatedByDate());
+        assertEquals(7, mapped.getDomainLocationOrder());
+        assertEquals("default", mapped.getDomainLocationName());
+    }
+
+    @Test
+    public void testLazyLinkRoundTrip() {
+        CustomProperty customProperty = new CustomProperty();
+        customProperty.setName("size");
+        customProperty.setDomainLocationOrder(3);
+        ODocument linked = entityMapper.toDocument(customProperty);
+        ORecordInternal.setIdentity(linked, new ORecordId(12, 3));
+
+        LinkBatch linkBatch = new LinkBatch((identities, fetchPlan) -> Collections.singletonList(linked), null, 100,
+                document -> entityMapper.fromDocument(document, CustomProperty.class));
+        linkBatch.register(linked.getIdentity());
+        CustomProperty link = (CustomProperty) LazyLinks.link(CustomProperty.class, linked.getIdentity(), linkBatch);
+        assertEquals("size", link.getName());
+        assertTrue(((LazyLink) link).isLinkResolved());
+        assertSame(entityMapper.getEntityMapping(CustomProperty.class), entityMapper.getEntityMapping(link.getClass()));
+
+        /**
+         * The Values of a Resolved Link are Read from its Linked Entity, not from the Proxy.
+         */
+        ODocument document = entityMapper.toDocument(link);
+        assertEquals("CustomProperty", document.getClassName());
+        assertEquals(customProperty.getUuid(), document.field("uuid"));
+        assertEquals("size", document.field("name"));
+        assertEquals(Integer.valueOf(3), document.field("domainLocationOrder"));
+    }
+
+    @Test
+    public void testMappingAfterScan() {
+        OrientSchemaEnforcer schemaEnforcer = ScannedModels.newSchemaEnforcer(
+                new MockEnvironment().withProperty("entity.package", ScannedModels.EXAMPLE_MODEL));
+        EntityMapper unscannedMapper = new OrientEntityMapper(schemaEnforcer);
+        assertFalse(schemaEnforcer.isSchemaScanned());
+        assertTrue(schemaEnforcer.getSchemaEntityDefinitions().isEmpty());
+        try {
+            unscannedMapper.getEntityMapping(CustomProperty.class);
+            fail("Mapped before the Domain Model was Scanned");
+        } catch (IllegalStateException expected) {
+            /**
+             * No Mapping is Cached until the Scan has Completed.
+             */
+        }
+        assertTrue(schemaEnforcer.scanSchema());
+        assertEquals("CustomProperty", unscannedMapper.getEntityMapping(CustomProperty.class).getClassName());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnmappedClass() {
+        entityMapper.getEntityMapping(String.class);
+    }
+}
@@ -0,0 +1,103 @@
+package jeffaschenk.orientdb.mapping;
+
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.record.ORecordInternal;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * LazyLinkTest
+ *
+ * Verifies Lazy Links are Loaded upon first use, together with their Siblings.
+ */
+public class LazyLinkTest {
+
+    public static class Target {
+
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    private final AtomicInteger queries = new AtomicInteger();
+
+    private LinkBatch newLinkBatch(int batchSize) {
+        LinkLoader linkLoader = (identities, fetchPlan) -> {
+            queries.incrementAndGet();
+            List<ODocument> documents = new ArrayList<>();
+            for (ORID identity : identities) {
+                if (identity.getClusterPosition() < 100) {
+                    ODocument document = new ODocument();
+                    ORecordInternal.setIdentity(document, new ORecordId(identity));
+                    document.field("name", identity.toString());
+                    documents.add(document);
+                }
+            }
+            return documents;
+        };
+        return new LinkBatch(linkLoader, null, batchSize, document -> {
+            Target target = new Target();
+            target.name = document.field("name");
+            return target;
+        });
+    }
+
+    @Test
+    public void testSiblingsLoadedTogether() {
+        LinkBatch linkBatch = newLinkBatch(100);
+        List<Target> links = new ArrayList<>();
+        for (int position = 0; position < 5; position++) {
+            ORID identity = new ORecordId(12, position);
+            linkBatch.register(identity);
+            links.add((Target) LazyLinks.link(Target.class, identity, linkBatch));
+        }
+        assertEquals(0, queries.get());
+        assertEquals(new ORecordId(12, 3), ((LazyLink) links.get(3)).getLinkIdentity());
+        assertFalse(((LazyLink) links.get(3)).isLinkResolved());
+
+        assertEquals("#12:0", links.get(0).getName());
+        assertEquals(1, queries.get());
+        for (Target link : links) {
+            assertTrue(((LazyLink) link).isLinkResolved());
+        }
+        assertEquals("#12:4", links.get(4).getName());
+        assertEquals(1, queries.get());
+    }
+
+    @Test
+    public void testLinkListOmitsMissingRecords() {
+        LinkBatch linkBatch = newLinkBatch(2);
+        List<ORID> identities = Arrays.asList(new ORecordId(12, 1), new ORecordId(12, 500), new ORecordId(12, 2));
+        identities.forEach(linkBatch::register);
+        LazyLinks.LazyLinkList links = new LazyLinks.LazyLinkList(new ArrayList<>(identities), linkBatch);
+        assertEquals(identities, links.toIdentities());
+        assertEquals(0, queries.get());
+
+        assertEquals(2, links.size());
+        assertEquals(2, queries.get());
+        assertEquals(Arrays.asList(new ORecordId(12, 1), new ORecordId(12, 2)), links.toIdentities());
+    }
+
+    @Test
+    public void testFetchedLinkResolvedWithoutQuery() {
+        LinkBatch linkBatch = newLinkBatch(100);
+        ODocument fetched = new ODocument();
+        ORecordInternal.setIdentity(fetched, new ORecordId(12, 7));
+        fetched.field("name", "fetched");
+        linkBatch.prefetch(fetched);
+        Target link = (Target) LazyLinks.link(Target.class, fetched.getIdentity(), linkBatch);
+
+        assertEquals("fetched", link.getName());
+        assertEquals(0, queries.get());
+    }
+}
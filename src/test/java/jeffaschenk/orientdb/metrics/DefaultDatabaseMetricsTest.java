@@ -0,0 +1,49 @@
+package jeffaschenk.orientdb.metrics;
+
+import jeffaschenk.orientdb.pool.DatabasePool;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * DefaultDatabaseMetricsTest
+ */
+public class DefaultDatabaseMetricsTest {
+
+    @Test
+    public void testMetricsByConnectionType() {
+        DefaultDatabaseMetrics metrics = new DefaultDatabaseMetrics();
+        DatabasePool pool = mock(DatabasePool.class);
+        when(pool.getLeasedCount()).thenReturn(3);
+        when(pool.getMaxSize()).thenReturn(4);
+        metrics.poolCreated(ConnectionType.READER, pool);
+
+        metrics.connectionAcquired(ConnectionType.READER, TimeUnit.MILLISECONDS.toNanos(3));
+        metrics.connectionAcquireFailed(ConnectionType.READER, TimeUnit.SECONDS.toNanos(30),
+                new IllegalStateException("Timed out"));
+        for (int i = 0; i < 99; i++) {
+            metrics.queryExecuted(ConnectionType.READER, "select from V", TimeUnit.MILLISECONDS.toNanos(4), false);
+        }
+        metrics.queryExecuted(ConnectionType.READER, "select from E", TimeUnit.MILLISECONDS.toNanos(700), true);
+
+        ConnectionMetrics reader = metrics.getConnectionMetrics(ConnectionType.READER);
+        assertEquals(0.75, reader.getUtilization(), 0.0001);
+        assertEquals(1, reader.getAcquireWait().getCount());
+        assertEquals(1, reader.getAcquireFailures());
+        assertEquals(100, reader.getQueryLatency().getCount());
+        assertEquals(1, reader.getQueryFailures());
+        assertEquals(5, reader.getQueryLatency().getPercentileMs(50));
+        assertEquals(5, reader.getQueryLatency().getPercentileMs(99));
+        assertEquals(1000, reader.getQueryLatency().getPercentileMs(100));
+        assertEquals(700.0, reader.getQueryLatency().getMaxMs(), 0.0001);
+
+        /**
+         * Other Connection Types are Unaffected.
+         */
+        assertEquals(0, metrics.getConnectionMetrics(ConnectionType.TX).getQueryLatency().getCount());
+        assertEquals(0.0, metrics.getConnectionMetrics(ConnectionType.TX).getUtilization(), 0.0);
+    }
+}
@@ -0,0 +1,160 @@
+package jeffaschenk.orientdb.pool;
+
+import com.orientechnologies.orient.core.db.ODatabaseListener;
+import com.orientechnologies.orient.core.db.OPartitionedDatabasePool;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * DocumentDatabasePoolTest
+ *
+ * Verifies Lease Accounting and Acquire Timeouts against a Mocked Partitioned Pool,
+ * and Lease Release upon an In-Memory Database.
+ */
+public class DocumentDatabasePoolTest {
+
+    private OPartitionedDatabasePool partitionedPool;
+
+    private ODatabaseDocumentTx db;
+
+    private DocumentDatabasePool pool;
+
+    @Before
+    public void mockPool() {
+        partitionedPool = mock(OPartitionedDatabasePool.class);
+        db = mock(ODatabaseDocumentTx.class);
+        when(partitionedPool.acquire()).thenReturn(db);
+        pool = new DocumentDatabasePool("test", "memory:test", () -> partitionedPool,
+                new PoolSettings(0, 1, 0, 100L, 0L, 0L));
+    }
+
+    @Test
+    public void testAcquireTimeoutAndRelease() throws Exception {
+        assertSame(db, pool.acquire());
+        assertEquals(1, pool.getLeasedCount());
+        assertEquals(0, pool.getAvailableCount());
+
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            Future<ODatabaseDocumentTx> timedOut = executorService.submit(pool::acquire);
+            try {
+                timedOut.get();
+                fail("Expected Acquire Timeout");
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof IllegalStateException);
+            }
+            /**
+             * Closing the Connection fires our Listener, releasing the Lease.
+             */
+            ArgumentCaptor<ODatabaseListener> listener = ArgumentCaptor.forClass(ODatabaseListener.class);
+            verify(db).registerListener(listener.capture());
+            listener.getValue().onClose(db);
+            assertEquals(0, pool.getLeasedCount());
+            assertSame(db, executorService.submit(pool::acquire).get());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testReentrantAcquire() {
+        pool.acquire();
+        pool.acquire();
+        assertEquals(1, pool.getLeasedCount());
+        verify(db, times(1)).registerListener(any(ODatabaseListener.class));
+    }
+
+    @Test
+    public void testResize() throws Exception {
+        pool.acquire();
+        pool.resize(0, 2);
+        assertEquals(2, pool.getMaxSize());
+        assertEquals(1, pool.getAvailableCount());
+        /**
+         * Shrinking below the Leased Count leaves no Connection Available until Released.
+         */
+        pool.resize(0, 1);
+        assertEquals(0, pool.getAvailableCount());
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            try {
+                executorService.submit(pool::acquire).get();
+                fail("Expected Acquire Timeout");
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof IllegalStateException);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        try {
+            pool.resize(2, 1);
+            fail("Expected Minimum greater than Maximum to be Rejected");
+        } catch (IllegalArgumentException e) {
+            assertEquals(1, pool.getMaxSize());
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testIdleEviction() throws Exception {
+        OPartitionedDatabasePool replacement = mock(OPartitionedDatabasePool.class);
+        when(partitionedPool.getCreatedInstances()).thenReturn(3);
+        Supplier<OPartitionedDatabasePool> poolFactory = mock(Supplier.class);
+        when(poolFactory.get()).thenReturn(partitionedPool, replacement);
+        DocumentDatabasePool idlePool = new DocumentDatabasePool("idle", "memory:test", poolFactory,
+                new PoolSettings(0, 4, 0, 100L, 1L, 0L));
+        /**
+         * Not Evicted while a Connection is Leased.
+         */
+        idlePool.acquire();
+        Thread.sleep(5);
+        idlePool.evictIdle();
+        verify(partitionedPool, never()).close();
+
+        ArgumentCaptor<ODatabaseListener> listener = ArgumentCaptor.forClass(ODatabaseListener.class);
+        verify(db).registerListener(listener.capture());
+        listener.getValue().onClose(db);
+        Thread.sleep(5);
+        idlePool.evictIdle();
+        verify(partitionedPool).close();
+        idlePool.close();
+        verify(replacement).close();
+    }
+
+    @Test
+    public void testCloseReleasesMemoryDatabaseConnection() {
+        ODatabaseDocumentTx memoryDb = new ODatabaseDocumentTx("memory:DocumentDatabasePoolTest");
+        memoryDb.create();
+        DocumentDatabasePool memoryPool = new DocumentDatabasePool("memory", memoryDb.getURL(), "admin", "admin",
+                new PoolSettings(0, 2, 0, 100L, 0L, 0L));
+        try {
+            memoryPool.warmUp(2);
+            assertEquals(0, memoryPool.getLeasedCount());
+            assertEquals(2, memoryPool.getAvailableCount());
+
+            ODatabaseDocumentTx connection = memoryPool.acquire();
+            assertFalse(connection.isClosed());
+            assertEquals(1, memoryPool.getLeasedCount());
+            /**
+             * Closing the Connection returns it to the Pool, our Listener releasing its Lease.
+             */
+            connection.close();
+            assertEquals(0, memoryPool.getLeasedCount());
+            assertEquals(2, memoryPool.getAvailableCount());
+            memoryPool.acquire().close();
+            assertEquals(0, memoryPool.getLeasedCount());
+        } finally {
+            memoryPool.close();
+            memoryDb.activateOnCurrentThread();
+            memoryDb.drop();
+        }
+    }
+}
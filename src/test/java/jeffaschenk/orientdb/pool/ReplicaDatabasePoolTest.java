@@ -0,0 +1,84 @@
+package jeffaschenk.orientdb.pool;
+
+import com.orientechnologies.orient.core.db.OPartitionedDatabasePool;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ReplicaDatabasePoolTest
+ *
+ * Verifies Round Robin, Fail Over and Health Checking across Mocked Replica Pools.
+ */
+public class ReplicaDatabasePoolTest {
+
+    private static final PoolSettings SETTINGS = new PoolSettings(0, 4, 0, 100L, 0L, 0L);
+
+    @Test
+    public void testRoundRobinAndFailOver() {
+        ODatabaseDocumentTx first = mock(ODatabaseDocumentTx.class);
+        ODatabaseDocumentTx second = mock(ODatabaseDocumentTx.class);
+        ODatabaseDocumentTx primaryDb = mock(ODatabaseDocumentTx.class);
+        OPartitionedDatabasePool firstPool = mockPartitionedPool(first);
+        OPartitionedDatabasePool secondPool = mockPartitionedPool(second);
+
+        DatabasePool primary = new DocumentDatabasePool("primary", "memory:primary",
+                () -> mockPartitionedPool(primaryDb), SETTINGS);
+        ReplicaDatabasePool pool = new ReplicaDatabasePool("reader", Arrays.asList(
+                new DocumentDatabasePool("reader@first", "memory:first", () -> firstPool, SETTINGS),
+                new DocumentDatabasePool("reader@second", "memory:second", () -> secondPool, SETTINGS)),
+                primary, 0L);
+
+        /**
+         * Leases alternate between Replicas, each upon its own Thread as a Thread holding
+         * a Replica stays upon it.
+         */
+        assertSame(first, acquireOnNewThread(pool));
+        assertSame(second, acquireOnNewThread(pool));
+
+        /**
+         * A failing Replica is taken out of Rotation.
+         */
+        when(firstPool.acquire()).thenThrow(new RuntimeException("Connection Refused"));
+        assertSame(second, acquireOnNewThread(pool));
+        assertSame(second, acquireOnNewThread(pool));
+        assertEquals(1, pool.getHealthyCount());
+
+        /**
+         * With no Replica available, Leases Fail Over to the Primary.
+         */
+        when(secondPool.acquire()).thenThrow(new RuntimeException("Connection Refused"));
+        assertSame(primaryDb, acquireOnNewThread(pool));
+        assertEquals(0, pool.getHealthyCount());
+
+        /**
+         * A Replica is returned to Rotation once its Health Check succeeds.
+         */
+        doReturn(first).when(firstPool).acquire();
+        pool.checkHealth();
+        assertEquals(1, pool.getHealthyCount());
+        assertSame(first, acquireOnNewThread(pool));
+    }
+
+    private static OPartitionedDatabasePool mockPartitionedPool(ODatabaseDocumentTx db) {
+        OPartitionedDatabasePool partitionedPool = mock(OPartitionedDatabasePool.class);
+        when(partitionedPool.acquire()).thenReturn(db);
+        return partitionedPool;
+    }
+
+    private static ODatabaseDocumentTx acquireOnNewThread(DatabasePool pool) {
+        ODatabaseDocumentTx[] acquired = new ODatabaseDocumentTx[1];
+        Thread thread = new Thread(() -> acquired[0] = pool.acquire());
+        thread.start();
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+        return acquired[0];
+    }
+}
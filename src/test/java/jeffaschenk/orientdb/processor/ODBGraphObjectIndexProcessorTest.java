@@ -0,0 +1,71 @@
+package jeffaschenk.orientdb.processor;
+
+import org.junit.Test;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * ODBGraphObjectIndexProcessorTest
+ *
+ * Compiles a small Model with the Processor and Verifies the generated Entity Index.
+ */
+public class ODBGraphObjectIndexProcessorTest {
+
+    @Test
+    public void testEntityIndexGenerated() throws Exception {
+        Path sourceRoot = Files.createTempDirectory("sources");
+        Path outputRoot = Files.createTempDirectory("classes");
+        Path packageRoot = Files.createDirectories(sourceRoot.resolve("model"));
+        Files.write(packageRoot.resolve("Root.java"), Arrays.asList(
+                "package model;",
+                "@jeffaschenk.orientdb.annotations.ODBGraphObject(rootClass = true)",
+                "public class Root {",
+                "    @jeffaschenk.orientdb.annotations.ODBGraphObject",
+                "    public static class Nested {}",
+                "}"));
+        Files.write(packageRoot.resolve("Derived.java"), Arrays.asList(
+                "package model;",
+                "public class Derived extends Root {}"));
+        Files.write(packageRoot.resolve("Composed.java"), Arrays.asList(
+                "package model;",
+                "@jeffaschenk.orientdb.annotations.ODBGraphObject",
+                "@java.lang.annotation.Retention(java.lang.annotation.RetentionPolicy.RUNTIME)",
+                "public @interface Composed {}"));
+        Files.write(packageRoot.resolve("ComposedEntity.java"), Arrays.asList(
+                "package model;",
+                "@Composed",
+                "public class ComposedEntity {}"));
+        Files.write(packageRoot.resolve("Plain.java"), Arrays.asList(
+                "package model;",
+                "public class Plain {}"));
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assertNotNull("A JDK is required", compiler);
+        ByteArrayOutputStream diagnostics = new ByteArrayOutputStream();
+        int result = compiler.run(null, null, diagnostics,
+                "-classpath", System.getProperty("java.class.path"),
+                "-processor", ODBGraphObjectIndexProcessor.class.getName(),
+                "-d", outputRoot.toString(),
+                packageRoot.resolve("Root.java").toString(),
+                packageRoot.resolve("Derived.java").toString(),
+                packageRoot.resolve("Composed.java").toString(),
+                packageRoot.resolve("ComposedEntity.java").toString(),
+                packageRoot.resolve("Plain.java").toString());
+        assertEquals(new String(diagnostics.toByteArray(), StandardCharsets.UTF_8), 0, result);
+
+        List<String> lines = Files.readAllLines(
+                outputRoot.resolve(ODBGraphObjectIndexProcessor.ENTITY_INDEX_RESOURCE), StandardCharsets.UTF_8);
+        assertTrue(lines.get(0).startsWith(ODBGraphObjectIndexProcessor.ENTITY_INDEX_COMMENT));
+        assertEquals(Arrays.asList("model.ComposedEntity", "model.Derived", "model.Root", "model.Root$Nested"),
+                lines.subList(1, lines.size()));
+    }
+}
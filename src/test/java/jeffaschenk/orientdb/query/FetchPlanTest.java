@@ -0,0 +1,142 @@
+package jeffaschenk.orientdb.query;
+
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.record.ORecordAbstract;
+import com.orientechnologies.orient.core.record.ORecordInternal;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import jeffaschenk.orientdb.OrientDataAccessFactory;
+import jeffaschenk.orientdb.metrics.DefaultDatabaseMetrics;
+import jeffaschenk.orientdb.schema.ScannedModels;
+import jeffaschenk.orientdb.schema.SchemaEnforcer;
+import jeffaschenk.orientdb.schema.SchemaEntity;
+import jeffaschenk.orientdb.schema.cyclic.Address;
+import jeffaschenk.orientdb.schema.cyclic.Invoice;
+import jeffaschenk.orientdb.schema.cyclic.Party;
+import jeffaschenk.orientdb.schema.cyclic.Person;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * FetchPlanTest
+ *
+ * Verifies Fetch Plans Compiled from the Cyclic Test Model, and the Records they Attach upon
+ * an In-Memory Database.
+ */
+public class FetchPlanTest {
+
+    private static final String DB_URL = "memory:FetchPlanTest";
+
+    private SchemaEnforcer schemaEnforcer;
+
+    private List<SchemaEntity> schemaEntities;
+
+    @Before
+    public void scanCyclicModel() {
+        schemaEnforcer = ScannedModels.scan(ScannedModels.CYCLIC_MODEL);
+        schemaEntities = schemaEnforcer.getSchemaEntityDefinitions();
+    }
+
+    private FetchPlan compile(Class<?> entityClass) {
+        for (SchemaEntity schemaEntity : schemaEntities) {
+            if (schemaEntity.getEntityClass() == entityClass) {
+                return FetchPlan.compile(schemaEntity, schemaEntities);
+            }
+        }
+        throw new AssertionError("Not Scanned: " + entityClass);
+    }
+
+    @Test
+    public void testCompiledPlans() {
+        assertEquals("*:0 party:2", compile(Address.class).toPlanString());
+        assertEquals("*:0 address:1", compile(Party.class).toPlanString());
+        /**
+         * Associations of the SuperClass are Fetched for the SubClass.
+         */
+        assertEquals("*:0 address:1", compile(Person.class).toPlanString());
+
+        FetchPlan invoicePlan = compile(Invoice.class);
+        assertTrue(invoicePlan.isEmpty());
+        assertNull(invoicePlan.toPlanString());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testFetchPlanBeforeScan() {
+        OrientDataAccessFactory dataAccessFactory = new OrientDataAccessFactory();
+        ReflectionTestUtils.setField(dataAccessFactory, "schemaEnforcer",
+                ScannedModels.newSchemaEnforcer(new MockEnvironment()));
+        dataAccessFactory.getFetchPlan(Address.class);
+    }
+
+    @Test
+    public void testRunQueryAttachesDeserializedRecords() {
+        ODatabaseDocumentTx db = new ODatabaseDocumentTx(DB_URL).create();
+        try {
+            ODocument home = new ODocument("Address").field("city", "Springfield");
+            db.save(home);
+            ODocument party = new ODocument("Party").field("name", "acme").field("address", home);
+            db.save(party);
+            db.save(new ODocument("Address").field("city", "Shelbyville").field("party", party));
+            db.getLocalCache().clear();
+            db.close();
+
+            /**
+             * Query through the Data Access Factory, upon a Reader of the In-Memory Database whose
+             * Local Cache holds the Linked Records Serialized, as Fetched from a Remote Server.
+             */
+            List<ORID> fetched = Arrays.asList(party.getIdentity(), home.getIdentity());
+            OrientDataAccessFactory dataAccessFactory = new OrientDataAccessFactory() {
+                @Override
+                public ODatabaseDocumentTx getReader() {
+                    ODatabaseDocumentTx reader = new ODatabaseDocumentTx(DB_URL).open("admin", "admin");
+                    for (ORID identity : fetched) {
+                        ODocument record = reader.load(identity);
+                        ODocument serialized = new ODocument();
+                        ORecordInternal.fill(serialized, identity, record.getVersion(), record.toStream(), false);
+                        reader.getLocalCache().updateRecord(serialized);
+                    }
+                    return reader;
+                }
+            };
+            ReflectionTestUtils.setField(dataAccessFactory, "schemaEnforcer", schemaEnforcer);
+            ReflectionTestUtils.setField(dataAccessFactory, "databaseMetrics", new DefaultDatabaseMetrics());
+            List<ODocument> results = dataAccessFactory.runQuery("SELECT FROM Address WHERE party IS NOT NULL",
+                    Address.class);
+
+            /**
+             * The Result and the Records Attached to it were Deserialized before the Connection was Released.
+             */
+            ODatabaseRecordThreadLocal.INSTANCE.remove();
+            assertEquals(1, results.size());
+            ODocument attachedParty = results.get(0).rawField("party");
+            ODocument attachedHome = attachedParty.rawField("address");
+            for (ODocument document : Arrays.asList(results.get(0), attachedParty, attachedHome)) {
+                assertFalse(isSerialized(document));
+            }
+            assertEquals("Shelbyville", results.get(0).field("city"));
+            assertEquals("acme", attachedParty.field("name"));
+            assertEquals("Springfield", attachedHome.field("city"));
+        } finally {
+            new ODatabaseDocumentTx(DB_URL).open("admin", "admin").drop();
+        }
+    }
+
+    /**
+     * Determine if a Record still holds its Serialized Form, without Deserializing it.
+     */
+    private static boolean isSerialized(ODocument document) {
+        Field source = ReflectionUtils.findField(ORecordAbstract.class, "_source");
+        ReflectionUtils.makeAccessible(source);
+        return ReflectionUtils.getField(source, document) != null;
+    }
+}
@@ -0,0 +1,69 @@
+package jeffaschenk.orientdb.query;
+
+import jeffaschenk.orientdb.query.IndexAdvisorReport.Finding;
+import jeffaschenk.orientdb.query.IndexAdvisorReport.Kind;
+import jeffaschenk.orientdb.schema.ScannedModels;
+import jeffaschenk.orientdb.schema.SchemaEntity;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * IndexAdvisorTest
+ *
+ * Verifies Query Shapes and the Index Advice against the Example Model.
+ */
+public class IndexAdvisorTest {
+
+    private List<SchemaEntity> schemaEntities;
+
+    @Before
+    public void scanExampleModel() {
+        schemaEntities = ScannedModels.scan(ScannedModels.EXAMPLE_MODEL).getSchemaEntityDefinitions();
+    }
+
+    @Test
+    public void testQueryShape() {
+        QueryShape shape = QueryShape.parse("select name from CustomProperty where ownerUUID = 'a = b' " +
+                "and createdByDate >= ? and owner.name = 'x' order by name desc limit 10");
+        assertEquals("CustomProperty", shape.getClassName());
+        assertEquals(Collections.singletonList("ownerUUID"), shape.getEqualityFields());
+        assertEquals(Collections.singletonList("createdByDate"), shape.getRangeFields());
+        assertEquals(Collections.singletonList("name"), shape.getOrderByFields());
+        assertEquals(shape, QueryShape.parse("SELECT FROM CustomProperty WHERE ownerUUID = \"c\" " +
+                "AND createdByDate >= 1 AND owner.name = 'y' ORDER BY name"));
+        assertNull(QueryShape.parse("SELECT FROM #12:1"));
+        assertNull(QueryShape.parse("UPDATE CustomProperty SET name = 'x'"));
+    }
+
+    @Test
+    public void testIndexAdvice() {
+        IndexAdvisor indexAdvisor = new IndexAdvisor();
+        indexAdvisor.record("SELECT FROM CustomProperty WHERE name = 'n' AND createdByDate > '2016-01-01'", 3000000L);
+        indexAdvisor.record("SELECT FROM CustomProperty WHERE uuid = 'u'", 1000000L);
+        IndexAdvisorReport report = indexAdvisor.report(schemaEntities);
+        assertEquals(2, report.getQueriesObserved());
+
+        /**
+         * The SuperClass Index serves the Query by Identifier.
+         */
+        List<Finding> missing = report.getFindings(Kind.MISSING);
+        assertEquals(1, missing.size());
+        assertEquals("CustomProperty.name_createdByDate", missing.get(0).getIndexName());
+        assertEquals(3, missing.get(0).getTotalMs());
+        assertEquals("@ODBIndex(name = \"CustomProperty.name_createdByDate\", type = ODBIndex.IndexType.NOTEUNIQUE, " +
+                "engineType = ODBIndex.EngineType.SBTREE, properties = {\"name\", \"createdByDate\"})",
+                missing.get(0).getAnnotation());
+        List<Finding> unused = report.getFindings(Kind.UNUSED);
+        assertEquals(1, unused.size());
+        assertEquals("CustomProperty.ownerUUID", unused.get(0).getIndexName());
+
+        indexAdvisor.record("SELECT FROM CustomProperty WHERE ownerUUID = 'o'", 1000000L);
+        assertTrue(indexAdvisor.report(schemaEntities).getFindings(Kind.UNUSED).isEmpty());
+        assertTrue(indexAdvisor.report(schemaEntities).getFindings(Kind.REDUNDANT).isEmpty());
+    }
+}
@@ -0,0 +1,107 @@
+package jeffaschenk.orientdb.query;
+
+import com.orientechnologies.orient.core.command.OCommandRequest;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.query.OSQLAsynchQuery;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * StreamingQueryTest
+ *
+ * Verifies Streaming, Back-Pressure and Connection Release against a Mocked Connection.
+ */
+public class StreamingQueryTest {
+
+    private static final int RESULT_SIZE = 50;
+
+    private ExecutorService executorService;
+
+    private ODatabaseDocumentTx db;
+
+    private AtomicInteger produced;
+
+    @Before
+    public void mockConnection() {
+        executorService = Executors.newCachedThreadPool();
+        produced = new AtomicInteger();
+        db = mock(ODatabaseDocumentTx.class);
+        doAnswer(invocation -> {
+            OSQLAsynchQuery<?> query = (OSQLAsynchQuery<?>) invocation.getArguments()[0];
+            OCommandRequest request = mock(OCommandRequest.class);
+            when(request.execute()).thenAnswer(execution -> {
+                for (int i = 0; i < RESULT_SIZE; i++) {
+                    produced.incrementAndGet();
+                    if (!query.getResultListener().result(new ODocument().field("ordinal", i))) {
+                        break;
+                    }
+                }
+                query.getResultListener().end();
+                return null;
+            });
+            return request;
+        }).when(db).command(any(OCommandRequest.class));
+    }
+
+    @After
+    public void shutdown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void testStreamFullResult() {
+        try (Stream<ODocument> documents =
+                     new StreamingQuery("select from V", 4, () -> db, executorService).stream()) {
+            List<Integer> ordinals = documents.map(document -> (Integer) document.field("ordinal"))
+                    .collect(Collectors.toList());
+            assertEquals(RESULT_SIZE, ordinals.size());
+            assertEquals(Integer.valueOf(0), ordinals.get(0));
+            assertEquals(Integer.valueOf(RESULT_SIZE - 1), ordinals.get(RESULT_SIZE - 1));
+        }
+        verify(db).close();
+    }
+
+    @Test
+    public void testCompletionRecorded() throws Exception {
+        CompletableFuture<Boolean> completion = new CompletableFuture<>();
+        try (Stream<ODocument> documents = new StreamingQuery("select from V", 4, () -> db, executorService,
+                (connection, query, durationNanos, failed) -> {
+                    assertSame(db, connection);
+                    assertEquals("select from V", query);
+                    assertTrue(durationNanos > 0);
+                    completion.complete(failed);
+                }).stream()) {
+            assertEquals(RESULT_SIZE, documents.count());
+        }
+        assertFalse(completion.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testCloseBeforeFullyConsumed() {
+        StreamingQuery streamingQuery = new StreamingQuery("select from V", 4, () -> db, executorService);
+        assertTrue(streamingQuery.hasNext());
+        assertEquals(Integer.valueOf(0), streamingQuery.next().field("ordinal"));
+        streamingQuery.close();
+        /**
+         * Worker is held back by the Batch Size, and has Closed its Connection.
+         */
+        assertTrue(produced.get() < RESULT_SIZE);
+        verify(db).close();
+        assertFalse(streamingQuery.hasNext());
+    }
+}
@@ -0,0 +1,81 @@
+package jeffaschenk.orientdb.schema;
+
+import com.orientechnologies.orient.core.metadata.schema.OSchema;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * DependencyGraphTest
+ *
+ * Verifies the Dependency Order of a Model whose Classes Link to each other in a Cycle.
+ */
+public class DependencyGraphTest {
+
+    @Test
+    public void testCyclicModel() {
+        List<SchemaEntity> schemaEntities = ScannedModels.scan(ScannedModels.CYCLIC_MODEL).getSchemaEntityDefinitions();
+
+        DependencyGraph dependencyGraph = new DependencyGraph(schemaEntities);
+        assertEquals(Collections.singletonList(Arrays.asList("Address", "Party")), dependencyGraph.getCycles());
+        assertFalse(dependencyGraph.isAcyclic());
+        assertEquals(Collections.singletonList("Party"), dependencyGraph.getDependencies("Person"));
+        assertEquals(1, dependencyGraph.getComponents().size());
+
+        /**
+         * The Cycle is Broken at the first Class, each other Class follows its Dependencies.
+         */
+        assertEquals(Arrays.asList("Address", "Party", "Person", "Invoice"), names(schemaEntities));
+        assertEquals(Integer.valueOf(2), schemaEntities.get(2).getDependencyWeight());
+
+        /**
+         * With a Cycle, Associations are Planned once all Classes have been Planned.
+         */
+        List<String> changes = new ArrayList<>();
+        for (SchemaChange schemaChange : new SchemaDiff(mock(OSchema.class)).diffSchema(schemaEntities).getChanges()) {
+            changes.add(schemaChange.toString());
+        }
+        assertTrue(changes.indexOf("CREATE CLASS Party") < changes.indexOf("CREATE PROPERTY Address.party LINK"));
+        assertTrue(changes.indexOf("CREATE CLASS Invoice") < changes.indexOf("CREATE PROPERTY Address.party LINK"));
+    }
+
+    @Test
+    public void testComponents() {
+        SchemaEntity first = new SchemaEntity(1, "First", String.class);
+        SchemaEntity second = new SchemaEntity(2, "Second", Integer.class);
+        SchemaEntity third = new SchemaEntity(3, "Third", Long.class);
+        for (SchemaEntity schemaEntity : Arrays.asList(first, second, third)) {
+            schemaEntity.setMappedEntity(true);
+        }
+        third.getInheritanceChain().add(String.class);
+        DependencyGraph dependencyGraph = new DependencyGraph(Arrays.asList(first, second, third));
+        assertTrue(dependencyGraph.isAcyclic());
+        assertEquals(Arrays.asList(Arrays.asList("String", "Long"), Collections.singletonList("Integer")),
+                dependencyGraph.getComponents());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testInheritanceCycle() {
+        SchemaEntity first = new SchemaEntity(1, "First", String.class);
+        SchemaEntity second = new SchemaEntity(2, "Second", Integer.class);
+        first.setMappedEntity(true);
+        second.setMappedEntity(true);
+        first.getInheritanceChain().add(Integer.class);
+        second.getInheritanceChain().add(String.class);
+        new DependencyGraph(Arrays.asList(first, second)).sort();
+    }
+
+    private static List<String> names(List<SchemaEntity> schemaEntities) {
+        List<String> names = new ArrayList<>();
+        for (SchemaEntity schemaEntity : schemaEntities) {
+            names.add(schemaEntity.resolveName());
+        }
+        return names;
+    }
+}
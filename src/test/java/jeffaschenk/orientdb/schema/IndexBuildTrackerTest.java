@@ -0,0 +1,57 @@
+package jeffaschenk.orientdb.schema;
+
+import jeffaschenk.orientdb.schema.IndexBuildTracker.State;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.Assert.*;
+
+/**
+ * IndexBuildTrackerTest
+ *
+ * Verifies the Progress of Online Index Builds.
+ */
+public class IndexBuildTrackerTest {
+
+    @Test
+    public void testBuilds() throws Exception {
+        IndexBuildTracker tracker = new IndexBuildTracker();
+        tracker.submit("Person.name");
+        tracker.submit("Person.email");
+        CompletableFuture<Void> nameReady = tracker.whenReady("Person.name");
+        CompletableFuture<Void> allReady = tracker.whenAllReady();
+        assertEquals(2, tracker.getOutstandingCount());
+        assertFalse(tracker.isUsable("Person.name"));
+        /**
+         * Indexes not Tracked were Built during the Bootstrap.
+         */
+        assertTrue(tracker.isUsable("Person.id"));
+        assertTrue(tracker.whenReady("Person.id").isDone());
+
+        tracker.markBuilding("Person.name");
+        assertEquals(State.BUILDING, tracker.getState("Person.name"));
+        tracker.markReady("Person.name");
+        assertTrue(nameReady.isDone());
+        assertTrue(tracker.isUsable("Person.name"));
+        assertFalse(allReady.isDone());
+
+        tracker.markBuilding("Person.email");
+        tracker.markFailed("Person.email", new IllegalStateException("Duplicate Key"));
+        assertEquals(State.FAILED, tracker.getState("Person.email"));
+        assertEquals("Duplicate Key", tracker.getFailure("Person.email"));
+        assertEquals(1, tracker.getOutstandingCount());
+        try {
+            allReady.get();
+            fail("Expected the Build Failure");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUntracked() {
+        new IndexBuildTracker().markReady("Person.name");
+    }
+}
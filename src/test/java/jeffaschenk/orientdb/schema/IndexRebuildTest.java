@@ -0,0 +1,139 @@
+package jeffaschenk.orientdb.schema;
+
+import com.orientechnologies.orient.core.command.OCommandRequest;
+import com.orientechnologies.orient.core.command.OCommandRequestText;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * IndexRebuildTest
+ *
+ * Verifies Phase 3 Index Tasks and the Index Rebuild, using Mocked Connections which Record each
+ * Command Issued upon them.
+ */
+public class IndexRebuildTest {
+
+    private final OrientSchemaEnforcer schemaEnforcer = new OrientSchemaEnforcer();
+
+    private final Map<String, ODatabaseDocumentTx> commands = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    private final List<ODatabaseDocumentTx> workers = Collections.synchronizedList(new ArrayList<>());
+
+    private ODatabaseDocumentTx db;
+
+    @Before
+    public void createIndexes() {
+        db = recordingConnection();
+        @SuppressWarnings("unchecked")
+        Queue<String> indicesCreated =
+                (Queue<String>) ReflectionTestUtils.getField(schemaEnforcer, "INDICES_CREATED");
+        indicesCreated.addAll(Arrays.asList("Party.name", "Party.code", "Address.zip"));
+        schemaEnforcer.setConnectionSupplier(() -> {
+            ODatabaseDocumentTx workerDb = recordingConnection();
+            workers.add(workerDb);
+            return workerDb;
+        });
+    }
+
+    @Test
+    public void testRebuildTargetsCreatedIndexes() {
+        withIndexParallelism(2);
+        assertTrue(schemaEnforcer.reBuildIndexes(db));
+
+        /**
+         * Only the Indexes Created are Rebuilt, each upon a Worker Connection.
+         */
+        assertEquals(new HashSet<>(Arrays.asList("REBUILD INDEX Party.name", "REBUILD INDEX Party.code",
+                "REBUILD INDEX Address.zip")), commands.keySet());
+        assertFalse(commands.containsKey("REBUILD INDEX *"));
+        assertEquals(3, workers.size());
+        assertFalse(commands.containsValue(db));
+        verify(db).activateOnCurrentThread();
+    }
+
+    @Test
+    public void testRebuildSerialFallback() {
+        withIndexParallelism(1);
+        assertTrue(schemaEnforcer.reBuildIndexes(db));
+
+        /**
+         * At a Parallelism of one, every Rebuild is Issued in Order upon the Caller's Connection.
+         */
+        assertEquals(Arrays.asList("REBUILD INDEX Party.name", "REBUILD INDEX Party.code",
+                "REBUILD INDEX Address.zip"), new ArrayList<>(commands.keySet()));
+        assertTrue(workers.isEmpty());
+        for (ODatabaseDocumentTx connection : commands.values()) {
+            assertSame(db, connection);
+        }
+    }
+
+    @Test
+    public void testIssueCountWhenWorkerThrows() {
+        withIndexParallelism(2);
+        List<String> items = Arrays.asList("Party.name", "Party.code", "Address.zip", "Address.city");
+
+        /**
+         * A Failing Task is counted once, the remaining Tasks still Complete.
+         */
+        AtomicInteger completed = new AtomicInteger();
+        assertEquals(1, schemaEnforcer.runIndexTasks(db, items, item -> item, "Definition",
+                (workerDb, item) -> {
+                    if (item.equals("Party.code")) {
+                        throw new IllegalStateException("Unable to Create Index: " + item);
+                    }
+                    completed.incrementAndGet();
+                }));
+        assertEquals(3, completed.get());
+
+        /**
+         * A Worker which cannot obtain its Connection is counted as well.
+         */
+        AtomicInteger suppliedConnections = new AtomicInteger();
+        schemaEnforcer.setConnectionSupplier(() -> {
+            if (suppliedConnections.incrementAndGet() == 2) {
+                throw new IllegalStateException("Connection Pool Exhausted");
+            }
+            return recordingConnection();
+        });
+        assertEquals(1, schemaEnforcer.runIndexTasks(db, items, item -> item, "Definition",
+                (workerDb, item) -> { }));
+
+        /**
+         * A Rebuild whose Command Fails is Reported as not Rebuilt.
+         */
+        schemaEnforcer.setConnectionSupplier(() -> {
+            ODatabaseDocumentTx workerDb = recordingConnection();
+            doThrow(new IllegalStateException("Rebuild Failed")).when(workerDb).command(any(OCommandRequest.class));
+            return workerDb;
+        });
+        assertFalse(schemaEnforcer.reBuildIndexes(db));
+    }
+
+    private void withIndexParallelism(int parallelism) {
+        ReflectionTestUtils.setField(schemaEnforcer, "environment",
+                new MockEnvironment().withProperty("schema.index.parallelism", String.valueOf(parallelism)));
+    }
+
+    /**
+     * Mock a Connection which Records the Text of each Command Issued upon it.
+     */
+    private ODatabaseDocumentTx recordingConnection() {
+        ODatabaseDocumentTx connection = mock(ODatabaseDocumentTx.class, RETURNS_DEEP_STUBS);
+        when(connection.command(any(OCommandRequest.class))).thenAnswer(invocation -> {
+            OCommandRequestText command = (OCommandRequestText) invocation.getArguments()[0];
+            commands.put(command.getText(), connection);
+            return mock(OCommandRequest.class);
+        });
+        return connection;
+    }
+}
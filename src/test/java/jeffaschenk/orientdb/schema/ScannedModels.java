@@ -0,0 +1,61 @@
+package jeffaschenk.orientdb.schema;
+
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * ScannedModels
+ *
+ * Scans the Test Models with a Schema Enforcer outside of a Spring Context.
+ */
+public final class ScannedModels {
+
+    /**
+     * Example Model, without Cycles.
+     */
+    public static final String EXAMPLE_MODEL = "jeffaschenk.examples.model";
+
+    /**
+     * Model whose Classes Link to each other in a Cycle.
+     */
+    public static final String CYCLIC_MODEL = "jeffaschenk.orientdb.schema.cyclic";
+
+    private ScannedModels() {
+    }
+
+    /**
+     * Scan the Entity Package.
+     *
+     * @param entityPackage Entity Package
+     * @return OrientSchemaEnforcer having Scanned the Package.
+     */
+    public static OrientSchemaEnforcer scan(String entityPackage) {
+        return scan(new MockEnvironment().withProperty("entity.package", entityPackage));
+    }
+
+    /**
+     * Scan with the Environment, which names the Entity Package.
+     *
+     * @param environment Environment
+     * @return OrientSchemaEnforcer having Scanned the Package.
+     */
+    public static OrientSchemaEnforcer scan(MockEnvironment environment) {
+        OrientSchemaEnforcer schemaEnforcer = newSchemaEnforcer(environment);
+        assertTrue(schemaEnforcer.scanSchema());
+        return schemaEnforcer;
+    }
+
+    /**
+     * Create a Schema Enforcer with the Environment, without Scanning.
+     *
+     * @param environment Environment
+     * @return OrientSchemaEnforcer
+     */
+    public static OrientSchemaEnforcer newSchemaEnforcer(MockEnvironment environment) {
+        OrientSchemaEnforcer schemaEnforcer = new OrientSchemaEnforcer();
+        ReflectionTestUtils.setField(schemaEnforcer, "environment", environment);
+        return schemaEnforcer;
+    }
+}
@@ -0,0 +1,149 @@
+package jeffaschenk.orientdb.schema;
+
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.metadata.schema.OSchema;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+
+/**
+ * SchemaApplyTest
+ *
+ * Verifies Phase 2 Schema Changes are Applied across the Independent Components of the Domain Model,
+ * Recording each Change with the Connection it was Applied upon in place of Applying it.
+ */
+public class SchemaApplyTest {
+
+    /**
+     * Records each Change with its Connection, Failing the Changes of one Class.
+     */
+    private static class RecordingSchemaEnforcer extends OrientSchemaEnforcer {
+
+        private final List<SchemaChange> changes = Collections.synchronizedList(new ArrayList<>());
+
+        private final Map<SchemaChange, ODatabaseDocumentTx> connections = Collections.synchronizedMap(new HashMap<>());
+
+        private String failingClassName;
+
+        @Override
+        protected void applySchemaChange(MigrationHelpers helpers, ODatabaseDocumentTx db, OSchema schema,
+                                         SchemaChange schemaChange) {
+            changes.add(schemaChange);
+            connections.put(schemaChange, db);
+            if (schemaChange.getClassName().equals(failingClassName)) {
+                throw new IllegalArgumentException("Unable to Apply: " + schemaChange);
+            }
+        }
+    }
+
+    private final ODatabaseDocumentTx db = mock(ODatabaseDocumentTx.class, RETURNS_DEEP_STUBS);
+
+    private RecordingSchemaEnforcer schemaEnforcer;
+
+    private final SchemaChange sharedClass = SchemaChange.createClass("V");
+    private final SchemaChange stringClass = SchemaChange.createClass("String");
+    private final SchemaChange integerClass = SchemaChange.createClass("Integer");
+    private final SchemaChange longClass = SchemaChange.createClass("Long");
+    private final SchemaChange stringProperty = SchemaChange.createProperty("String", "name", OType.STRING);
+    private final SchemaChange longProperty = SchemaChange.createProperty("Long", "count", OType.LONG);
+    private final SchemaChange integerProperty = SchemaChange.createProperty("Integer", "size", OType.INTEGER);
+
+    /**
+     * Components, [String, Long] and [Integer], with Changes Interleaved in Plan Order.
+     */
+    private final List<SchemaChange> plan = Arrays.asList(stringClass, integerClass, sharedClass, longClass,
+            integerProperty, stringProperty, longProperty);
+
+    @Before
+    public void defineModel() {
+        schemaEnforcer = new RecordingSchemaEnforcer();
+        ReflectionTestUtils.setField(schemaEnforcer, "environment",
+                new MockEnvironment().withProperty("schema.validation.parallelism", "2"));
+        SchemaEntity first = new SchemaEntity(1, "First", String.class);
+        SchemaEntity second = new SchemaEntity(2, "Second", Integer.class);
+        SchemaEntity third = new SchemaEntity(3, "Third", Long.class);
+        for (SchemaEntity schemaEntity : Arrays.asList(first, second, third)) {
+            schemaEntity.setMappedEntity(true);
+        }
+        third.getInheritanceChain().add(String.class);
+        @SuppressWarnings("unchecked")
+        List<SchemaEntity> definitions =
+                (List<SchemaEntity>) ReflectionTestUtils.getField(schemaEnforcer, "SCHEMA_ENTITY_DEFINITIONS");
+        definitions.addAll(Arrays.asList(first, second, third));
+    }
+
+    @Test
+    public void testComponentsAppliedInParallel() {
+        schemaEnforcer.setConnectionSupplier(() -> mock(ODatabaseDocumentTx.class, RETURNS_DEEP_STUBS));
+        schemaEnforcer.applySchemaChanges(null, db, null, plan);
+
+        /**
+         * Changes outside the Domain Model are Applied first, upon the Caller's Connection.
+         */
+        assertEquals(plan.size(), schemaEnforcer.changes.size());
+        assertSame(sharedClass, schemaEnforcer.changes.get(0));
+        assertSame(db, schemaEnforcer.connections.get(sharedClass));
+
+        /**
+         * Each Component keeps Plan Order upon a Connection of its own.
+         */
+        assertEquals(Arrays.asList(stringClass, longClass, stringProperty, longProperty),
+                appliedOf("String", "Long"));
+        assertEquals(Arrays.asList(integerClass, integerProperty), appliedOf("Integer"));
+        ODatabaseDocumentTx stringConnection = schemaEnforcer.connections.get(stringClass);
+        ODatabaseDocumentTx integerConnection = schemaEnforcer.connections.get(integerClass);
+        assertNotSame(db, stringConnection);
+        assertNotSame(db, integerConnection);
+        assertNotSame(stringConnection, integerConnection);
+        assertSame(stringConnection, schemaEnforcer.connections.get(longProperty));
+        assertSame(integerConnection, schemaEnforcer.connections.get(integerProperty));
+    }
+
+    @Test
+    public void testComponentFailure() {
+        schemaEnforcer.setConnectionSupplier(() -> mock(ODatabaseDocumentTx.class, RETURNS_DEEP_STUBS));
+        schemaEnforcer.failingClassName = "Integer";
+        try {
+            schemaEnforcer.applySchemaChanges(null, db, null, plan);
+            fail("Failure of the Integer Component was not Raised");
+        } catch (IllegalStateException e) {
+            assertTrue(e.getMessage(), e.getMessage().endsWith("[Integer]"));
+            assertTrue(e.getCause() instanceof IllegalArgumentException);
+        }
+        /**
+         * The Failed Component stops at its first Change, the other Component is Applied.
+         */
+        assertEquals(Collections.singletonList(integerClass), appliedOf("Integer"));
+        assertEquals(4, appliedOf("String", "Long").size());
+    }
+
+    @Test
+    public void testSerialWithoutConnectionSupplier() {
+        schemaEnforcer.applySchemaChanges(null, db, null, plan);
+        assertEquals(plan, schemaEnforcer.changes);
+        for (SchemaChange schemaChange : plan) {
+            assertSame(db, schemaEnforcer.connections.get(schemaChange));
+        }
+    }
+
+    private List<SchemaChange> appliedOf(String... classNames) {
+        List<String> names = Arrays.asList(classNames);
+        List<SchemaChange> applied = new ArrayList<>();
+        synchronized (schemaEnforcer.changes) {
+            for (SchemaChange schemaChange : schemaEnforcer.changes) {
+                if (names.contains(schemaChange.getClassName())) {
+                    applied.add(schemaChange);
+                }
+            }
+        }
+        return applied;
+    }
+}
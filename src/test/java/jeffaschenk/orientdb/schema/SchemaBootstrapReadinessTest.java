@@ -0,0 +1,65 @@
+package jeffaschenk.orientdb.schema;
+
+import jeffaschenk.orientdb.schema.SchemaBootstrapReport.Phase;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.Assert.*;
+
+/**
+ * SchemaBootstrapReadinessTest
+ *
+ * Verifies the Readiness Signals of the Schema Bootstrap.
+ */
+public class SchemaBootstrapReadinessTest {
+
+    @Test
+    public void testReadiness() throws Exception {
+        SchemaBootstrapReadiness readiness = new SchemaBootstrapReadiness();
+        CompletableFuture<Void> readReady = readiness.whenReadReady();
+        CompletableFuture<Void> ready = readiness.whenReady();
+        readiness.completePhase(Phase.SCAN, true);
+        readiness.completePhase(Phase.FINGERPRINT_CHECK, false);
+        readiness.completePhase(Phase.SCHEMA_VALIDATION, true);
+        assertFalse(readReady.isDone());
+
+        /**
+         * Read Paths Open while Index Phases are still Pending.
+         */
+        readiness.markReadReady();
+        assertTrue(readReady.isDone());
+        assertTrue(readiness.isReadReady());
+        assertFalse(ready.isDone());
+        assertFalse(readiness.whenPhaseComplete(Phase.INDEX_VALIDATION).isDone());
+
+        /**
+         * Callers cannot complete the Readiness.
+         */
+        ready.complete(null);
+        assertFalse(readiness.isReady());
+
+        readiness.completePhase(Phase.INDEX_VALIDATION, false);
+        readiness.markReady();
+        assertTrue(readiness.isReady());
+        assertFalse(readiness.whenPhaseComplete(Phase.INDEX_VALIDATION).get());
+        assertTrue(readiness.whenPhaseComplete(Phase.SCHEMA_VALIDATION).get());
+    }
+
+    @Test
+    public void testFailure() throws Exception {
+        SchemaBootstrapReadiness readiness = new SchemaBootstrapReadiness();
+        readiness.completePhase(Phase.SCAN, true);
+        readiness.fail(new IllegalStateException("Schema Validation Failed"));
+        assertTrue(readiness.isFailed());
+        assertFalse(readiness.isReadReady());
+        assertTrue(readiness.whenPhaseComplete(Phase.SCAN).get());
+        try {
+            readiness.whenReadReady().get();
+            fail("Expected the Bootstrap Failure");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+    }
+}
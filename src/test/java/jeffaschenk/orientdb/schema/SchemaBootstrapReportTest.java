@@ -0,0 +1,48 @@
+package jeffaschenk.orientdb.schema;
+
+import org.junit.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * SchemaBootstrapReportTest
+ *
+ * Verifies the Bootstrap Report Recorded while Scanning the Example Model.
+ */
+public class SchemaBootstrapReportTest {
+
+    @Test
+    public void testReport() {
+        OrientSchemaEnforcer schemaEnforcer = ScannedModels.newSchemaEnforcer(
+                new MockEnvironment().withProperty("entity.package", ScannedModels.EXAMPLE_MODEL));
+        SchemaBootstrapReport report = schemaEnforcer.getBootstrapReport();
+        report.reset();
+        assertTrue(schemaEnforcer.scanSchema());
+        report.recordPhase(SchemaBootstrapReport.Phase.SCAN, TimeUnit.MILLISECONDS.toNanos(12), true);
+        report.recordClassChange("RootEntity", TimeUnit.MILLISECONDS.toNanos(5));
+        report.recordSchemaMutations(1);
+        report.recordRoundTrips(1);
+        report.recordIndex("RootEntity.uuid", "Definition", TimeUnit.MILLISECONDS.toNanos(40), true);
+        report.recordIndex("RootEntity.uuid", "REBUILD", TimeUnit.MILLISECONDS.toNanos(2), false);
+        report.complete();
+
+        /**
+         * Every Mapped Class Scanned is Reported.
+         */
+        assertTrue(report.getClassMs().containsKey("RootEntity"));
+        assertTrue(report.getClassMs().containsKey("CustomProperty"));
+        assertEquals(12.0, report.getPhaseMs().get(SchemaBootstrapReport.Phase.SCAN), 0.0001);
+        assertEquals(42.0, report.getIndexMs().get("RootEntity.uuid"), 0.0001);
+
+        String json = report.toJson();
+        assertTrue(json, json.startsWith("{\"totalMs\":"));
+        assertTrue(json, json.contains("\"schemaMutations\":1,\"roundTrips\":1"));
+        assertTrue(json, json.contains("{\"phase\":\"SCAN\",\"ms\":12.000,\"result\":true}"));
+        assertTrue(json, json.contains("\"index\":\"RootEntity.uuid\",\"definitionMs\":40.000,\"rebuildMs\":2.000," +
+                "\"successful\":false}"));
+        assertTrue(json, json.contains("\"changes\":1}"));
+    }
+}
@@ -0,0 +1,167 @@
+package jeffaschenk.orientdb.schema;
+
+import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.index.OIndexDefinition;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OSchema;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * SchemaDiffTest
+ *
+ * Verifies the In-Memory Schema Change Plan against an empty Persistent Store Schema.
+ */
+public class SchemaDiffTest {
+
+    private List<SchemaEntity> schemaEntities;
+
+    @Before
+    public void scanExampleModel() {
+        schemaEntities = ScannedModels.scan(ScannedModels.EXAMPLE_MODEL).getSchemaEntityDefinitions();
+    }
+
+    @Test
+    public void testEmptySchemaPlan() {
+        SchemaChangePlan plan = new SchemaDiff(mock(OSchema.class)).diffSchema(schemaEntities);
+        List<String> changes = new ArrayList<>();
+        for (SchemaChange schemaChange : plan.getChanges()) {
+            changes.add(schemaChange.toString());
+        }
+        assertEquals("CREATE CLASS V", changes.get(0));
+        assertEquals("CREATE CLASS E", changes.get(1));
+        assertTrue(changes.contains("CREATE CLASS RootEntity"));
+        assertTrue(changes.contains("ALTER CLASS RootEntity SUPERCLASS 'null' -> 'V'"));
+        assertTrue(changes.contains("ALTER CLASS CustomProperty SUPERCLASS 'null' -> 'RootEntity'"));
+        assertTrue(changes.contains("CREATE PROPERTY RootEntity.uuid STRING"));
+        assertTrue(changes.contains("ALTER PROPERTY RootEntity.uuid MANDATORY 'false' -> 'true'"));
+        assertTrue(changes.contains("CREATE PROPERTY CustomProperty.domainLocation EMBEDDEDMAP"));
+        assertFalse(changes.contains("CREATE PROPERTY RootEntity.resourceLink STRING"));
+        /**
+         * Classes must be Planned before any of their SubClasses.
+         */
+        assertTrue(changes.indexOf("CREATE CLASS RootEntity") < changes.indexOf("CREATE CLASS CustomProperty"));
+    }
+
+    @Test
+    public void testPropertyDescriptors() {
+        SchemaEntity rootEntity = null;
+        for (SchemaEntity schemaEntity : schemaEntities) {
+            if ("RootEntity".equals(schemaEntity.resolveName())) {
+                rootEntity = schemaEntity;
+            }
+        }
+        assertNotNull(rootEntity);
+        SchemaEntityProperty uuid = rootEntity.getProperty("uuid");
+        assertEquals(SchemaEntityProperty.PropertyKind.IDENTIFIER, uuid.getKind());
+        assertEquals(OType.STRING, uuid.getType());
+        assertEquals(OrientSchemaEnforcer.UUID_REGEXP, uuid.getRegex());
+        assertTrue(uuid.isIdentityProperty());
+        assertTrue(uuid.isMandatory());
+        assertEquals(OType.DATETIME, rootEntity.getProperty("createdByDate").getType());
+        assertEquals(1, rootEntity.getIndices().size());
+        assertEquals("RootEntity.uuid", rootEntity.getIndices().get(0).getName());
+    }
+
+    @Test
+    public void testEmptySchemaPlanScript() {
+        SchemaChangePlan plan = new SchemaDiff(mock(OSchema.class)).diffSchema(schemaEntities);
+        SchemaScriptBuilder scriptBuilder = new SchemaScriptBuilder();
+        for (SchemaChange schemaChange : plan.getChanges()) {
+            scriptBuilder.add(schemaChange);
+        }
+        String script = scriptBuilder.build();
+        assertEquals(plan.size(), scriptBuilder.size());
+        assertTrue(script.startsWith("CREATE CLASS V;\nCREATE CLASS E;\n"));
+        assertTrue(script.contains("ALTER CLASS CustomProperty SUPERCLASS RootEntity;\n"));
+        assertTrue(script.contains("CREATE PROPERTY RootEntity.uuid STRING;\n"));
+        assertTrue(script.contains("ALTER PROPERTY RootEntity.uuid REGEXP \"" +
+                OrientSchemaEnforcer.UUID_REGEXP + "\";\n"));
+    }
+
+    @Test
+    public void testEmptySchemaIndexPlan() {
+        SchemaChangePlan plan = new SchemaDiff(mock(OSchema.class)).diffIndexes(schemaEntities);
+        assertEquals(4, plan.size());
+        for (SchemaChange schemaChange : plan.getChanges()) {
+            assertEquals(SchemaChange.ChangeType.CREATE_INDEX, schemaChange.getChangeType());
+        }
+    }
+
+    @Test
+    public void testIncrementalPlan() {
+        Map<String, String> classes = SchemaFingerprint.computeClasses(schemaEntities);
+        Map<String, String> indexes = SchemaFingerprint.computeIndexes(schemaEntities);
+        assertTrue(classes.containsKey("CustomProperty"));
+        assertEquals(4, indexes.size());
+
+        /**
+         * Only the Class and Index whose Stored Fingerprint differs are Planned.
+         */
+        Map<String, String> storedClasses = new HashMap<>(classes);
+        storedClasses.put("CustomProperty", "changed");
+        Map<String, String> storedIndexes = new HashMap<>(indexes);
+        storedIndexes.remove("RootEntity.uuid");
+        Set<String> changedClasses = SchemaFingerprint.changed(classes, storedClasses);
+        Set<String> changedIndexes = SchemaFingerprint.changed(indexes, storedIndexes);
+        assertEquals(Collections.singleton("CustomProperty"), changedClasses);
+        assertEquals(Collections.singleton("RootEntity.uuid"), changedIndexes);
+
+        List<String> changes = new ArrayList<>();
+        for (SchemaChange schemaChange : new SchemaDiff(mock(OSchema.class))
+                .diffSchema(schemaEntities, changedClasses).getChanges()) {
+            changes.add(schemaChange.toString());
+        }
+        assertTrue(changes.contains("CREATE CLASS CustomProperty"));
+        assertTrue(changes.contains("ALTER CLASS CustomProperty SUPERCLASS 'null' -> 'RootEntity'"));
+        assertFalse(changes.contains("CREATE CLASS RootEntity"));
+        SchemaChangePlan indexPlan = new SchemaDiff(mock(OSchema.class)).diffIndexes(schemaEntities, changedIndexes);
+        assertEquals(1, indexPlan.size());
+        assertEquals("RootEntity.uuid", indexPlan.getChanges().get(0).getName());
+    }
+
+    @Test
+    public void testStructuredIndexPlan() {
+        List<SchemaEntity> cyclicEntities = ScannedModels.scan(ScannedModels.CYCLIC_MODEL).getSchemaEntityDefinitions();
+
+        SchemaChangePlan plan = new SchemaDiff(mock(OSchema.class)).diffIndexes(cyclicEntities);
+        assertEquals(1, plan.size());
+        SchemaChange createIndex = plan.getChanges().get(0);
+        assertEquals(SchemaChange.ChangeType.CREATE_INDEX, createIndex.getChangeType());
+        assertEquals("NOTUNIQUE_HASH_INDEX", createIndex.getAttribute());
+        assertEquals(Collections.singletonList("name"), createIndex.getIndexFields());
+        assertEquals("CREATE INDEX Party.name ON Party (name) NOTUNIQUE_HASH_INDEX", createIndex.getValue());
+
+        /**
+         * An existing Index upon the wrong Engine is Recreated, a matching Index is left alone.
+         */
+        OIndexDefinition definition = mock(OIndexDefinition.class);
+        when(definition.getFields()).thenReturn(Collections.singletonList("name"));
+        OIndex<?> oIndex = mock(OIndex.class);
+        when(oIndex.getType()).thenReturn("NOTUNIQUE");
+        when(oIndex.getAlgorithm()).thenReturn("SBTREE");
+        when(oIndex.getDefinition()).thenReturn(definition);
+        OClass party = mock(OClass.class);
+        doReturn(oIndex).when(party).getClassIndex("Party.name");
+        OSchema schema = mock(OSchema.class);
+        when(schema.getClass("Party")).thenReturn(party);
+        plan = new SchemaDiff(schema).diffIndexes(cyclicEntities);
+        assertEquals(1, plan.size());
+        assertEquals(SchemaChange.ChangeType.RECREATE_INDEX, plan.getChanges().get(0).getChangeType());
+        assertEquals("NOTUNIQUE SBTREE [name]", plan.getChanges().get(0).getPreviousValue());
+        assertFalse(SchemaScriptBuilder.isScriptable(plan.getChanges().get(0)));
+
+        when(oIndex.getType()).thenReturn("NOTUNIQUE_HASH_INDEX");
+        when(oIndex.getAlgorithm()).thenReturn("HASH_INDEX");
+        assertTrue(new SchemaDiff(schema).diffIndexes(cyclicEntities).isEmpty());
+    }
+
+}
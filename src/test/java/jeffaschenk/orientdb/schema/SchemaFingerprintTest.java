@@ -0,0 +1,131 @@
+package jeffaschenk.orientdb.schema;
+
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.sql.OCommandSQL;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * SchemaFingerprintTest
+ *
+ * Verifies the Schema Fingerprint is Stable across Scan Order, and Changes with a Property,
+ * an Index or the Fingerprint Version, and the Save and Compare of the Fingerprint.
+ */
+public class SchemaFingerprintTest {
+
+    @Test
+    public void testStableAcrossScanOrder() {
+        List<SchemaEntity> schemaEntities = ScannedModels.scan(ScannedModels.EXAMPLE_MODEL).getSchemaEntityDefinitions();
+        List<SchemaEntity> reversed = new ArrayList<>(schemaEntities);
+        Collections.reverse(reversed);
+
+        assertEquals(SchemaFingerprint.compute(schemaEntities), SchemaFingerprint.compute(reversed));
+        assertEquals(SchemaFingerprint.computeClasses(schemaEntities), SchemaFingerprint.computeClasses(reversed));
+        assertEquals(SchemaFingerprint.computeIndexes(schemaEntities), SchemaFingerprint.computeIndexes(reversed));
+    }
+
+    @Test
+    public void testPropertyChange() {
+        List<SchemaEntity> schemaEntities = ScannedModels.scan(ScannedModels.EXAMPLE_MODEL).getSchemaEntityDefinitions();
+        SchemaEntity schemaEntity = firstMapped(schemaEntities, false);
+        List<SchemaEntity> changed = replace(schemaEntities, schemaEntity, copyOf(schemaEntity, true, false));
+
+        assertNotEquals(SchemaFingerprint.compute(schemaEntities), SchemaFingerprint.compute(changed));
+        assertEquals(Collections.singleton(schemaEntity.resolveName()),
+                SchemaFingerprint.changed(SchemaFingerprint.computeClasses(changed),
+                        SchemaFingerprint.computeClasses(schemaEntities)));
+        assertEquals(SchemaFingerprint.computeIndexes(schemaEntities), SchemaFingerprint.computeIndexes(changed));
+    }
+
+    @Test
+    public void testIndexChange() {
+        List<SchemaEntity> schemaEntities = ScannedModels.scan(ScannedModels.EXAMPLE_MODEL).getSchemaEntityDefinitions();
+        SchemaEntity schemaEntity = firstMapped(schemaEntities, true);
+        List<SchemaEntity> changed = replace(schemaEntities, schemaEntity, copyOf(schemaEntity, false, true));
+
+        assertNotEquals(SchemaFingerprint.compute(schemaEntities), SchemaFingerprint.compute(changed));
+        assertEquals(SchemaFingerprint.computeClasses(schemaEntities), SchemaFingerprint.computeClasses(changed));
+        Set<String> droppedIndexes = SchemaFingerprint.computeIndexes(schemaEntities).keySet();
+        droppedIndexes.removeAll(SchemaFingerprint.computeIndexes(changed).keySet());
+        assertEquals(schemaEntity.getIndices().size(), droppedIndexes.size());
+    }
+
+    @Test
+    public void testVersionChange() {
+        List<SchemaEntity> schemaEntities = ScannedModels.scan(ScannedModels.EXAMPLE_MODEL).getSchemaEntityDefinitions();
+        assertEquals(SchemaFingerprint.compute(schemaEntities),
+                SchemaFingerprint.compute(schemaEntities, SchemaFingerprint.FINGERPRINT_VERSION));
+        assertNotEquals(SchemaFingerprint.compute(schemaEntities),
+                SchemaFingerprint.compute(schemaEntities, SchemaFingerprint.FINGERPRINT_VERSION + "-next"));
+    }
+
+    @Test
+    public void testSaveAndCompareUponMemoryDatabase() {
+        OrientSchemaEnforcer schemaEnforcer =
+                ScannedModels.scan(ScannedModels.EXAMPLE_MODEL);
+        ODatabaseDocumentTx db = new ODatabaseDocumentTx("memory:SchemaFingerprintTest").create();
+        try {
+            assertFalse(schemaEnforcer.isSchemaCurrent(db));
+            assertNull(ReflectionTestUtils.getField(schemaEnforcer, "changedClasses"));
+
+            assertTrue(schemaEnforcer.saveSchemaFingerprint(db));
+            assertTrue(schemaEnforcer.isSchemaCurrent(db));
+
+            /**
+             * A Stored Fingerprint which no longer matches limits Validation to the Changed Classes.
+             */
+            db.command(new OCommandSQL("UPDATE " +
+                    OrientSchemaEnforcer.SCHEMA_METADATA_CLASS + " SET " +
+                    OrientSchemaEnforcer.SCHEMA_METADATA_FINGERPRINT + " = 'stale'")).execute();
+            assertFalse(schemaEnforcer.isSchemaCurrent(db));
+            assertEquals(Collections.emptySet(), ReflectionTestUtils.getField(schemaEnforcer, "changedClasses"));
+            assertEquals(Collections.emptySet(), ReflectionTestUtils.getField(schemaEnforcer, "changedIndexes"));
+        } finally {
+            db.drop();
+        }
+    }
+
+    private static SchemaEntity firstMapped(List<SchemaEntity> schemaEntities, boolean indexed) {
+        for (SchemaEntity schemaEntity : schemaEntities) {
+            if (schemaEntity.isMappedEntity() && schemaEntity.getProperties().size() > 1 &&
+                    (!indexed || !schemaEntity.getIndices().isEmpty())) {
+                return schemaEntity;
+            }
+        }
+        throw new AssertionError("No Mapped Entity in the Example Model");
+    }
+
+    /**
+     * Copy a Schema Entity, less its last Property or its Indexes.
+     */
+    private static SchemaEntity copyOf(SchemaEntity schemaEntity, boolean dropProperty, boolean dropIndexes) {
+        SchemaEntity copy = new SchemaEntity(schemaEntity.getDependencyId(), schemaEntity.getEntityName(),
+                schemaEntity.getEntityClass());
+        copy.setMappedEntity(true);
+        copy.setAbstractClass(schemaEntity.isAbstractClass());
+        copy.setRootClass(schemaEntity.isRootClass());
+        copy.setGraphType(schemaEntity.getGraphType());
+        copy.setOverrideEntityName(schemaEntity.getOverrideEntityName());
+        copy.getInheritanceChain().addAll(schemaEntity.getInheritanceChain());
+        List<SchemaEntityProperty> properties = new ArrayList<>(schemaEntity.getProperties());
+        if (dropProperty) {
+            properties.remove(properties.size() - 1);
+        }
+        properties.forEach(copy::addProperty);
+        if (!dropIndexes) {
+            schemaEntity.getIndices().forEach(copy::addIndex);
+        }
+        return copy;
+    }
+
+    private static List<SchemaEntity> replace(List<SchemaEntity> schemaEntities, SchemaEntity original,
+                                              SchemaEntity replacement) {
+        List<SchemaEntity> replaced = new ArrayList<>(schemaEntities);
+        replaced.set(replaced.indexOf(original), replacement);
+        return replaced;
+    }
+}
@@ -0,0 +1,45 @@
+package jeffaschenk.orientdb.schema;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SchemaScanBenchmark
+ *
+ * Compares the Phase 1 Startup Cost of the Example Model using the Entity Index against the
+ * Classpath Scan. Each Fork Measures a single Scan in a fresh JVM, so Class Loading is Included.
+ *
+ * Run with: java -cp target/test-classes:target/classes:[test classpath] org.openjdk.jmh.Main SchemaScanBenchmark
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class SchemaScanBenchmark {
+
+    @Benchmark
+    public List<SchemaEntity> scanUsingEntityIndex() {
+        return ScannedModels.scan(new MockEnvironment()
+                .withProperty("entity.package", ScannedModels.EXAMPLE_MODEL))
+                .getSchemaEntityDefinitions();
+    }
+
+    @Benchmark
+    public List<SchemaEntity> scanUsingClasspath() {
+        return ScannedModels.scan(new MockEnvironment()
+                .withProperty("entity.package", ScannedModels.EXAMPLE_MODEL)
+                .withProperty("entity.index.enabled", "false"))
+                .getSchemaEntityDefinitions();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(SchemaScanBenchmark.class.getSimpleName()).build()).run();
+    }
+}
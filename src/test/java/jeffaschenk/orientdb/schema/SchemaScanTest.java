@@ -0,0 +1,129 @@
+package jeffaschenk.orientdb.schema;
+
+import jeffaschenk.orientdb.processor.ODBGraphObjectIndexProcessor;
+import jeffaschenk.orientdb.schema.composed.ComposedEntity;
+import jeffaschenk.orientdb.schema.cyclic.Address;
+import jeffaschenk.orientdb.schema.cyclic.Invoice;
+import jeffaschenk.orientdb.schema.cyclic.Party;
+import jeffaschenk.orientdb.schema.cyclic.Person;
+import org.junit.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.util.ReflectionUtils;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * SchemaScanTest
+ *
+ * Verifies the Parallel Classpath Scan of the Example Model finds the same Entities
+ * as the Entity Index, Entities Mapped through a Composed Annotation, and that neither
+ * Loads the Classes of the Package which are not Entities.
+ */
+public class SchemaScanTest {
+
+    @Test
+    public void testClasspathScanMatchesEntityIndex() {
+        List<String> indexed = scan(new MockEnvironment()
+                .withProperty("entity.package", ScannedModels.EXAMPLE_MODEL));
+        List<String> scanned = scan(new MockEnvironment()
+                .withProperty("entity.package", ScannedModels.EXAMPLE_MODEL)
+                .withProperty("entity.index.enabled", "false")
+                .withProperty("schema.scan.parallelism", "4"));
+        assertFalse(scanned.isEmpty());
+        assertEquals(new TreeSet<>(indexed), new TreeSet<>(scanned));
+        assertEquals(indexed.size(), scanned.size());
+        /**
+         * Serializers and Constants within the Package are not Entity Candidates.
+         */
+        for (String className : scanned) {
+            assertFalse(className, className.contains(".serialization."));
+            assertFalse(className, className.endsWith("CustomFieldConstants"));
+        }
+    }
+
+    private static List<String> scan(MockEnvironment environment) {
+        List<String> classNames = new ArrayList<>();
+        for (SchemaEntity schemaEntity : ScannedModels.scan(environment).getSchemaEntityDefinitions()) {
+            classNames.add(schemaEntity.getEntityClass().getName());
+        }
+        return classNames;
+    }
+
+    @Test
+    public void testComposedAnnotation() {
+        for (String indexEnabled : new String[]{"true", "false"}) {
+            List<SchemaEntity> schemaEntities = ScannedModels.scan(new MockEnvironment()
+                    .withProperty("entity.package", "jeffaschenk.orientdb.schema.composed")
+                    .withProperty("entity.index.enabled", indexEnabled)).getSchemaEntityDefinitions();
+            assertEquals(indexEnabled, 1, schemaEntities.size());
+            SchemaEntity schemaEntity = schemaEntities.get(0);
+            assertEquals(ComposedEntity.class, schemaEntity.getEntityClass());
+            assertTrue(schemaEntity.isMappedEntity());
+            assertTrue(schemaEntity.isRootClass());
+            assertEquals(1, schemaEntity.getProperties().size());
+        }
+    }
+
+    @Test
+    public void testNonEntityClassesNotLoaded() {
+        String composedPackage = "jeffaschenk.orientdb.schema.composed";
+        /**
+         * Named, not Referenced, so the Test itself does not Load the Helper.
+         */
+        String helperClassName = composedPackage + ".ComposedHelper";
+        for (String indexEnabled : new String[]{"true", "false"}) {
+            MockEnvironment environment = new MockEnvironment()
+                    .withProperty("entity.package", composedPackage)
+                    .withProperty("entity.index.enabled", indexEnabled);
+            if (Boolean.parseBoolean(indexEnabled)) {
+                assertEquals(Collections.singleton(ComposedEntity.class.getName()),
+                        ScannedModels.newSchemaEnforcer(environment).findIndexedCandidates(composedPackage));
+            }
+            ScannedModels.scan(environment);
+            assertTrue(indexEnabled, isLoaded(ComposedEntity.class.getName()));
+            assertFalse(indexEnabled, isLoaded(helperClassName));
+        }
+    }
+
+    private static boolean isLoaded(String className) {
+        Method findLoadedClass = ReflectionUtils.findMethod(ClassLoader.class, "findLoadedClass", String.class);
+        ReflectionUtils.makeAccessible(findLoadedClass);
+        return ReflectionUtils.invokeMethod(findLoadedClass, SchemaScanTest.class.getClassLoader(), className) != null;
+    }
+
+    @Test
+    public void testDependencyEntityIndexFallsBackToScan() throws Exception {
+        /**
+         * Only a Dependency ships an Entity Index, listing none of our Entities.
+         */
+        Path dependencyRoot = Files.createTempDirectory("dependency");
+        Path dependencyIndex = dependencyRoot.resolve(ODBGraphObjectIndexProcessor.ENTITY_INDEX_RESOURCE);
+        Files.createDirectories(dependencyIndex.getParent());
+        Files.write(dependencyIndex, Collections.singletonList("com.example.dependency.Entity"));
+        ClassLoader original = Thread.currentThread().getContextClassLoader();
+        Thread.currentThread().setContextClassLoader(new ClassLoader(original) {
+            @Override
+            public Enumeration<URL> getResources(String name) throws IOException {
+                if (name.equals(ODBGraphObjectIndexProcessor.ENTITY_INDEX_RESOURCE)) {
+                    return Collections.enumeration(Collections.singletonList(dependencyIndex.toUri().toURL()));
+                }
+                return super.getResources(name);
+            }
+        });
+        try {
+            List<String> scanned = scan(new MockEnvironment()
+                    .withProperty("entity.package", ScannedModels.CYCLIC_MODEL));
+            assertEquals(new TreeSet<>(Arrays.asList(Address.class.getName(), Invoice.class.getName(),
+                    Party.class.getName(), Person.class.getName())), new TreeSet<>(scanned));
+        } finally {
+            Thread.currentThread().setContextClassLoader(original);
+        }
+    }
+}
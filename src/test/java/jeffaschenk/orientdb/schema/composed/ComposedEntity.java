@@ -0,0 +1,22 @@
+package jeffaschenk.orientdb.schema.composed;
+
+import jeffaschenk.orientdb.annotations.ODBProperty;
+
+/**
+ * ComposedEntity
+ * Mapped through the Composed {@link ODBVertex} Annotation.
+ */
+@ODBVertex
+public class ComposedEntity {
+
+    @ODBProperty(type = ODBProperty.PropertyType.STRING)
+    private String name;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+}
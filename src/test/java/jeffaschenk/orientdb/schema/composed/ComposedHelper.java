@@ -0,0 +1,13 @@
+package jeffaschenk.orientdb.schema.composed;
+
+/**
+ * ComposedHelper
+ * Not an Entity, must not be Loaded by the Classpath Scan.
+ */
+public final class ComposedHelper {
+
+    public static final String NAME = "helper";
+
+    private ComposedHelper() {
+    }
+}
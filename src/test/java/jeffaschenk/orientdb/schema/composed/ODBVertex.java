@@ -0,0 +1,15 @@
+package jeffaschenk.orientdb.schema.composed;
+
+import jeffaschenk.orientdb.annotations.ODBGraphObject;
+
+import java.lang.annotation.*;
+
+/**
+ * ODBVertex
+ * Composed Annotation, Meta-Annotated as a Root Vertex Graph Object.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE })
+@ODBGraphObject(type = ODBGraphObject.ODBGraphObjectType.VERTEX, rootClass = true)
+public @interface ODBVertex {
+}
@@ -0,0 +1,15 @@
+package jeffaschenk.orientdb.schema.cyclic;
+
+import jeffaschenk.orientdb.annotations.ODBAssociation;
+import jeffaschenk.orientdb.annotations.ODBGraphObject;
+
+/**
+ * Address
+ * Links to {@link Party}.
+ */
+@ODBGraphObject(rootClass = true)
+public class Address {
+
+    @ODBAssociation(type = ODBAssociation.AssociationType.LINK, linkedClassName = "Party", fetchDepth = 2)
+    private Party party;
+}
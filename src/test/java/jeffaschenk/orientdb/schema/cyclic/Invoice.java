@@ -0,0 +1,15 @@
+package jeffaschenk.orientdb.schema.cyclic;
+
+import jeffaschenk.orientdb.annotations.ODBAssociation;
+import jeffaschenk.orientdb.annotations.ODBGraphObject;
+
+/**
+ * Invoice
+ * Links to {@link Person}.
+ */
+@ODBGraphObject(rootClass = true)
+public class Invoice {
+
+    @ODBAssociation(type = ODBAssociation.AssociationType.LINK, linkedClassName = "Person")
+    private Person person;
+}
@@ -0,0 +1,22 @@
+package jeffaschenk.orientdb.schema.cyclic;
+
+import jeffaschenk.orientdb.annotations.ODBAssociation;
+import jeffaschenk.orientdb.annotations.ODBGraphObject;
+import jeffaschenk.orientdb.annotations.ODBIndex;
+
+/**
+ * Party
+ * Links to {@link Address}, with a Structured Index.
+ */
+@ODBGraphObject(rootClass = true)
+@ODBIndex(name = "Party.name",
+        type = ODBIndex.IndexType.NOTEUNIQUE,
+        engineType = ODBIndex.EngineType.HASHINDEX,
+        properties = {"name"})
+public class Party {
+
+    private String name;
+
+    @ODBAssociation(type = ODBAssociation.AssociationType.LINK, linkedClassName = "Address", eager = true)
+    private Address address;
+}
@@ -0,0 +1,13 @@
+package jeffaschenk.orientdb.schema.cyclic;
+
+import jeffaschenk.orientdb.annotations.ODBProperty;
+
+/**
+ * Person
+ * Derived from {@link Party}.
+ */
+public class Person extends Party {
+
+    @ODBProperty(type = ODBProperty.PropertyType.STRING)
+    private String name;
+}